@@ -0,0 +1,60 @@
+package br.com.ecommerce.cart.api.amqp;
+
+import org.springframework.amqp.core.AnonymousQueue;
+import org.springframework.amqp.core.Binding;
+import org.springframework.amqp.core.BindingBuilder;
+import org.springframework.amqp.core.ExchangeBuilder;
+import org.springframework.amqp.core.FanoutExchange;
+import org.springframework.amqp.core.Queue;
+import org.springframework.amqp.rabbit.connection.ConnectionFactory;
+import org.springframework.amqp.rabbit.core.RabbitAdmin;
+import org.springframework.amqp.support.converter.Jackson2JsonMessageConverter;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+
+@Configuration
+@Profile("!test")
+public class CartAMQPConfig {
+
+	@Bean
+	RabbitAdmin createRabbitAdmin(ConnectionFactory conn) {
+		return new RabbitAdmin(conn);
+	}
+
+	@Bean
+	ApplicationListener<ApplicationReadyEvent> initializeRabbitadmin(RabbitAdmin admin) {
+		return event -> admin.initialize();
+	}
+
+	@Bean
+	Jackson2JsonMessageConverter messageConverter() {
+		return new Jackson2JsonMessageConverter();
+	}
+
+	// Receiver configs
+	@Configuration
+	static class Receiver {
+
+		@Bean
+		FanoutExchange discoverExchangeProductChanges() {
+			return ExchangeBuilder.fanoutExchange("products.changes.ex").build();
+		}
+
+		/**
+		 * Every instance keeps its own product cache, so each one needs its own queue, removed when the
+		 * instance disconnects.
+		 */
+		@Bean
+		Queue queueProductChanges() {
+			return new AnonymousQueue();
+		}
+
+		@Bean
+		Binding bindProductChanges() {
+			return BindingBuilder.bind(this.queueProductChanges()).to(this.discoverExchangeProductChanges());
+		}
+	}
+}
\ No newline at end of file
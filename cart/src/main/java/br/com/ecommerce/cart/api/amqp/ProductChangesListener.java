@@ -0,0 +1,25 @@
+package br.com.ecommerce.cart.api.amqp;
+
+import java.util.List;
+
+import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import org.springframework.context.annotation.Profile;
+import org.springframework.messaging.handler.annotation.Payload;
+import org.springframework.stereotype.Component;
+
+import br.com.ecommerce.cart.infra.cache.ProductDataCache;
+import lombok.AllArgsConstructor;
+
+@AllArgsConstructor
+@Component
+@Profile("!test")
+public class ProductChangesListener {
+
+	private final ProductDataCache cache;
+
+
+	@RabbitListener(queues = "#{queueProductChanges.name}")
+	public void receiveProductChanges(@Payload List<Long> productIds) {
+		cache.invalidateAll(productIds.stream().map(String::valueOf).toList());
+	}
+}
\ No newline at end of file
@@ -28,4 +28,9 @@ public interface ProductClient {
 		value = "/internal/products/exists/{productId}",
 		headers = {"Content-Type: application/json"})
 	ResponseEntity<Void> existsProduct(@PathVariable("productId") String productId);
+
+	@GetMapping(
+		value = "/internal/products/exists",
+		headers = {"Content-Type: application/json"})
+	Set<String> getMissingProducts(@RequestParam("productIds") Set<String> productIds);
 }
\ No newline at end of file
@@ -1,7 +1,10 @@
 package br.com.ecommerce.cart.api.controller;
 
+import java.util.List;
+
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
@@ -59,4 +62,13 @@ public class AnonymousCartController implements IAnonymousCartController {
         Cart cart = this.service.changeProductUnit(userId, requestBody);
         return ResponseEntity.ok(cartViewModel.getCartData(cart));
     }
+
+    @PatchMapping("/lines")
+    public ResponseEntity<CartDTO> updateUnits(
+        @RequestHeader(name = "X-anon-cart-id") String userId,
+        @RequestBody List<UpdateCartProductDTO> requestBody
+    ) {
+        Cart cart = this.service.changeProductUnits(userId, requestBody);
+        return ResponseEntity.ok(cartViewModel.getCartData(cart));
+    }
 }
\ No newline at end of file
@@ -1,8 +1,11 @@
 package br.com.ecommerce.cart.api.controller;
 
+import java.util.List;
+
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
@@ -69,4 +72,13 @@ public class ClientCartController implements IClientCartController {
         Cart cart = this.service.changeProductUnit(user.getId(), requestBody);
         return ResponseEntity.ok(this.cartViewModel.getCartData(cart));
     }
+
+    @PatchMapping("/lines")
+    public ResponseEntity<CartDTO> updateUnits(
+        @AuthenticationPrincipal UserDetailsImpl user,
+        @RequestBody List<UpdateCartProductDTO> requestBody
+    ) {
+        Cart cart = this.service.changeProductUnits(user.getId(), requestBody);
+        return ResponseEntity.ok(this.cartViewModel.getCartData(cart));
+    }
 }
\ No newline at end of file
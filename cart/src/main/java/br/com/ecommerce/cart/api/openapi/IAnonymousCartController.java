@@ -1,5 +1,7 @@
 package br.com.ecommerce.cart.api.openapi;
 
+import java.util.List;
+
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestHeader;
@@ -16,6 +18,8 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
 
 @Tag(
     name = "anonymous-cart-controller",
@@ -139,4 +143,42 @@ public interface IAnonymousCartController {
         @RequestHeader(name = "X-anon-cart-id") String anonCartId,
         @RequestBody @Valid UpdateCartProductDTO requestBody
     );
+
+    @Operation(
+        summary = "Manage many cart products",
+        description = 
+            """
+            Changes the quantities of many products of an anonymous cart at once, as the single product endpoint does for each one.
+
+            - **All or nothing**: If any product does not exist, the cart is not changed.
+            - **Repeated products**: Quantities sent for the same product are summed.
+            - **Limit**: Up to 100 products per request.
+
+            The cart is identified by the 'X-anon-cart-id' header, which is mandatory for accessing this endpoint.
+            """,
+        responses = {
+            @ApiResponse(
+                description = "Empty fields or more than 100 products", 
+                responseCode = "400",
+                content = @Content(
+                    mediaType = "application/json",
+                    schema = @Schema(implementation = ResponseError.class)
+            )), 
+            @ApiResponse(
+                description = "Product or cart not found", 
+                responseCode = "404",
+                content = @Content(
+                    mediaType = "application/json",
+                    schema = @Schema(implementation = ResponseErrorWithoutMessage.class)
+            )), 
+        })
+    ResponseEntity<CartDTO> updateUnits(
+        @Parameter(
+            name = "X-anon-cart-id", 
+            description = "Anonymous cart ID.",
+            required = true,
+            schema = @Schema(type = "string"))
+        @RequestHeader(name = "X-anon-cart-id") String anonCartId,
+        @RequestBody @Valid @NotEmpty @Size(max = 100) List<UpdateCartProductDTO> requestBody
+    );
 }
\ No newline at end of file
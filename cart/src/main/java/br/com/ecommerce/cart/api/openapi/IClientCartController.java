@@ -1,5 +1,7 @@
 package br.com.ecommerce.cart.api.openapi;
 
+import java.util.List;
+
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.RequestBody;
@@ -18,6 +20,8 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
 
 @Tag(
     name = "client-cart-controller", 
@@ -155,4 +159,35 @@ public interface IClientCartController {
         @AuthenticationPrincipal UserDetailsImpl user,
         @RequestBody @Valid UpdateCartProductDTO requestBody
     );
+
+    @Operation(
+        summary = "Manage many products in cart",
+        description = 
+            """
+            Changes the quantities of many products of the cart at once, as the single product endpoint does for each one.
+    
+            - **All or nothing**: If any product does not exist, the cart is not changed.
+            - **Repeated products**: Quantities sent for the same product are summed.
+            - **Limit**: Up to 100 products per request.
+            """,
+        responses = {
+            @ApiResponse(
+                description = "Empty fields or more than 100 products", 
+                responseCode = "400",
+                content = @Content(
+                    mediaType = "application/json",
+                    schema = @Schema(implementation = ResponseError.class)
+            )), 
+            @ApiResponse(
+                description = "Product or cart not found", 
+                responseCode = "404",
+                content = @Content(
+                    mediaType = "application/json",
+                    schema = @Schema(implementation = ResponseErrorWithoutMessage.class)
+            )), 
+        })
+    ResponseEntity<CartDTO> updateUnits(
+        @AuthenticationPrincipal UserDetailsImpl user,
+        @RequestBody @Valid @NotEmpty @Size(max = 100) List<UpdateCartProductDTO> requestBody
+    );
 }
\ No newline at end of file
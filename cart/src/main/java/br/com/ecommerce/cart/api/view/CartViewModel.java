@@ -15,6 +15,7 @@ import br.com.ecommerce.cart.api.dto.product.InternalProductDataDTO;
 import br.com.ecommerce.cart.api.dto.product.ProductDTO;
 import br.com.ecommerce.cart.api.mapper.CartMapper;
 import br.com.ecommerce.cart.api.mapper.ProductMapper;
+import br.com.ecommerce.cart.infra.cache.ProductDataCache;
 import br.com.ecommerce.cart.infra.entity.Cart;
 import br.com.ecommerce.cart.infra.entity.Product;
 import lombok.AllArgsConstructor;
@@ -26,6 +27,7 @@ import lombok.extern.slf4j.Slf4j;
 public class CartViewModel {
 
 	private final ProductClient productClient;
+	private final ProductDataCache productCache;
 	private final ProductMapper productMapper;
 	private final CartMapper cartMapper;
 
@@ -39,7 +41,7 @@ public class CartViewModel {
 		if (products.isEmpty()) return Collections.emptyList();
 
 		Set<String> productIds = products.stream().map(Product::getId).collect(Collectors.toSet());
-		Map<String, InternalProductDataDTO> productMap = this.productClient.getPrices(productIds);
+		Map<String, InternalProductDataDTO> productMap = this.productCache.getAll(productIds, this.productClient::getPrices);
 		log.debug("CART VIEW MODEL: {}", productMap);
 
 		return products.stream()
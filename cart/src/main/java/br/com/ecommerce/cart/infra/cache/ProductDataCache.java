@@ -0,0 +1,51 @@
+package br.com.ecommerce.cart.infra.cache;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import br.com.ecommerce.cart.api.dto.product.InternalProductDataDTO;
+
+/**
+ * Name, price and image of the products shown in carts, by product id. Entries are dropped when products
+ * announces a change, and expire after {@code ttl-seconds} in case an announcement is lost.
+ */
+@Component
+public class ProductDataCache {
+
+    private final Cache<String, InternalProductDataDTO> cache;
+
+
+    public ProductDataCache(
+        @Value("${api.cache.products.maximum-size:10000}") long maximumSize,
+        @Value("${api.cache.products.ttl-seconds:60}") long ttlSeconds
+    ) {
+        this.cache = Caffeine.newBuilder()
+            .maximumSize(maximumSize)
+            .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+            .build();
+    }
+
+    /**
+     * Returns the cached products and loads the missing ones with a single call to the loader. Products
+     * the loader does not return are left out.
+     */
+    public Map<String, InternalProductDataDTO> getAll(
+        Set<String> productIds,
+        Function<Set<String>, Map<String, InternalProductDataDTO>> loader
+    ) {
+        return cache.getAll(productIds, missing -> loader.apply(Set.copyOf(missing)));
+    }
+
+    public void invalidateAll(Collection<String> productIds) {
+        cache.invalidateAll(productIds);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,27 @@
+package br.com.ecommerce.cart.infra.config;
+
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import br.com.ecommerce.cart.service.AnonymousCartExpiryService;
+import lombok.AllArgsConstructor;
+
+@Component
+@EnableScheduling
+@AllArgsConstructor
+public class SchedulerConfig {
+
+    private final AnonymousCartExpiryService expiryService;
+
+
+    @Scheduled(fixedDelayString = "${api.carts.anonymous.sweep-millis:3600000}")
+    private void sweepLegacyAnonymousCarts() {
+        this.expiryService.sweepLegacyCarts();
+    }
+
+    @Scheduled(fixedDelayString = "${api.carts.anonymous.count-millis:60000}")
+    private void refreshAnonymousCartCount() {
+        this.expiryService.refreshAnonymousCartCount();
+    }
+}
\ No newline at end of file
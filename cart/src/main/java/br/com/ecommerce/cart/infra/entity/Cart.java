@@ -1,18 +1,33 @@
 package br.com.ecommerce.cart.infra.entity;
 
 import java.time.LocalDateTime;
-import java.util.HashSet;
+import java.util.AbstractSet;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
 
 import org.springframework.data.annotation.Id;
+import org.springframework.data.annotation.PersistenceCreator;
+import org.springframework.data.annotation.Transient;
 import org.springframework.data.mongodb.core.mapping.Document;
 
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.ToString;
 
+/**
+ * Lines are kept by product id, so finding, adding or removing a line does not depend on the size of the
+ * cart. They are still stored as the array of products carts always had, which the atomic line updates of
+ * the repository rely on.
+ */
 @Document
 @Getter
 @ToString
@@ -21,7 +36,12 @@ public class Cart {
 
     @Id
     private String id;
-    private Set<Product> products = new HashSet<>();
+    @Transient
+    @ToString.Exclude
+    @Getter(AccessLevel.NONE)
+    private final Map<String, Product> lines = new LinkedHashMap<>();
+    @Getter(AccessLevel.NONE)
+    private final Collection<Product> products = lines.values();
     private boolean isAnon;
     private LocalDateTime createdAt;
     private LocalDateTime modifiedAt;
@@ -41,32 +61,53 @@ public class Cart {
         this.addProduct(product);
     }
 
+    /**
+     * Reads stored carts, merging repeated lines of a product and skipping lines without units, which
+     * older documents may hold.
+     */
+    @PersistenceCreator
+    Cart(String id, Collection<Product> products, boolean isAnon, LocalDateTime createdAt, LocalDateTime modifiedAt) {
+        this.id = id;
+        this.isAnon = isAnon;
+        this.createdAt = createdAt;
+        this.modifiedAt = modifiedAt;
+        Optional.ofNullable(products).orElse(List.of()).stream()
+            .filter(Objects::nonNull)
+            .filter(product -> product.getUnit() != null && product.getUnit() > 0)
+            .forEach(product -> this.lines.merge(product.getId(), product, Cart::sumUnits));
+    }
+
+
+    public Set<Product> getProducts() {
+        return Collections.unmodifiableSet(new Lines());
+    }
+
+    public Optional<Product> getProduct(String productId) {
+        return Optional.ofNullable(this.lines.get(productId));
+    }
 
     public void addProduct(Product product) {
-        if (this.products.contains(product)) {
-            this.products.stream()
-                .filter(p -> p.equals(product))
-                .findFirst().get()
-                .addUnit(product.getUnit());
-            this.updateModifiedAt();
-            return;
-        }
-        this.products.add(product);
+        this.lines.merge(product.getId(), product, Cart::sumUnits);
         this.updateModifiedAt();
     }
-    
+
     public void addProducts(Set<Product> products) {
         Optional.ofNullable(products)
             .filter(set -> !set.isEmpty())
-            .ifPresent(set -> this.products.addAll(products));
+            .ifPresent(set -> set.forEach(product -> this.lines.putIfAbsent(product.getId(), product)));
         this.updateModifiedAt();
     }
 
     public void removeProduct(Product product) {
-        this.products.remove(product);
+        this.lines.remove(product.getId());
         this.updateModifiedAt();
     }
 
+    private static Product sumUnits(Product current, Product added) {
+        current.addUnit(added.getUnit());
+        return current;
+    }
+
     private void updateModifiedAt() {
         this.modifiedAt = LocalDateTime.now();
     }
@@ -75,4 +116,25 @@ public class Cart {
         return Optional.ofNullable(userId)
             .orElseThrow(() -> new IllegalArgumentException("Cart ID cannot be null"));
     }
+
+    /**
+     * The lines seen as a set of products, answering {@code contains} by product id.
+     */
+    private class Lines extends AbstractSet<Product> {
+
+        @Override
+        public Iterator<Product> iterator() {
+            return lines.values().iterator();
+        }
+
+        @Override
+        public int size() {
+            return lines.size();
+        }
+
+        @Override
+        public boolean contains(Object o) {
+            return o instanceof Product product && lines.containsKey(product.getId());
+        }
+    }
 }
\ No newline at end of file
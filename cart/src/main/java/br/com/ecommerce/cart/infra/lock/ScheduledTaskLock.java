@@ -0,0 +1,62 @@
+package br.com.ecommerce.cart.infra.lock;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.UUID;
+
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Component;
+
+/**
+ * Leases kept in Mongo, so a scheduled task runs on one instance at a time. The instance holding a lease
+ * renews it on every run and keeps it; the others take over once it goes {@code lease} without renewal.
+ * Tasks meant to run only once can also be marked as completed.
+ */
+@Component
+public class ScheduledTaskLock {
+
+    public static final String COLLECTION = "scheduled_tasks";
+
+    private final MongoTemplate mongoTemplate;
+    private final String owner = UUID.randomUUID().toString();
+
+
+    public ScheduledTaskLock(MongoTemplate mongoTemplate) {
+        this.mongoTemplate = mongoTemplate;
+    }
+
+    /**
+     * Takes or renews the lease of the task. The upsert inserts the task document when it does not exist
+     * yet and fails with a duplicate key when another instance holds an unexpired lease.
+     */
+    public boolean tryAcquire(String task, Duration lease) {
+        Instant now = Instant.now();
+        Query free = Query.query(Criteria.where("_id").is(task).orOperator(
+            Criteria.where("lockedUntil").lte(now),
+            Criteria.where("owner").is(owner)));
+        Update take = new Update()
+            .set("lockedUntil", now.plus(lease))
+            .set("owner", owner);
+
+        try {
+            mongoTemplate.upsert(free, take, COLLECTION);
+            return true;
+        } catch (DuplicateKeyException ex) {
+            return false;
+        }
+    }
+
+    public boolean isCompleted(String task) {
+        return mongoTemplate.exists(
+            Query.query(Criteria.where("_id").is(task).and("completedAt").exists(true)), COLLECTION);
+    }
+
+    public void complete(String task) {
+        mongoTemplate.upsert(
+            Query.query(Criteria.where("_id").is(task)), new Update().set("completedAt", Instant.now()), COLLECTION);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,24 @@
+package br.com.ecommerce.cart.infra.repository;
+
+import java.util.Map;
+
+import br.com.ecommerce.cart.infra.entity.Cart;
+
+public interface CartLineRepository {
+
+    /**
+     * Adds {@code unit} to the product line of the cart in a single atomic update: creates the line when
+     * it does not exist and {@code unit} is positive, and removes it when its units drop to zero or below.
+     *
+     * @return the updated cart, or null if the cart does not exist
+     */
+    Cart addProductUnit(String cartId, String productId, Integer unit);
+
+    /**
+     * Adds the units of each product to its line, as {@link #addProductUnit} does, all in a single atomic
+     * update of the cart.
+     *
+     * @return the updated cart, or null if the cart does not exist
+     */
+    Cart addProductUnits(String cartId, Map<String, Integer> units);
+}
\ No newline at end of file
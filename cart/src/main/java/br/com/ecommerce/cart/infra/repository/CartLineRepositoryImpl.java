@@ -0,0 +1,86 @@
+package br.com.ecommerce.cart.infra.repository;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.bson.Document;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.AggregationOperation;
+import org.springframework.data.mongodb.core.aggregation.AggregationUpdate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+
+import br.com.ecommerce.cart.infra.entity.Cart;
+import br.com.ecommerce.cart.infra.entity.Product;
+import lombok.AllArgsConstructor;
+
+/**
+ * Line updates run as an update pipeline, so finding the lines, changing their units and creating or
+ * removing them happen in one findAndModify, without reading the cart first.
+ */
+@AllArgsConstructor
+class CartLineRepositoryImpl implements CartLineRepository {
+
+    private final MongoTemplate mongoTemplate;
+
+
+    @Override
+    public Cart addProductUnit(String cartId, String productId, Integer unit) {
+        return this.addProductUnits(cartId, Map.of(productId, unit));
+    }
+
+    @Override
+    public Cart addProductUnits(String cartId, Map<String, Integer> units) {
+        String idField = this.productIdField();
+        List<AggregationOperation> stages = new ArrayList<>();
+        units.forEach((productId, unit) -> stages.add(context -> new Document("$set",
+            new Document("products", changeLine(idField, productId, unit)))));
+        stages.add(context -> new Document("$set", new Document("modifiedAt", "$$NOW")));
+
+        return mongoTemplate.findAndModify(
+            Query.query(Criteria.where("id").is(cartId)),
+            AggregationUpdate.from(stages),
+            FindAndModifyOptions.options().returnNew(true),
+            Cart.class);
+    }
+
+    /**
+     * Expression of the lines after adding {@code unit} to the line of the product. Each line gets its own
+     * stage of the pipeline, which sees the lines left by the previous stages.
+     */
+    private static Document changeLine(String idField, String productId, Integer unit) {
+        Document products = new Document("$ifNull", List.of("$products", List.of()));
+
+        Document changedLine = new Document("$mergeObjects", List.of(
+            "$$this",
+            new Document("unit", new Document("$add", List.of("$$this.unit", unit)))));
+        Document changedLines = new Document("$map", new Document("input", products)
+            .append("in", new Document("$cond", List.of(
+                new Document("$eq", List.of("$$this." + idField, productId)),
+                changedLine,
+                "$$this"))));
+        Document remainingLines = new Document("$filter", new Document("input", changedLines)
+            .append("cond", new Document("$gt", List.of("$$this.unit", 0))));
+
+        Object linesWithNew = unit > 0
+            ? new Document("$concatArrays", List.of(products, List.of(new Document(idField, productId).append("unit", unit))))
+            : products;
+        Document hasLine = new Document("$in", List.of(
+            productId,
+            new Document("$ifNull", List.of("$products." + idField, List.of()))));
+
+        return new Document("$cond", List.of(hasLine, remainingLines, linesWithNew));
+    }
+
+    /**
+     * Name of the product id field inside the cart document, as written by the mapping of {@link Product}.
+     */
+    private String productIdField() {
+        return mongoTemplate.getConverter().getMappingContext()
+            .getRequiredPersistentEntity(Product.class)
+            .getRequiredPersistentProperty("id")
+            .getFieldName();
+    }
+}
\ No newline at end of file
@@ -4,5 +4,5 @@ import org.springframework.data.mongodb.repository.MongoRepository;
 
 import br.com.ecommerce.cart.infra.entity.Cart;
 
-public interface CartRepository extends MongoRepository<Cart, String> {
+public interface CartRepository extends MongoRepository<Cart, String>, CartLineRepository {
 }
\ No newline at end of file
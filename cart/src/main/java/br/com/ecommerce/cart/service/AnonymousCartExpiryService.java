@@ -0,0 +1,161 @@
+package br.com.ecommerce.cart.service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.bson.Document;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.Index;
+import org.springframework.data.mongodb.core.index.IndexOperations;
+import org.springframework.data.mongodb.core.index.PartialIndexFilter;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.stereotype.Service;
+
+import br.com.ecommerce.cart.infra.entity.Cart;
+import br.com.ecommerce.cart.infra.lock.ScheduledTaskLock;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Anonymous carts expire once they go {@code ttl-days} without changes. Mongo deletes them through a TTL
+ * index on {@code modifiedAt}, restricted to anonymous carts; the sweep deletes the old ones the index
+ * cannot see, whose {@code modifiedAt} is missing or not a date.
+ * <p>
+ * Every cart this service writes has a {@code modifiedAt} date, so those carts all predate the TTL index:
+ * the sweep runs until the last of them is deleted and is then marked as completed for good. The sweep and
+ * the count behind the {@code carts.anonymous} gauge scan only the TTL index, which holds only anonymous
+ * carts, and each runs on a single instance; the other instances report the gauge as NaN.
+ */
+@Slf4j
+@Service
+public class AnonymousCartExpiryService {
+
+    private static final String TTL_INDEX = "anonymous_cart_ttl";
+    private static final String SWEEP_TASK = "anonymous-cart-legacy-sweep";
+    private static final String COUNT_TASK = "anonymous-cart-count";
+    private static final int BSON_DATE = 9;
+
+    private final MongoTemplate mongoTemplate;
+    private final ScheduledTaskLock taskLock;
+    private final Duration ttl;
+    private final int sweepBatchSize;
+    private final Duration sweepLease;
+    private final Duration countLease;
+    private final Counter swept;
+    private volatile double anonymousCarts = Double.NaN;
+    private volatile boolean ttlIndexReady;
+    private volatile boolean legacySwept;
+
+
+    public AnonymousCartExpiryService(
+        MongoTemplate mongoTemplate,
+        ScheduledTaskLock taskLock,
+        MeterRegistry registry,
+        @Value("${api.carts.anonymous.ttl-days:7}") long ttlDays,
+        @Value("${api.carts.anonymous.sweep-batch-size:500}") int sweepBatchSize,
+        @Value("${api.carts.anonymous.sweep-millis:3600000}") long sweepMillis,
+        @Value("${api.carts.anonymous.count-millis:60000}") long countMillis
+    ) {
+        this.mongoTemplate = mongoTemplate;
+        this.taskLock = taskLock;
+        this.ttl = Duration.ofDays(ttlDays);
+        this.sweepBatchSize = sweepBatchSize;
+        this.sweepLease = Duration.ofMillis(sweepMillis * 2);
+        this.countLease = Duration.ofMillis(countMillis * 2);
+        this.swept = registry.counter("carts.anonymous.swept");
+        Gauge.builder("carts.anonymous", this, service -> service.anonymousCarts).register(registry);
+    }
+
+    /**
+     * Creates the TTL index, or changes its expiration when the index already exists, since Mongo refuses
+     * to create an index again with other options.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void ensureTtlIndex() {
+        IndexOperations indexOps = mongoTemplate.indexOps(Cart.class);
+        boolean exists = indexOps.getIndexInfo().stream().anyMatch(index -> TTL_INDEX.equals(index.getName()));
+
+        if (exists) {
+            mongoTemplate.executeCommand(new Document("collMod", mongoTemplate.getCollectionName(Cart.class))
+                .append("index", new Document("name", TTL_INDEX).append("expireAfterSeconds", ttl.toSeconds())));
+        } else {
+            indexOps.ensureIndex(new Index()
+                .on("modifiedAt", Sort.Direction.ASC)
+                .named(TTL_INDEX)
+                .expire(ttl)
+                .partial(PartialIndexFilter.of(Criteria.where("isAnon").is(true))));
+        }
+        ttlIndexReady = true;
+        log.info("Anonymous carts expire after {} days without changes", ttl.toDays());
+    }
+
+    /**
+     * Deletes the anonymous carts the TTL index cannot expire, aged by {@code createdAt}, in batches of
+     * {@code sweep-batch-size}. The sweep is marked as completed once no such cart is left, young or old.
+     */
+    public long sweepLegacyCarts() {
+        if (legacySwept || !ttlIndexReady || !taskLock.tryAcquire(SWEEP_TASK, sweepLease)) return 0;
+        if (taskLock.isCompleted(SWEEP_TASK)) {
+            legacySwept = true;
+            return 0;
+        }
+
+        Criteria expired = new Criteria().orOperator(
+            Criteria.where("createdAt").not().type(BSON_DATE),
+            Criteria.where("createdAt").lt(LocalDateTime.now().minus(ttl)));
+        long deleted = 0;
+        List<Object> ids;
+        do {
+            ids = this.findLegacyCartIds(expired, sweepBatchSize);
+            if (!ids.isEmpty()) {
+                deleted += mongoTemplate.remove(Query.query(Criteria.where("_id").in(ids)), Cart.class)
+                    .getDeletedCount();
+            }
+        } while (ids.size() == sweepBatchSize);
+        swept.increment(deleted);
+
+        if (this.findLegacyCartIds(new Criteria(), 1).isEmpty()) {
+            taskLock.complete(SWEEP_TASK);
+            legacySwept = true;
+        }
+        if (deleted > 0) log.info("Legacy anonymous carts swept: {}", deleted);
+        return deleted;
+    }
+
+    /**
+     * Counts the anonymous carts for the {@code carts.anonymous} gauge, on the instance holding the count
+     * lease only.
+     */
+    public void refreshAnonymousCartCount() {
+        if (!ttlIndexReady) return;
+        if (!taskLock.tryAcquire(COUNT_TASK, countLease)) {
+            anonymousCarts = Double.NaN;
+            return;
+        }
+
+        Query anonymous = Query.query(Criteria.where("isAnon").is(true)).withHint(TTL_INDEX);
+        anonymousCarts = mongoTemplate.count(anonymous, Cart.class);
+    }
+
+    private List<Object> findLegacyCartIds(Criteria age, int limit) {
+        Query legacy = Query.query(new Criteria().andOperator(
+                Criteria.where("isAnon").is(true),
+                Criteria.where("modifiedAt").not().type(BSON_DATE),
+                age))
+            .withHint(TTL_INDEX)
+            .limit(limit);
+        legacy.fields().include("_id");
+
+        return mongoTemplate.find(legacy, Document.class, mongoTemplate.getCollectionName(Cart.class)).stream()
+            .map(cart -> cart.get("_id"))
+            .toList();
+    }
+}
\ No newline at end of file
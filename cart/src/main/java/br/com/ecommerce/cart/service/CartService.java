@@ -2,6 +2,10 @@ package br.com.ecommerce.cart.service;
 
 import java.math.BigDecimal;
 import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
 
@@ -75,21 +79,24 @@ public class CartService {
     @Transactional
     public Cart changeProductUnit(String userId, UpdateCartProductDTO update) {
         this.existsProduct(update.getId());
-        return cartRespository.findById(userId)
-            .map(cart -> cart.getProducts().stream()
-                .filter(product -> product.getId().equals(update.getId()))
-                .findFirst()
-                .map(product -> {
-                    boolean isZero = (product.getUnit() + update.getUnit()) <= 0;
-                    if (isZero) cart.removeProduct(product);
-                    if (!isZero) product.addUnit(update.getUnit());
-                    return cartRespository.save(cart);
-                })
-                .orElseGet(() -> {
-                    Product completeProduct = productMapper.toProduct(update);
-                    cart.addProduct(completeProduct);
-                    return cartRespository.save(cart);
-                }))
+        return Optional.ofNullable(cartRespository.addProductUnit(userId, update.getId(), update.getUnit()))
+            .orElseThrow(CartNotFoundException::new);
+    }
+
+    /**
+     * Applies every update to the cart in a single atomic update, after checking all products in a single
+     * call. Updates of the same product are summed.
+     */
+    @Transactional
+    public Cart changeProductUnits(String userId, List<UpdateCartProductDTO> updates) {
+        Map<String, Integer> units = updates.stream()
+            .collect(Collectors.toMap(
+                UpdateCartProductDTO::getId,
+                UpdateCartProductDTO::getUnit,
+                Integer::sum,
+                LinkedHashMap::new));
+        this.existsProducts(units.keySet());
+        return Optional.ofNullable(cartRespository.addProductUnits(userId, units))
             .orElseThrow(CartNotFoundException::new);
     }
 
@@ -106,8 +113,9 @@ public class CartService {
         if (cart.getProducts().isEmpty()) throw new EmptyCartException();
 
         // select products for order
-        Set<Product> chosenProducts = cart.getProducts().stream()
-            .filter(product -> productIds.stream().anyMatch(choice -> choice.equalsIgnoreCase(product.getId())))
+        Set<Product> chosenProducts = productIds.stream()
+            .map(cart::getProduct)
+            .flatMap(Optional::stream)
             .collect(Collectors.toSet());
         if (chosenProducts.isEmpty()) throw new IllegalArgumentException("Product does not belong to the cart");
         return chosenProducts;
@@ -131,4 +139,16 @@ public class CartService {
                 throw new RuntimeException("Communication error with product service");
         }
     }
+
+    public void existsProducts(Set<String> productIds) {
+        Set<String> missing;
+        try {
+            missing = productClient.getMissingProducts(productIds);
+
+        } catch (FeignException e) {
+            log.debug("-- EXISTS PRODUCTS CATCH --");
+            throw new RuntimeException("Communication error with product service");
+        }
+        if (!missing.isEmpty()) throw new ProductNotFoundException();
+    }
 }
\ No newline at end of file
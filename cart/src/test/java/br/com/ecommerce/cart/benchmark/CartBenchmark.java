@@ -0,0 +1,80 @@
+package br.com.ecommerce.cart.benchmark;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import br.com.ecommerce.cart.infra.entity.Cart;
+import br.com.ecommerce.cart.infra.entity.Product;
+
+/**
+ * Times the line operations of {@link Cart} for carts of 10 to 500 lines, which should not depend on the
+ * size of the cart. Runs with {@code mvn -Pbenchmarks test-compile exec:exec}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CartBenchmark {
+
+    @Param({ "10", "50", "100", "500" })
+    private int lines;
+
+    private Cart cart;
+    private Product[] products;
+    private int next;
+
+
+    @Setup(Level.Iteration)
+    public void setup() {
+        cart = new Cart("user");
+        products = new Product[lines];
+        for (int i = 0; i < lines; i++) {
+            products[i] = new Product("product-" + i, 1);
+            cart.addProduct(new Product("product-" + i, 1));
+        }
+    }
+
+    @Benchmark
+    public Cart addExistingProduct() {
+        cart.addProduct(new Product(this.nextProduct().getId(), 1));
+        return cart;
+    }
+
+    @Benchmark
+    public Cart addAndRemoveProduct() {
+        Product product = new Product("new-product", 1);
+        cart.addProduct(product);
+        cart.removeProduct(product);
+        return cart;
+    }
+
+    @Benchmark
+    public Optional<Product> getProduct() {
+        return cart.getProduct(this.nextProduct().getId());
+    }
+
+    @Benchmark
+    public boolean containsProduct() {
+        return cart.getProducts().contains(this.nextProduct());
+    }
+
+    private Product nextProduct() {
+        next = next + 1 == lines ? 0 : next + 1;
+        return products[next];
+    }
+}
\ No newline at end of file
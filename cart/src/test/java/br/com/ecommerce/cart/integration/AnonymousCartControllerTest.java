@@ -1,17 +1,23 @@
 package br.com.ecommerce.cart.integration;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.anySet;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 import java.math.BigDecimal;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
@@ -56,6 +62,8 @@ class AnonymousCartControllerTest {
     private MockMvc mvc;
     @Autowired
     private JacksonTester<UpdateCartProductDTO> updateCartProductDTOJson;
+    @Autowired
+    private JacksonTester<List<UpdateCartProductDTO>> updateCartProductDTOListJson;
 
     @Autowired
     private CartRepository repository;
@@ -225,6 +233,89 @@ class AnonymousCartControllerTest {
         act.andExpect(status().isBadRequest());
     }
 
+    @Test
+    void updateUnitsTest01() throws Exception {
+        // arrange
+        Product existentProduct = userCartPersisted.getProducts().iterator().next();
+        String productId = existentProduct.getId();
+        int productUnit = existentProduct.getUnit();
+        when(productClient.getMissingProducts(anySet()))
+            .thenReturn(Set.of());
+        when(productClient.getPrices(anySet()))
+            .thenAnswer(invocation -> invocation.<Set<String>>getArgument(0).stream()
+                .collect(Collectors.toMap(
+                    id -> id,
+                    id -> new InternalProductDataDTO("Random Name", BigDecimal.TEN, "imageLink"))));
+
+        var requestBody = List.of(
+            new UpdateCartProductDTO(productId, 5),
+            new UpdateCartProductDTO("newproduct", 3),
+            new UpdateCartProductDTO(productId, -2));
+
+        // act
+        ResultActions act = mvc.perform(patch(basePath + "/lines")
+            .contentType(MediaType.APPLICATION_JSON)
+            .header("X-anon-cart-id", userCartPersisted.getId())
+            .content(updateCartProductDTOListJson.write(requestBody).getJson()));
+
+        // assert
+        act.andExpect(status().isOk())
+            .andExpect(jsonPath("$.id").value(userCartPersisted.getId()))
+            .andExpect(jsonPath("$.products[0].price").hasJsonPath())
+            .andExpect(jsonPath("$.totalPrice").hasJsonPath());
+        Cart cart = repository.findById(userCartPersisted.getId()).get();
+        assertEquals(productUnit + 3, cart.getProduct(productId).get().getUnit());
+        assertEquals(3, cart.getProduct("newproduct").get().getUnit());
+    }
+
+    @Test
+    void updateUnitsTest02_withEmptyList() throws Exception {
+        // act
+        ResultActions act = mvc.perform(patch(basePath + "/lines")
+            .contentType(MediaType.APPLICATION_JSON)
+            .header("X-anon-cart-id", userCartPersisted.getId())
+            .content(updateCartProductDTOListJson.write(List.of()).getJson()));
+
+        // assert
+        act.andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void updateUnitsTest03_withMoreThan100Entries() throws Exception {
+        // arrange
+        var requestBody = IntStream.rangeClosed(0, 100)
+            .mapToObj(index -> new UpdateCartProductDTO("product" + index, 1))
+            .toList();
+
+        // act
+        ResultActions act = mvc.perform(patch(basePath + "/lines")
+            .contentType(MediaType.APPLICATION_JSON)
+            .header("X-anon-cart-id", userCartPersisted.getId())
+            .content(updateCartProductDTOListJson.write(requestBody).getJson()));
+
+        // assert
+        act.andExpect(status().isBadRequest());
+        verify(productClient, never()).getMissingProducts(anySet());
+    }
+
+    @Test
+    void updateUnitsTest04_withBlankId() throws Exception {
+        // arrange
+        var requestBody = List.of(
+            new UpdateCartProductDTO("1", 1),
+            new UpdateCartProductDTO(" ", 1));
+
+        // act
+        ResultActions act = mvc.perform(patch(basePath + "/lines")
+            .contentType(MediaType.APPLICATION_JSON)
+            .header("X-anon-cart-id", userCartPersisted.getId())
+            .content(updateCartProductDTOListJson.write(requestBody).getJson()));
+
+        // assert
+        act.andExpect(status().isBadRequest());
+        verify(productClient, never()).getMissingProducts(anySet());
+    }
+
     private void mockProductClientReturn(Set<Product> products) {
         Map<String, InternalProductDataDTO> mockProductResponse = products.stream()
             .collect(Collectors.toMap(
@@ -2,9 +2,13 @@ package br.com.ecommerce.cart.integration;
 
 import static org.junit.Assert.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.anySet;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
@@ -12,9 +16,11 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 
 import java.math.BigDecimal;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
@@ -68,6 +74,8 @@ class ClientCartControllerTest {
     private JacksonTester<AnonCartRefereceDTO> anonCartRefereceDTOJson;
     @Autowired
     private JacksonTester<UpdateCartProductDTO> updateCartProductDTOJson;
+    @Autowired
+    private JacksonTester<List<UpdateCartProductDTO>> updateCartProductDTOListJson;
 
     @Autowired
     private CartRepository repository;
@@ -291,6 +299,90 @@ class ClientCartControllerTest {
         act.andExpect(status().isForbidden());
     }
 
+    @Test
+    @WithMockUser(roles = {"CLIENT"})
+    void updateUnitsTest01() throws Exception {
+        // arrange
+        MockUserUtils.mockUser(userCartPersisted.getId());
+        Product existentProduct = userCartPersisted.getProducts().iterator().next();
+        String productId = existentProduct.getId();
+        int productUnit = existentProduct.getUnit();
+        when(productClient.getMissingProducts(anySet()))
+            .thenReturn(Set.of());
+        when(productClient.getPrices(anySet()))
+            .thenAnswer(invocation -> invocation.<Set<String>>getArgument(0).stream()
+                .collect(Collectors.toMap(
+                    id -> id,
+                    id -> new InternalProductDataDTO("Random Name", BigDecimal.TEN, "imageLink"))));
+
+        var requestBody = List.of(
+            new UpdateCartProductDTO(productId, 5),
+            new UpdateCartProductDTO("newproduct", 3),
+            new UpdateCartProductDTO(productId, -2));
+
+        // act
+        ResultActions act = mvc.perform(patch(basePath + "/lines")
+            .contentType(MediaType.APPLICATION_JSON)
+            .content(updateCartProductDTOListJson.write(requestBody).getJson()));
+
+        // assert
+        act.andExpect(status().isOk())
+            .andExpect(jsonPath("$.id").value(userCartPersisted.getId()))
+            .andExpect(jsonPath("$.products[0].price").hasJsonPath())
+            .andExpect(jsonPath("$.totalPrice").hasJsonPath());
+        Cart cart = repository.findById(userCartPersisted.getId()).get();
+        assertEquals(productUnit + 3, cart.getProduct(productId).get().getUnit());
+        assertEquals(3, cart.getProduct("newproduct").get().getUnit());
+    }
+
+    @Test
+    @WithMockUser(roles = {"CLIENT"})
+    void updateUnitsTest02_withEmptyList() throws Exception {
+        // act
+        ResultActions act = mvc.perform(patch(basePath + "/lines")
+            .contentType(MediaType.APPLICATION_JSON)
+            .content(updateCartProductDTOListJson.write(List.of()).getJson()));
+
+        // assert
+        act.andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @WithMockUser(roles = {"CLIENT"})
+    void updateUnitsTest03_withMoreThan100Entries() throws Exception {
+        // arrange
+        var requestBody = IntStream.rangeClosed(0, 100)
+            .mapToObj(index -> new UpdateCartProductDTO("product" + index, 1))
+            .toList();
+
+        // act
+        ResultActions act = mvc.perform(patch(basePath + "/lines")
+            .contentType(MediaType.APPLICATION_JSON)
+            .content(updateCartProductDTOListJson.write(requestBody).getJson()));
+
+        // assert
+        act.andExpect(status().isBadRequest());
+        verify(productClient, never()).getMissingProducts(anySet());
+    }
+
+    @Test
+    @WithMockUser(roles = {"CLIENT"})
+    void updateUnitsTest04_withBlankId() throws Exception {
+        // arrange
+        var requestBody = List.of(
+            new UpdateCartProductDTO("1", 1),
+            new UpdateCartProductDTO(" ", 1));
+
+        // act
+        ResultActions act = mvc.perform(patch(basePath + "/lines")
+            .contentType(MediaType.APPLICATION_JSON)
+            .content(updateCartProductDTOListJson.write(requestBody).getJson()));
+
+        // assert
+        act.andExpect(status().isBadRequest());
+        verify(productClient, never()).getMissingProducts(anySet());
+    }
+
     private void mockProductClientReturn(Set<Product> products) {
         when(productClient.existsProduct(anyString()))
             .thenReturn(ResponseEntity.ok().build());
@@ -0,0 +1,62 @@
+package br.com.ecommerce.cart.unit.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import br.com.ecommerce.cart.api.dto.product.InternalProductDataDTO;
+import br.com.ecommerce.cart.infra.cache.ProductDataCache;
+
+class ProductDataCacheTest {
+
+    private ProductDataCache cache;
+    private List<Set<String>> requested;
+    private Function<Set<String>, Map<String, InternalProductDataDTO>> loader;
+
+
+    @BeforeEach
+    void setup() {
+        cache = new ProductDataCache(100, 60);
+        requested = new ArrayList<>();
+        loader = productIds -> {
+            requested.add(productIds);
+            return productIds.stream()
+                .collect(Collectors.toMap(id -> id, id -> new InternalProductDataDTO(id, BigDecimal.TEN, id + ".png")));
+        };
+    }
+
+    @Test
+    void getAllTest01_mustLoadOnlyMissingProducts() {
+        // arrange
+        cache.getAll(Set.of("1", "2"), loader);
+
+        // act
+        var result = cache.getAll(Set.of("1", "2", "3"), loader);
+
+        // assert
+        assertEquals(3, result.size());
+        assertEquals(List.of(Set.of("1", "2"), Set.of("3")), requested);
+    }
+
+    @Test
+    void invalidateAllTest01_mustLoadInvalidatedProductsAgain() {
+        // arrange
+        cache.getAll(Set.of("1", "2"), loader);
+
+        // act
+        cache.invalidateAll(List.of("2"));
+        cache.getAll(Set.of("1", "2"), loader);
+
+        // assert
+        assertEquals(List.of(Set.of("1", "2"), Set.of("2")), requested);
+    }
+}
\ No newline at end of file
@@ -71,6 +71,27 @@ public class CartTest {
         assertDoesNotThrow(() -> cart.addProducts(emptyProductSet));
     }
 
+    @Test
+    void addProductTest_withRepeatedProduct() {
+        // arrange
+        Cart cart = new Cart(validUserId);
+        cart.addProduct(new Product("1", 2));
+
+        // act
+        cart.addProduct(new Product("1", 3));
+
+        // assert
+        assertEquals(1, cart.getProducts().size());
+        assertEquals(5, cart.getProduct("1").get().getUnit());
+        assertTrue(cart.getProducts().contains(new Product("1", 1)));
+    }
+
+    @Test
+    void getProductTest_withoutProduct() {
+        Cart cart = new Cart(new Product("1", 1));
+        assertTrue(cart.getProduct("2").isEmpty());
+    }
+
     @Test
     void removeProductTest_withProducts() {
         // arrange
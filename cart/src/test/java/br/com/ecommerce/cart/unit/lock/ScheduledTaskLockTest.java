@@ -0,0 +1,71 @@
+package br.com.ecommerce.cart.unit.lock;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+
+import org.bson.Document;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import br.com.ecommerce.cart.infra.lock.ScheduledTaskLock;
+
+@ExtendWith(MockitoExtension.class)
+public class ScheduledTaskLockTest {
+
+    @Mock
+    private MongoTemplate mongoTemplate;
+
+    private ScheduledTaskLock taskLock;
+
+
+    @BeforeEach
+    void setup() {
+        taskLock = new ScheduledTaskLock(mongoTemplate);
+    }
+
+    @Test
+    void tryAcquireTest() {
+        // arrange
+        var query = ArgumentCaptor.forClass(Query.class);
+        var update = ArgumentCaptor.forClass(Update.class);
+
+        // act
+        boolean result = taskLock.tryAcquire("task", Duration.ofMinutes(1));
+
+        // assert
+        assertTrue(result);
+        verify(mongoTemplate).upsert(query.capture(), update.capture(), eq(ScheduledTaskLock.COLLECTION));
+        assertEquals("task", query.getValue().getQueryObject().get("_id"));
+        Document set = update.getValue().getUpdateObject().get("$set", Document.class);
+        assertTrue(set.containsKey("lockedUntil"));
+        assertTrue(set.containsKey("owner"));
+    }
+
+    @Test
+    void tryAcquireTest_whenHeldByAnotherInstance() {
+        // arrange
+        when(mongoTemplate.upsert(any(Query.class), any(Update.class), eq(ScheduledTaskLock.COLLECTION)))
+            .thenThrow(new DuplicateKeyException("E11000 duplicate key error"));
+
+        // act
+        boolean result = taskLock.tryAcquire("task", Duration.ofMinutes(1));
+
+        // assert
+        assertFalse(result);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,205 @@
+package br.com.ecommerce.cart.unit.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.List;
+
+import org.bson.Document;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.IndexDefinition;
+import org.springframework.data.mongodb.core.index.IndexInfo;
+import org.springframework.data.mongodb.core.index.IndexOperations;
+import org.springframework.data.mongodb.core.query.Query;
+
+import com.mongodb.client.result.DeleteResult;
+
+import br.com.ecommerce.cart.infra.entity.Cart;
+import br.com.ecommerce.cart.infra.lock.ScheduledTaskLock;
+import br.com.ecommerce.cart.service.AnonymousCartExpiryService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+public class AnonymousCartExpiryServiceTest {
+
+    @Mock
+    private MongoTemplate mongoTemplate;
+    @Mock
+    private IndexOperations indexOps;
+    @Mock
+    private ScheduledTaskLock taskLock;
+
+    private SimpleMeterRegistry registry;
+    private AnonymousCartExpiryService service;
+
+
+    @BeforeEach
+    void setup() {
+        registry = new SimpleMeterRegistry();
+        service = new AnonymousCartExpiryService(mongoTemplate, taskLock, registry, 7, 2, 1000, 1000);
+    }
+
+    @Test
+    void ensureTtlIndexTest_withoutIndex() {
+        // arrange
+        when(mongoTemplate.indexOps(Cart.class)).thenReturn(indexOps);
+        when(indexOps.getIndexInfo()).thenReturn(List.of());
+        var definition = ArgumentCaptor.forClass(IndexDefinition.class);
+
+        // act
+        service.ensureTtlIndex();
+
+        // assert
+        verify(indexOps).ensureIndex(definition.capture());
+        Document options = definition.getValue().getIndexOptions();
+        assertEquals(7L * 24 * 60 * 60, options.get("expireAfterSeconds"));
+        assertEquals(new Document("isAnon", true), options.get("partialFilterExpression"));
+        assertEquals(new Document("modifiedAt", 1), definition.getValue().getIndexKeys());
+    }
+
+    @Test
+    void ensureTtlIndexTest_withIndex() {
+        // arrange
+        IndexInfo existing = new IndexInfo(List.of(), "anonymous_cart_ttl", false, false, "");
+        when(mongoTemplate.indexOps(Cart.class)).thenReturn(indexOps);
+        when(indexOps.getIndexInfo()).thenReturn(List.of(existing));
+        when(mongoTemplate.getCollectionName(Cart.class)).thenReturn("cart");
+        var command = ArgumentCaptor.forClass(Document.class);
+
+        // act
+        service.ensureTtlIndex();
+
+        // assert
+        verify(indexOps, never()).ensureIndex(any());
+        verify(mongoTemplate).executeCommand(command.capture());
+        assertEquals("cart", command.getValue().get("collMod"));
+        assertEquals(7L * 24 * 60 * 60, command.getValue().get("index", Document.class).get("expireAfterSeconds"));
+    }
+
+    @Test
+    void sweepLegacyCartsTest() {
+        // arrange
+        this.ensureTtlIndex();
+        when(mongoTemplate.getCollectionName(Cart.class)).thenReturn("cart");
+        when(taskLock.tryAcquire(eq("anonymous-cart-legacy-sweep"), any(Duration.class))).thenReturn(true);
+        when(mongoTemplate.find(any(Query.class), eq(Document.class), eq("cart")))
+            .thenReturn(List.of(new Document("_id", "1"), new Document("_id", "2")))
+            .thenReturn(List.of(new Document("_id", "3")))
+            .thenReturn(List.of());
+        when(mongoTemplate.remove(any(Query.class), eq(Cart.class)))
+            .thenReturn(DeleteResult.acknowledged(2))
+            .thenReturn(DeleteResult.acknowledged(1));
+        var query = ArgumentCaptor.forClass(Query.class);
+
+        // act
+        long result = service.sweepLegacyCarts();
+        long secondRun = service.sweepLegacyCarts();
+
+        // assert
+        assertEquals(3, result);
+        assertEquals(0, secondRun);
+        assertEquals(3.0, registry.get("carts.anonymous.swept").counter().count());
+        verify(mongoTemplate, times(3)).find(query.capture(), eq(Document.class), eq("cart"));
+        query.getAllValues().forEach(batch -> assertEquals("anonymous_cart_ttl", batch.getHint()));
+        verify(taskLock).complete("anonymous-cart-legacy-sweep");
+        verify(taskLock, times(1)).tryAcquire(eq("anonymous-cart-legacy-sweep"), any(Duration.class));
+    }
+
+    @Test
+    void sweepLegacyCartsTest_withYoungLegacyCartsLeft() {
+        // arrange
+        this.ensureTtlIndex();
+        when(mongoTemplate.getCollectionName(Cart.class)).thenReturn("cart");
+        when(taskLock.tryAcquire(eq("anonymous-cart-legacy-sweep"), any(Duration.class))).thenReturn(true);
+        when(mongoTemplate.find(any(Query.class), eq(Document.class), eq("cart")))
+            .thenReturn(List.of())
+            .thenReturn(List.of(new Document("_id", "1")));
+
+        // act
+        long result = service.sweepLegacyCarts();
+
+        // assert
+        assertEquals(0, result);
+        verify(mongoTemplate, never()).remove(any(Query.class), eq(Cart.class));
+        verify(taskLock, never()).complete(any());
+    }
+
+    @Test
+    void sweepLegacyCartsTest_whenCompleted() {
+        // arrange
+        this.ensureTtlIndex();
+        when(taskLock.tryAcquire(eq("anonymous-cart-legacy-sweep"), any(Duration.class))).thenReturn(true);
+        when(taskLock.isCompleted("anonymous-cart-legacy-sweep")).thenReturn(true);
+
+        // act
+        long result = service.sweepLegacyCarts();
+
+        // assert
+        assertEquals(0, result);
+        verify(mongoTemplate, never()).find(any(Query.class), eq(Document.class), any(String.class));
+    }
+
+    @Test
+    void sweepLegacyCartsTest_withoutLease() {
+        // arrange
+        this.ensureTtlIndex();
+        when(taskLock.tryAcquire(eq("anonymous-cart-legacy-sweep"), any(Duration.class))).thenReturn(false);
+
+        // act
+        long result = service.sweepLegacyCarts();
+
+        // assert
+        assertEquals(0, result);
+        verify(mongoTemplate, never()).find(any(Query.class), eq(Document.class), any(String.class));
+    }
+
+    @Test
+    void refreshAnonymousCartCountTest() {
+        // arrange
+        this.ensureTtlIndex();
+        when(taskLock.tryAcquire(eq("anonymous-cart-count"), any(Duration.class))).thenReturn(true);
+        when(mongoTemplate.count(any(Query.class), eq(Cart.class))).thenReturn(10L);
+        var query = ArgumentCaptor.forClass(Query.class);
+
+        // act
+        service.refreshAnonymousCartCount();
+
+        // assert
+        assertEquals(10.0, registry.get("carts.anonymous").gauge().value());
+        verify(mongoTemplate).count(query.capture(), eq(Cart.class));
+        assertEquals("anonymous_cart_ttl", query.getValue().getHint());
+    }
+
+    @Test
+    void refreshAnonymousCartCountTest_withoutLease() {
+        // arrange
+        this.ensureTtlIndex();
+        when(taskLock.tryAcquire(eq("anonymous-cart-count"), any(Duration.class))).thenReturn(false);
+
+        // act
+        service.refreshAnonymousCartCount();
+
+        // assert
+        assertTrue(Double.isNaN(registry.get("carts.anonymous").gauge().value()));
+        verify(mongoTemplate, never()).count(any(Query.class), eq(Cart.class));
+    }
+
+    private void ensureTtlIndex() {
+        when(mongoTemplate.indexOps(Cart.class)).thenReturn(indexOps);
+        when(indexOps.getIndexInfo()).thenReturn(List.of());
+        service.ensureTtlIndex();
+    }
+}
\ No newline at end of file
@@ -10,10 +10,14 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.math.BigDecimal;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Random;
 import java.util.Set;
@@ -177,12 +181,11 @@ public class CartServiceTest {
         // arrange
         String userId = "validid";
         Cart cart = new Cart(userId);
+        cart.addProduct(productFactory.createProduct("productId", 100));
 
         when(productClient.existsProduct(anyString()))
             .thenReturn(ResponseEntity.ok().build());
-        when(cartRepository.findById(eq(userId)))
-            .thenReturn(Optional.of(cart));
-        when(cartRepository.save(eq(cart)))
+        when(cartRepository.addProductUnit(userId, "productId", 100))
             .thenReturn(cart);
 
         String productId = "productId";
@@ -190,13 +193,12 @@ public class CartServiceTest {
         UpdateCartProductDTO entry = new UpdateCartProductDTO(productId, productUnit);
 
         // act
-        service.changeProductUnit(userId, entry);
-        var result = cart.getProducts().iterator().next();
+        var result = service.changeProductUnit(userId, entry);
 
         // assert
-        System.out.println("AQUI : " + cart.getProducts());
-        assertEquals(entry.getId(), result.getId());
-        assertEquals(entry.getUnit(), result.getUnit());
+        assertEquals(cart, result);
+        verify(cartRepository).addProductUnit(userId, productId, productUnit);
+        verify(cartRepository, never()).save(any());
     }
 
     @Test
@@ -204,27 +206,23 @@ public class CartServiceTest {
         // arrange
         String userId = "validid";
         Cart cart = new Cart(userId);
-        Product product = productFactory.createProduct("id", 100);
+        Product product = productFactory.createProduct("id", 200);
         cart.addProduct(product);
 
         when(productClient.existsProduct(product.getId()))
             .thenReturn(ResponseEntity.ok().build());
 
-        when(cartRepository.findById(eq(userId)))
-            .thenReturn(Optional.of(cart));
-
-        when(cartRepository.save(eq(cart)))
+        when(cartRepository.addProductUnit(userId, product.getId(), 100))
             .thenReturn(cart);
 
-        UpdateCartProductDTO entry = new UpdateCartProductDTO(product.getId(), Math.abs(product.getUnit()));
-        int expectedProductUnit = product.getUnit() + product.getUnit();
+        UpdateCartProductDTO entry = new UpdateCartProductDTO(product.getId(), 100);
 
         // act
-        service.changeProductUnit(userId, entry);
-        var result = cart.getProducts().iterator().next();
+        var result = service.changeProductUnit(userId, entry);
 
         // assert
-        assertEquals(expectedProductUnit, result.getUnit());
+        assertEquals(200, result.getProducts().iterator().next().getUnit());
+        verify(cartRepository, never()).findById(any());
     }
 
     @Test
@@ -232,26 +230,21 @@ public class CartServiceTest {
         // arrange
         String userId = "validid";
         Cart cart = new Cart(userId);
-        Product product = productFactory.createProduct("id", 100);
-        cart.addProduct(product);
 
-        when(productClient.existsProduct(product.getId()))
+        when(productClient.existsProduct("id"))
             .thenReturn(ResponseEntity.ok().build());
 
-        when(cartRepository.findById(eq(userId)))
-            .thenReturn(Optional.of(cart));
-
-        when(cartRepository.save(eq(cart)))
+        when(cartRepository.addProductUnit(userId, "id", -100))
             .thenReturn(cart);
 
-        UpdateCartProductDTO entry = new UpdateCartProductDTO(product.getId(), Math.negateExact(product.getUnit()));
+        UpdateCartProductDTO entry = new UpdateCartProductDTO("id", -100);
 
         // act
-        service.changeProductUnit(userId, entry);
-        var result = cart.getProducts();
+        var result = service.changeProductUnit(userId, entry);
 
         // assert
-        assertTrue(result.isEmpty());
+        assertTrue(result.getProducts().isEmpty());
+        verify(cartRepository).addProductUnit(userId, "id", -100);
     }
 
     @Test
@@ -280,6 +273,63 @@ public class CartServiceTest {
             "Does not throw exception when found a Cart");
     }
 
+    @Test
+    void changeProductUnitsTest01_sumRepeatedProducts() {
+        // arrange
+        String userId = "validid";
+        Cart cart = new Cart(userId);
+        Map<String, Integer> expectedUnits = new LinkedHashMap<>();
+        expectedUnits.put("first", 3);
+        expectedUnits.put("second", -1);
+
+        when(productClient.getMissingProducts(expectedUnits.keySet()))
+            .thenReturn(Set.of());
+        when(cartRepository.addProductUnits(userId, expectedUnits))
+            .thenReturn(cart);
+
+        var entries = List.of(
+            new UpdateCartProductDTO("first", 1),
+            new UpdateCartProductDTO("second", -1),
+            new UpdateCartProductDTO("first", 2));
+
+        // act
+        var result = service.changeProductUnits(userId, entries);
+
+        // assert
+        assertEquals(cart, result);
+        verify(productClient, never()).existsProduct(any());
+        verify(cartRepository, never()).save(any());
+    }
+
+    @Test
+    void changeProductUnitsTest02_whenNotFoundProduct() {
+        // arrange
+        when(productClient.getMissingProducts(any()))
+            .thenReturn(Set.of("second"));
+
+        var entries = List.of(
+            new UpdateCartProductDTO("first", 1),
+            new UpdateCartProductDTO("second", 1));
+
+        // act and assert
+        assertThrows(
+            ProductNotFoundException.class,
+            () -> service.changeProductUnits("any id", entries));
+        verify(cartRepository, never()).addProductUnits(any(), any());
+    }
+
+    @Test
+    void changeProductUnitsTest03_whenNotFoundCart() {
+        // arrange
+        when(productClient.getMissingProducts(any()))
+            .thenReturn(Set.of());
+
+        // act and assert
+        assertThrows(
+            CartNotFoundException.class,
+            () -> service.changeProductUnits("any id", List.of(new UpdateCartProductDTO("id", 1))));
+    }
+
     @Test
     void changeProductUnitTest6_whenProductClientResponseIsUnexpected() {
         // arrange
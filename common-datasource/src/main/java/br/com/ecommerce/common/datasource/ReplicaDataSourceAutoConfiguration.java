@@ -0,0 +1,69 @@
+package br.com.ecommerce.common.datasource;
+
+import java.time.Duration;
+
+import javax.sql.DataSource;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.resource.jdbc.spi.PhysicalConnectionHandlingMode;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceAutoConfiguration;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+/**
+ * Replaces the auto-configured data source by a primary/replica pair when a replica url is set. The
+ * primary keeps the {@code spring.datasource.*} settings; the replica defaults to the same credentials.
+ * <p>
+ * Runs before {@link DataSourceAutoConfiguration}, so the default pool backs off in favour of this one.
+ */
+@AutoConfiguration(before = DataSourceAutoConfiguration.class)
+@ConditionalOnProperty(prefix = "api.datasource.replica", name = "url")
+@EnableConfigurationProperties(DataSourceProperties.class)
+public class ReplicaDataSourceAutoConfiguration {
+
+    @Bean
+    @Primary
+    public DataSource dataSource(
+        DataSourceProperties properties,
+        @Value("${api.datasource.replica.url}") String replicaUrl,
+        @Value("${api.datasource.replica.username:${spring.datasource.username:}}") String replicaUsername,
+        @Value("${api.datasource.replica.password:${spring.datasource.password:}}") String replicaPassword,
+        @Value("${api.datasource.replica.max-lag-millis:5000}") long maxLagMillis,
+        @Value("${api.datasource.replica.retry-millis:30000}") long retryMillis
+    ) {
+        HikariDataSource primary = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        primary.setPoolName("primary");
+
+        HikariDataSource replica = DataSourceBuilder.create()
+            .type(HikariDataSource.class)
+            .driverClassName(properties.determineDriverClassName())
+            .url(replicaUrl)
+            .username(replicaUsername)
+            .password(replicaPassword)
+            .build();
+        replica.setPoolName("replica");
+
+        return new LazyConnectionDataSourceProxy(new ReplicaRoutingDataSource(
+            primary, replica, new ReplicaLagGuard(Duration.ofMillis(maxLagMillis)), retryMillis));
+    }
+
+    /**
+     * Hibernate holds on to a session's connection by default, which would keep an open-in-view request on
+     * whichever data source its first transaction picked.
+     */
+    @Bean
+    public HibernatePropertiesCustomizer releaseConnectionAfterTransaction() {
+        return properties -> properties.put(AvailableSettings.CONNECTION_HANDLING,
+            PhysicalConnectionHandlingMode.DELAYED_ACQUISITION_AND_RELEASE_AFTER_TRANSACTION);
+    }
+}
\ No newline at end of file
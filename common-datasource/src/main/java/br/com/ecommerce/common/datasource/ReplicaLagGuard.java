@@ -0,0 +1,82 @@
+package br.com.ecommerce.common.datasource;
+
+import java.sql.Connection;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Read-your-writes guard for the replica. Once a transaction that wrote through the primary commits while
+ * handling an HTTP request, the rest of that request reads from the primary, and the response sets a cookie that keeps the client on
+ * the primary for {@code maxLag}, the replication lag the replica is expected to stay under.
+ */
+public class ReplicaLagGuard {
+
+    public static final String COOKIE_NAME = "replica-lag-guard";
+    private static final String WRITTEN = ReplicaLagGuard.class.getName() + ".WRITTEN";
+
+    private final Duration maxLag;
+
+
+    public ReplicaLagGuard(Duration maxLag) {
+        this.maxLag = maxLag;
+    }
+
+    /**
+     * Pins the current request to the primary after the current transaction commits, provided it modified
+     * data through {@code connection}. Transactions that are not read-only but only read, such as the ones
+     * opened by default for a {@code GET}, leave the request on the replica.
+     */
+    Connection watchWrites(Connection connection) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) return connection;
+        if (TransactionSynchronizationManager.isCurrentTransactionReadOnly()) return connection;
+
+        ServletRequestAttributes request = currentRequest();
+        if (request == null) return connection;
+        AtomicBoolean wrote = new AtomicBoolean();
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                if (wrote.get()) markWritten(request);
+            }
+        });
+        return WriteTrackingConnection.wrap(connection, () -> wrote.set(true));
+    }
+
+    boolean requiresPrimary() {
+        ServletRequestAttributes request = currentRequest();
+        if (request == null) return false;
+        if (request.getAttribute(WRITTEN, RequestAttributes.SCOPE_REQUEST) != null) return true;
+
+        Cookie[] cookies = request.getRequest().getCookies();
+        return cookies != null && Arrays.stream(cookies).anyMatch(cookie -> COOKIE_NAME.equals(cookie.getName()));
+    }
+
+    private void markWritten(ServletRequestAttributes request) {
+        if (request.getAttribute(WRITTEN, RequestAttributes.SCOPE_REQUEST) != null) return;
+        request.setAttribute(WRITTEN, Boolean.TRUE, RequestAttributes.SCOPE_REQUEST);
+
+        HttpServletResponse response = request.getResponse();
+        if (response == null || response.isCommitted()) return;
+        Cookie cookie = new Cookie(COOKIE_NAME, "1");
+        cookie.setPath("/");
+        cookie.setHttpOnly(true);
+        cookie.setMaxAge((int) Math.max(1, (maxLag.toMillis() + 999) / 1000));
+        response.addCookie(cookie);
+    }
+
+    private static ServletRequestAttributes currentRequest() {
+        return RequestContextHolder.getRequestAttributes() instanceof ServletRequestAttributes request
+            ? request
+            : null;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,63 @@
+package br.com.ecommerce.common.datasource;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.sql.DataSource;
+
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Hands out replica connections to read-only transactions and primary connections to everything else.
+ * Reads go to the primary as well when the {@link ReplicaLagGuard} asks for it, or while the replica is
+ * unreachable: a failed replica connection is retried on the primary and the replica is skipped for
+ * {@code retryMillis}.
+ * <p>
+ * Transactions only know they are read-only after the connection is requested, so this data source has
+ * to be wrapped in a {@link org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy}.
+ */
+@Slf4j
+public class ReplicaRoutingDataSource extends AbstractDataSource {
+
+    private final DataSource primary;
+    private final DataSource replica;
+    private final ReplicaLagGuard lagGuard;
+    private final long retryMillis;
+    private final AtomicLong replicaDownUntil = new AtomicLong();
+
+
+    public ReplicaRoutingDataSource(DataSource primary, DataSource replica, ReplicaLagGuard lagGuard, long retryMillis) {
+        this.primary = primary;
+        this.replica = replica;
+        this.lagGuard = lagGuard;
+        this.retryMillis = retryMillis;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        if (!this.routesToReplica()) return lagGuard.watchWrites(primary.getConnection());
+
+        try {
+            return replica.getConnection();
+        } catch (SQLException ex) {
+            replicaDownUntil.set(System.currentTimeMillis() + retryMillis);
+            log.warn("Replica unavailable, reading from the primary for {} ms: {}", retryMillis, ex.getMessage());
+            return primary.getConnection();
+        }
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return primary.getConnection(username, password);
+    }
+
+    private boolean routesToReplica() {
+        return TransactionSynchronizationManager.isCurrentTransactionReadOnly()
+            && System.currentTimeMillis() >= replicaDownUntil.get()
+            && !lagGuard.requiresPrimary();
+    }
+}
\ No newline at end of file
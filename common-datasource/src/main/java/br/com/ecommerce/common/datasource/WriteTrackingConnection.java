@@ -0,0 +1,65 @@
+package br.com.ecommerce.common.datasource;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.Statement;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * Connection proxy that reports the statements it creates when they modify data: updates and batches, and
+ * anything but a query run through {@code execute}.
+ */
+final class WriteTrackingConnection {
+
+    private static final Set<String> STATEMENT_FACTORIES = Set.of("createStatement", "prepareStatement", "prepareCall");
+    private static final Set<String> WRITES = Set.of("executeUpdate", "executeLargeUpdate", "executeBatch", "executeLargeBatch");
+
+
+    private WriteTrackingConnection() {}
+
+    static Connection wrap(Connection connection, Runnable onWrite) {
+        return (Connection) Proxy.newProxyInstance(
+            WriteTrackingConnection.class.getClassLoader(),
+            new Class<?>[] { Connection.class },
+            (proxy, method, args) -> {
+                Object result = invoke(connection, method, args);
+                if (!(result instanceof Statement statement) || !STATEMENT_FACTORIES.contains(method.getName()))
+                    return result;
+
+                String sql = args != null && args.length > 0 && args[0] instanceof String text ? text : null;
+                return track(statement, method.getReturnType(), sql, onWrite, (Connection) proxy);
+            });
+    }
+
+    private static Object track(Statement statement, Class<?> type, String sql, Runnable onWrite, Connection connection) {
+        return Proxy.newProxyInstance(
+            WriteTrackingConnection.class.getClassLoader(),
+            new Class<?>[] { type },
+            (proxy, method, args) -> {
+                if (method.getName().equals("getConnection") && method.getParameterCount() == 0) return connection;
+
+                if (WRITES.contains(method.getName())) {
+                    onWrite.run();
+                } else if (method.getName().equals("execute")) {
+                    String executed = args != null && args.length > 0 && args[0] instanceof String text ? text : sql;
+                    if (!isQuery(executed)) onWrite.run();
+                }
+                return invoke(statement, method, args);
+            });
+    }
+
+    private static boolean isQuery(String sql) {
+        return sql != null && sql.stripLeading().toLowerCase(Locale.ROOT).startsWith("select");
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException ex) {
+            throw ex.getTargetException();
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,44 @@
+package br.com.ecommerce.common.datasource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceAutoConfiguration;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+class ReplicaDataSourceAutoConfigurationTest {
+
+    private final ApplicationContextRunner runner = new ApplicationContextRunner()
+        .withConfiguration(AutoConfigurations.of(ReplicaDataSourceAutoConfiguration.class, DataSourceAutoConfiguration.class))
+        .withPropertyValues("spring.datasource.url=jdbc:h2:mem:primary");
+
+
+    @Test
+    @DisplayName("Unit - dataSource - Must route between primary and replica when a replica url is set")
+    void dataSourceTest01() {
+        this.runner
+            .withPropertyValues("api.datasource.replica.url=jdbc:h2:mem:replica")
+            .run(context -> {
+                assertThat(context).hasSingleBean(DataSource.class);
+                assertThat(context.getBean(DataSource.class)).isInstanceOf(LazyConnectionDataSourceProxy.class);
+                assertThat(context.getBean(LazyConnectionDataSourceProxy.class).getTargetDataSource())
+                    .isInstanceOf(ReplicaRoutingDataSource.class);
+            });
+    }
+
+    @Test
+    @DisplayName("Unit - dataSource - Must keep the auto-configured data source without a replica url")
+    void dataSourceTest02() {
+        this.runner.run(context -> {
+            assertThat(context).hasSingleBean(DataSource.class);
+            assertThat(context.getBean(DataSource.class)).isInstanceOf(HikariDataSource.class);
+        });
+    }
+}
\ No newline at end of file
@@ -0,0 +1,143 @@
+package br.com.ecommerce.common.datasource;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.sql.SQLException;
+import java.time.Duration;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import jakarta.servlet.http.Cookie;
+
+class ReplicaRoutingDataSourceTest {
+
+    private final DataSource primary = node("primary");
+    private final DataSource replica = node("replica");
+
+
+    @BeforeEach
+    void setup() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @AfterEach
+    void cleanup() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    @DisplayName("Unit - getConnection - Read-only transactions must read from the replica, the others from the primary")
+    void getConnectionTest01() {
+        // arrange
+        JdbcTemplate jdbc = new JdbcTemplate(this.routing(replica));
+
+        // act and assert
+        assertEquals("replica", this.readNode(jdbc, true));
+        assertEquals("primary", this.readNode(jdbc, false));
+        assertEquals("primary", jdbc.queryForObject("SELECT name FROM node", String.class));
+    }
+
+    @Test
+    @DisplayName("Unit - getConnection - Must read from the primary for the rest of a request that committed a write")
+    void getConnectionTest02() {
+        // arrange
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest(), response));
+        JdbcTemplate jdbc = new JdbcTemplate(this.routing(replica));
+        assertEquals("replica", this.readNode(jdbc, true));
+
+        // act
+        this.transaction(jdbc, false).executeWithoutResult(status -> jdbc.update("UPDATE node SET hits = hits + 1"));
+
+        // assert
+        assertEquals("primary", this.readNode(jdbc, true));
+        Cookie cookie = response.getCookie(ReplicaLagGuard.COOKIE_NAME);
+        assertNotNull(cookie);
+        assertEquals(2, cookie.getMaxAge());
+    }
+
+    @Test
+    @DisplayName("Unit - getConnection - Must keep reading from the replica after a transaction that is not read-only but only read")
+    void getConnectionTest05() {
+        // arrange
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest(), response));
+        JdbcTemplate jdbc = new JdbcTemplate(this.routing(replica));
+
+        // act
+        assertEquals("primary", this.readNode(jdbc, false));
+
+        // assert
+        assertEquals("replica", this.readNode(jdbc, true));
+        assertNull(response.getCookie(ReplicaLagGuard.COOKIE_NAME));
+    }
+
+    @Test
+    @DisplayName("Unit - getConnection - Must read from the primary while the request carries the lag guard cookie")
+    void getConnectionTest03() {
+        // arrange
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setCookies(new Cookie(ReplicaLagGuard.COOKIE_NAME, "1"));
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+        JdbcTemplate jdbc = new JdbcTemplate(this.routing(replica));
+
+        // act and assert
+        assertEquals("primary", this.readNode(jdbc, true));
+    }
+
+    @Test
+    @DisplayName("Unit - getConnection - Must fall back to the primary when the replica is unreachable")
+    void getConnectionTest04() throws SQLException {
+        // arrange
+        DataSource unreachable = mock(DataSource.class);
+        when(unreachable.getConnection()).thenThrow(new SQLException("Connection refused"));
+        JdbcTemplate jdbc = new JdbcTemplate(this.routing(unreachable));
+
+        // act and assert
+        assertEquals("primary", this.readNode(jdbc, true));
+        assertEquals("primary", this.readNode(jdbc, true));
+    }
+
+    private DataSource routing(DataSource replica) {
+        return new LazyConnectionDataSourceProxy(new ReplicaRoutingDataSource(
+            primary, replica, new ReplicaLagGuard(Duration.ofMillis(1500)), 60_000));
+    }
+
+    private String readNode(JdbcTemplate jdbc, boolean readOnly) {
+        return this.transaction(jdbc, readOnly)
+            .execute(status -> jdbc.queryForObject("SELECT name FROM node", String.class));
+    }
+
+    private TransactionTemplate transaction(JdbcTemplate jdbc, boolean readOnly) {
+        TransactionTemplate transaction = new TransactionTemplate(new DataSourceTransactionManager(jdbc.getDataSource()));
+        transaction.setReadOnly(readOnly);
+        return transaction;
+    }
+
+    private static DataSource node(String name) {
+        DataSource dataSource = new DriverManagerDataSource("jdbc:h2:mem:" + name + ";DB_CLOSE_DELAY=-1", "sa", "");
+        JdbcTemplate jdbc = new JdbcTemplate(dataSource);
+        jdbc.execute("CREATE TABLE IF NOT EXISTS node (name VARCHAR(16), hits INT)");
+        jdbc.update("DELETE FROM node");
+        jdbc.update("INSERT INTO node (name, hits) VALUES (?, 0)", name);
+        return dataSource;
+    }
+}
\ No newline at end of file
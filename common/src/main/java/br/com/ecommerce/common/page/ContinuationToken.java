@@ -0,0 +1,36 @@
+package br.com.ecommerce.common.page;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.function.Function;
+
+/**
+ * Opaque cursor for keyset pagination, shared by the services of the store. Cursor listings are ordered by
+ * id only, so the token holds just the last id seen and no other ordering can be requested.
+ */
+public final class ContinuationToken {
+
+	private ContinuationToken() {}
+
+
+	public static String encode(Object lastId) {
+		return Base64.getUrlEncoder().withoutPadding()
+			.encodeToString(String.valueOf(lastId).getBytes(StandardCharsets.UTF_8));
+	}
+
+	/**
+	 * @param parser turns the decoded value into an id, throwing {@link IllegalArgumentException} when it
+	 * does not hold one
+	 * @throws IllegalArgumentException if the token does not hold an id
+	 */
+	public static <T> T decode(String token, Function<String, T> parser) {
+		if (token == null || token.isBlank()) return null;
+		try {
+			String value = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+			return parser.apply(value);
+
+		} catch (IllegalArgumentException ex) {
+			throw new IllegalArgumentException("Invalid cursor");
+		}
+	}
+}
\ No newline at end of file
@@ -1,28 +1,20 @@
 package br.com.ecommerce.orders.api.client;
 
-import java.util.Map;
+import java.util.List;
 import java.util.Set;
 
 import org.springframework.cloud.openfeign.FeignClient;
-import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
-import org.springframework.web.bind.annotation.RequestParam;
 
-import br.com.ecommerce.orders.api.dto.product.InternalProductDataDTO;
+import br.com.ecommerce.orders.api.dto.product.CheckoutQuoteDTO;
 import br.com.ecommerce.orders.api.dto.product.ProductAndUnitDTO;
-import br.com.ecommerce.orders.api.dto.product.ProductOutOfStockDTO;
 
 @FeignClient(value = "products-ms")
 public interface ProductClient {
 
 	@PostMapping(
-		value = "/internal/products/stocks",
+		value = "/internal/products/checkout-quote",
 		headers = {"Content-Type: application/json"})
-	Set<ProductOutOfStockDTO> verifyStocks(@RequestBody Set<ProductAndUnitDTO> products);
-
-	@GetMapping(
-		value = "/internal/products/prices",
-		headers = {"Content-Type: application/json"})
-	Map<String, InternalProductDataDTO> getPrices(@RequestParam("productIds") Set<String> productsId);
+	List<CheckoutQuoteDTO> getCheckoutQuote(@RequestBody Set<ProductAndUnitDTO> products);
 }
\ No newline at end of file
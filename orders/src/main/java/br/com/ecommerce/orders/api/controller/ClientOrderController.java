@@ -11,11 +11,13 @@ import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import br.com.ecommerce.common.user.UserDetailsImpl;
 import br.com.ecommerce.orders.api.dto.order.OrderBasicInfDTO;
 import br.com.ecommerce.orders.api.dto.order.OrderDTO;
+import br.com.ecommerce.orders.api.dto.page.CursorPageDTO;
 import br.com.ecommerce.orders.api.openapi.IClientOrderController;
 import br.com.ecommerce.orders.business.service.OrderService;
 import br.com.ecommerce.orders.infra.entity.OrderStatus;
@@ -38,6 +40,15 @@ public class ClientOrderController implements IClientOrderController {
 		return ResponseEntity.ok(service.getAllOrdersByUser(pageable, user.getId()));
 	}
 
+	@GetMapping("/cursor")
+	public ResponseEntity<CursorPageDTO<OrderBasicInfDTO>> getAllBasicsInfoOrdersByUserAfter(
+		@AuthenticationPrincipal UserDetailsImpl user,
+		@RequestParam(required = false) String cursor,
+		@RequestParam(defaultValue = "10") int size
+	) {
+		return ResponseEntity.ok(service.getAllOrdersByUserAfter(cursor, size, user.getId()));
+	}
+
 	@GetMapping("/{orderId}")
 	public ResponseEntity<OrderDTO> getOrderByIdAndUserId(
 		@PathVariable String orderId,
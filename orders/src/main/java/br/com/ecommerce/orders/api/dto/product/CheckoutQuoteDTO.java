@@ -0,0 +1,29 @@
+package br.com.ecommerce.orders.api.dto.product;
+
+import java.math.BigDecimal;
+
+import com.fasterxml.jackson.annotation.JsonAlias;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class CheckoutQuoteDTO {
+
+	@JsonAlias("productId")
+	private String id;
+
+	private String name;
+
+	private BigDecimal price;
+
+	private String imageLink;
+
+	@JsonAlias("unit")
+	private Integer stock;
+
+	private boolean available;
+}
\ No newline at end of file
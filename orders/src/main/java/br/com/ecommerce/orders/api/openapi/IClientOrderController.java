@@ -6,17 +6,21 @@ import org.springframework.data.web.PageableDefault;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestParam;
 
 import br.com.ecommerce.common.user.UserDetailsImpl;
 import br.com.ecommerce.orders.api.dto.exception.ResponseError;
 import br.com.ecommerce.orders.api.dto.order.OrderBasicInfDTO;
 import br.com.ecommerce.orders.api.dto.order.OrderDTO;
+import br.com.ecommerce.orders.api.dto.page.CursorPageDTO;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
 
 @Tag(
     name = "client-order-controller",
@@ -40,6 +44,24 @@ public interface IClientOrderController {
         @PageableDefault(size = 10) Pageable pageable
     );
 
+    @Operation(
+        summary = "Get all basic information of all orders of a customer by cursor",
+        description = 
+            """
+            Returns the basic information of the customer's orders, newest first, using keyset pagination.
+            
+            - The total of orders is not counted, which keeps deep pages as cheap as the first one.
+            - Send the `nextCursor` of a response as the `cursor` parameter to get the next page; it is null on the last page.
+            - `size` must be between 1 and 100.
+            - Orders are always ordered by ID; other orderings are not supported.
+            """
+    )
+    public ResponseEntity<CursorPageDTO<OrderBasicInfDTO>> getAllBasicsInfoOrdersByUserAfter(
+        @AuthenticationPrincipal UserDetailsImpl user,
+        @RequestParam(required = false) String cursor,
+        @RequestParam(defaultValue = "10") @Min(1) @Max(100) int size
+    );
+
     @Operation(
         summary = "Get all the data from a customer's order",
         description = 
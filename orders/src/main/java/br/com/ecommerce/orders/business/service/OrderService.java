@@ -3,18 +3,24 @@ package br.com.ecommerce.orders.business.service;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
+import org.bson.types.ObjectId;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import br.com.ecommerce.common.page.ContinuationToken;
 import br.com.ecommerce.orders.api.client.ProductClient;
 import br.com.ecommerce.orders.api.dto.order.OrderBasicInfDTO;
 import br.com.ecommerce.orders.api.dto.order.OrderDTO;
-import br.com.ecommerce.orders.api.dto.product.InternalProductDataDTO;
+import br.com.ecommerce.orders.api.dto.page.CursorPageDTO;
+import br.com.ecommerce.orders.api.dto.product.CheckoutQuoteDTO;
 import br.com.ecommerce.orders.api.dto.product.ProductAndUnitDTO;
 import br.com.ecommerce.orders.api.dto.product.ProductOutOfStockDTO;
 import br.com.ecommerce.orders.api.mapper.OrderMapper;
@@ -43,20 +49,22 @@ public class OrderService {
 
 	@Transactional
 	public Order saveOrder(Set<ProductAndUnitDTO> dtos, String userId) {
-		// validate stock
-		Set<ProductOutOfStockDTO> outOfStockProducts = this.productClient.verifyStocks(dtos);
+		// validate stock and get products
+		Map<String, CheckoutQuoteDTO> quotes = this.productClient.getCheckoutQuote(dtos).stream()
+			.collect(Collectors.toMap(CheckoutQuoteDTO::getId, Function.identity()));
+		Set<ProductOutOfStockDTO> outOfStockProducts = quotes.values().stream()
+			.filter(quote -> !quote.isAvailable())
+			.map(quote -> new ProductOutOfStockDTO(quote.getId(), quote.getName(), quote.getStock()))
+			.collect(Collectors.toSet());
 		if (!outOfStockProducts.isEmpty()) throw new OutOfStockException(outOfStockProducts);
-		
-		// get products
-		Set<String> ids = dtos.stream().map(ProductAndUnitDTO::getId).collect(Collectors.toSet());
-		Map<String, InternalProductDataDTO> priceMap = this.productClient.getPrices(ids);
+
 		List<Product> products = dtos.stream()
 			.map(data -> new Product(
 				data.getId(),
-				priceMap.get(data.getId()).getName(), 
-				priceMap.get(data.getId()).getPrice(), 
+				quotes.get(data.getId()).getName(), 
+				quotes.get(data.getId()).getPrice(), 
 				data.getUnit(),
-				priceMap.get(data.getId()).getImageLink()))
+				quotes.get(data.getId()).getImageLink()))
 			.toList();
 
 		Order newOrder = new Order(userId, products);
@@ -79,6 +87,25 @@ public class OrderService {
 			.map(orderMapper::toOrderBasicInfoDTO);
 	}
 
+	/**
+	 * Seeks on the order id, newest first. The cursor is an opaque token of the id of the last order returned.
+	 */
+	public CursorPageDTO<OrderBasicInfDTO> getAllOrdersByUserAfter(String cursor, int size, String userId) {
+		Pageable pageable = PageRequest.ofSize(size);
+		String lastId = ContinuationToken.decode(cursor, OrderService::orderId);
+		Slice<Order> slice = lastId == null
+			? this.orderRepository.findAllByUserIdOrderByIdDesc(userId, pageable)
+			: this.orderRepository.findAllByUserIdAndIdLessThanOrderByIdDesc(userId, lastId, pageable);
+
+		List<Order> orders = slice.getContent();
+		String nextCursor = slice.hasNext() ? ContinuationToken.encode(orders.get(orders.size() - 1).getId()) : null;
+		return new CursorPageDTO<>(
+			orders.stream().map(orderMapper::toOrderBasicInfoDTO).toList(),
+			orders.size(),
+			slice.hasNext(),
+			nextCursor);
+	}
+
 	@Transactional
 	public OrderDTO updateOrderStatus(String userId, String orderId, OrderStatus newStatus) {
 		return orderRepository.findByIdAndUserId(orderId, userId)
@@ -108,4 +135,9 @@ public class OrderService {
 					products -> orderMapper.toOrderDTO(order, products))))
 			.orElseThrow(OrderNotFoundException::new);
 	}
+
+	private static String orderId(String value) {
+		if (!ObjectId.isValid(value)) throw new IllegalArgumentException("Invalid order id");
+		return value;
+	}
 }
\ No newline at end of file
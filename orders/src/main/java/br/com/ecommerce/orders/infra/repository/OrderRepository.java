@@ -4,6 +4,7 @@ import java.util.Optional;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.mongodb.repository.MongoRepository;
 
 import br.com.ecommerce.orders.infra.entity.Order;
@@ -13,4 +14,8 @@ public interface OrderRepository extends MongoRepository<Order, String> {
 	Optional<Order> findByIdAndUserId(String id, String userId);
 
 	Page<Order> findAllByUserId(Pageable pageable, String userId);
+
+	Slice<Order> findAllByUserIdOrderByIdDesc(String userId, Pageable pageable);
+
+	Slice<Order> findAllByUserIdAndIdLessThanOrderByIdDesc(String userId, String lastId, Pageable pageable);
 }
\ No newline at end of file
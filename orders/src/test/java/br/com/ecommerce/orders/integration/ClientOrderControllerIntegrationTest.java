@@ -130,6 +130,24 @@ class ClientOrderControllerIntegrationTest {
         .andExpect(status().isForbidden());
     }
 
+    @Test
+    @WithMockUser(roles = "CLIENT")
+    void getAllBasicsInfoOrdersByUserAfterTest01_withSizeOutOfBounds() throws Exception {
+        // arrange
+        MockUserUtils.mockUser(orderPersisted.getUserId());
+
+        for (String size : List.of("0", "-1", "101")) {
+            // act
+            mvc.perform(
+                get(basePath + "/cursor")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .param("size", size)
+            )
+            // assert
+            .andExpect(status().isBadRequest());
+        }
+    }
+
     @Test
     @WithMockUser(roles = "CLIENT")
     void cancelOrderTest01() throws IOException, Exception {
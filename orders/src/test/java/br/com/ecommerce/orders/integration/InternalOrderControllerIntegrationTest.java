@@ -2,7 +2,6 @@ package br.com.ecommerce.orders.integration;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anySet;
-import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -11,11 +10,7 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 
 import java.io.IOException;
 import java.math.BigDecimal;
-import java.util.Collections;
 import java.util.List;
-import java.util.Map;
-import java.util.Set;
-import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 
 import org.junit.jupiter.api.BeforeAll;
@@ -38,9 +33,8 @@ import org.springframework.test.web.servlet.MockMvc;
 
 import br.com.ecommerce.common.annotations.TestCustomWithMockUser;
 import br.com.ecommerce.orders.api.client.ProductClient;
-import br.com.ecommerce.orders.api.dto.product.InternalProductDataDTO;
+import br.com.ecommerce.orders.api.dto.product.CheckoutQuoteDTO;
 import br.com.ecommerce.orders.api.dto.product.ProductAndUnitDTO;
-import br.com.ecommerce.orders.api.dto.product.ProductOutOfStockDTO;
 import br.com.ecommerce.orders.infra.entity.Order;
 import br.com.ecommerce.orders.infra.entity.OrderStatus;
 import br.com.ecommerce.orders.infra.entity.Product;
@@ -119,15 +113,12 @@ class InternalOrderControllerIntegrationTest {
         // arrange
         var requestBody = List.of(new ProductAndUnitDTO("1", 100));
 
-        when(productClient.verifyStocks(anySet()))
-            .thenReturn(Collections.emptySet());
-
-        Set<String> listOfIds = requestBody.stream().map(ProductAndUnitDTO::getId).collect(Collectors.toSet());
-        InternalProductDataDTO nameAndPrice = new InternalProductDataDTO("any name", BigDecimal.ONE, randomUtils.getRandomString());
-        Map<String, InternalProductDataDTO> priceMap = listOfIds.stream()
-            .collect(Collectors.toMap(id -> id, id -> nameAndPrice));
-        when(productClient.getPrices(eq(listOfIds)))
-            .thenReturn(priceMap);
+        List<CheckoutQuoteDTO> checkoutQuote = requestBody.stream()
+            .map(data -> new CheckoutQuoteDTO(
+                data.getId(), "any name", BigDecimal.ONE, randomUtils.getRandomString(), 1000, true))
+            .toList();
+        when(productClient.getCheckoutQuote(anySet()))
+            .thenReturn(checkoutQuote);
 
         // act
         mvc.perform(
@@ -148,9 +139,9 @@ class InternalOrderControllerIntegrationTest {
     void createOrderTest02() throws IOException, Exception {
         // arrange
         List<ProductAndUnitDTO> requestBody = List.of();
-        var stockResponse = Set.of(new ProductOutOfStockDTO(null, null, null));
-        when(productClient.verifyStocks(anySet()))
-            .thenReturn(stockResponse);
+        var checkoutQuote = List.of(new CheckoutQuoteDTO(null, null, null, null, null, false));
+        when(productClient.getCheckoutQuote(anySet()))
+            .thenReturn(checkoutQuote);
 
         // act
         mvc.perform(
@@ -2,6 +2,7 @@ package br.com.ecommerce.orders.unit;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyString;
@@ -12,11 +13,10 @@ import static org.mockito.Mockito.when;
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.util.List;
-import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
-import java.util.stream.Collectors;
 
+import org.bson.types.ObjectId;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -25,13 +25,15 @@ import org.mockito.Captor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.SliceImpl;
 
+import br.com.ecommerce.common.page.ContinuationToken;
 import br.com.ecommerce.orders.api.client.ProductClient;
 import br.com.ecommerce.orders.api.dto.order.OrderDTO;
-import br.com.ecommerce.orders.api.dto.product.InternalProductDataDTO;
+import br.com.ecommerce.orders.api.dto.product.CheckoutQuoteDTO;
 import br.com.ecommerce.orders.api.dto.product.ProductAndUnitDTO;
 import br.com.ecommerce.orders.api.dto.product.ProductDTO;
-import br.com.ecommerce.orders.api.dto.product.ProductOutOfStockDTO;
 import br.com.ecommerce.orders.api.mapper.OrderMapper;
 import br.com.ecommerce.orders.api.mapper.ProductMapper;
 import br.com.ecommerce.orders.business.service.OrderService;
@@ -73,13 +75,13 @@ class OrderServiceUnitTest {
 			new ProductAndUnitDTO("3", 100)
 		);
 
-		var responseBodyVerifyStocks = Set.of(
-			new ProductOutOfStockDTO("1", "product-1", 1), 
-			new ProductOutOfStockDTO("2", "product-2", 1), 
-			new ProductOutOfStockDTO("3", "product-3", 1)
+		var responseBodyCheckoutQuote = List.of(
+			new CheckoutQuoteDTO("1", "product-1", price, "imagelink", 1, false), 
+			new CheckoutQuoteDTO("2", "product-2", price, "imagelink", 1, false), 
+			new CheckoutQuoteDTO("3", "product-3", price, "imagelink", 1, false)
 		);
-		when(productClient.verifyStocks(any()))
-			.thenReturn(responseBodyVerifyStocks);
+		when(productClient.getCheckoutQuote(any()))
+			.thenReturn(responseBodyCheckoutQuote);
 
 		// act and assert
 		assertThrows(OutOfStockException.class, 
@@ -96,16 +98,11 @@ class OrderServiceUnitTest {
 		);
 
 		// simulates that all products have sufficient stock to create the order
-		Set<ProductOutOfStockDTO> responseBodyVerifyStocks = Set.of();
-		when(productClient.verifyStocks(any()))
-			.thenReturn(responseBodyVerifyStocks);
-
-        Set<String> listOfIds = input.stream().map(ProductAndUnitDTO::getId).collect(Collectors.toSet());
-        InternalProductDataDTO nameAndPrice = new InternalProductDataDTO("any name", BigDecimal.ONE, "imagelink");
-        Map<String, InternalProductDataDTO> priceMap = listOfIds.stream()
-            .collect(Collectors.toMap(id -> id, id -> nameAndPrice));
-        when(productClient.getPrices(eq(listOfIds)))
-            .thenReturn(priceMap);
+        List<CheckoutQuoteDTO> responseBodyCheckoutQuote = input.stream()
+            .map(data -> new CheckoutQuoteDTO(data.getId(), "any name", BigDecimal.ONE, "imagelink", 1000, true))
+            .toList();
+        when(productClient.getCheckoutQuote(eq(input)))
+            .thenReturn(responseBodyCheckoutQuote);
 
 		// act
 		service.saveOrder(input, "1");
@@ -155,4 +152,32 @@ class OrderServiceUnitTest {
 		verify(orderMock).updateOrderStatus(any());
 		verify(orderMapper).toOrderDTO(orderCaptor.capture(), anyList());
 	}
+
+	@Test
+	@DisplayName("Unit - getAllOrdersByUserAfter - Must seek after the cursor and return the last id as next cursor")
+	void getAllOrdersByUserAfterTest01() {
+		// arrange
+		String lastId = new ObjectId().toHexString();
+		String nextId = new ObjectId().toHexString();
+		when(orderMock.getId()).thenReturn(nextId);
+		when(repository.findAllByUserIdAndIdLessThanOrderByIdDesc(eq("1"), eq(lastId), any()))
+			.thenReturn(new SliceImpl<>(List.of(orderMock), PageRequest.ofSize(1), true));
+
+		// act
+		var result = service.getAllOrdersByUserAfter(ContinuationToken.encode(lastId), 1, "1");
+
+		// assert
+		assertEquals(1, result.getSize());
+		assertTrue(result.isHasNext());
+		assertEquals(nextId, ContinuationToken.decode(result.getNextCursor(), String::valueOf));
+	}
+
+	@Test
+	@DisplayName("Unit - getAllOrdersByUserAfter - Should throw exception when the cursor is not an order id")
+	void getAllOrdersByUserAfterTest02() {
+		assertThrows(IllegalArgumentException.class, 
+			() -> service.getAllOrdersByUserAfter("invalid", 10, "1"));
+		assertThrows(IllegalArgumentException.class, 
+			() -> service.getAllOrdersByUserAfter(ContinuationToken.encode("invalid"), 10, "1"));
+	}
 }
\ No newline at end of file
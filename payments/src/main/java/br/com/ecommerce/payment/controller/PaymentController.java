@@ -15,12 +15,15 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import br.com.ecommerce.payment.model.CursorPageDTO;
 import br.com.ecommerce.payment.model.Payment;
 import br.com.ecommerce.payment.model.PaymentConfirmDTO;
 import br.com.ecommerce.payment.model.PaymentDTO;
 import br.com.ecommerce.payment.model.PaymentStatus;
 import br.com.ecommerce.payment.service.PaymentService;
 import jakarta.transaction.Transactional;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
 
 @RestController
 @RequestMapping("/payments")
@@ -45,6 +48,21 @@ public class PaymentController {
 		return ResponseEntity.ok(payments);
 	}
 
+	/*
+	 * Keyset pagination ordered by id only, other orderings are not supported
+	 */
+	@GetMapping("/cursor")
+	public ResponseEntity<CursorPageDTO<PaymentDTO>> getAllByCursor(
+		@RequestParam(required = false) String cursor,
+		@RequestParam(defaultValue = "10") @Min(1) @Max(100) int size,
+		@RequestParam(required = false) Long orderId, 
+		@RequestParam(required = false) Long userId, 
+		@RequestParam(required = false) BigDecimal paymentAmount, 
+		@RequestParam(required = false) PaymentStatus status
+	) {
+		return ResponseEntity.ok(service.getAllByParamsAfter(cursor, size, orderId, userId, paymentAmount, status));
+	}
+
 	/* 
 	 * Mock a payment confirmation of a payment provider service
 	 */
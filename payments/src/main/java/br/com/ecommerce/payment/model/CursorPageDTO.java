@@ -0,0 +1,11 @@
+package br.com.ecommerce.payment.model;
+
+import java.util.List;
+
+public record CursorPageDTO<T>(
+
+	List<T> content,
+	int size,
+	boolean hasNext,
+	String nextCursor) {
+}
\ No newline at end of file
@@ -5,6 +5,7 @@ import java.util.Optional;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 
@@ -29,5 +30,22 @@ public interface PaymentRepository extends JpaRepository<Payment, Long>{
 		BigDecimal paymentAmount,
 		PaymentStatus status);
 
+	@Query("""
+			SELECT p FROM Payment p WHERE 
+			p.id > :lastId
+			AND (:orderId IS NULL OR p.orderId = :orderId)
+			AND (:userId IS NULL OR p.userId = :userId)
+			AND (:paymentAmount IS NULL OR p.paymentAmount = :paymentAmount)
+			AND (:status IS NULL OR p.status = :status)
+			ORDER BY p.id
+		""")
+	Slice<Payment> findAllByParamsAfterId(
+		Long lastId,
+		Long orderId,
+		Long userId,
+		BigDecimal paymentAmount,
+		PaymentStatus status,
+		Pageable pageable);
+
     Optional<Payment> findByOrderId(String id);
 }
\ No newline at end of file
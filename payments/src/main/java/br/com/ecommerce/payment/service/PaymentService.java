@@ -1,13 +1,20 @@
 package br.com.ecommerce.payment.service;
 
 import java.math.BigDecimal;
+import java.util.List;
+import java.util.Optional;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import br.com.ecommerce.common.page.ContinuationToken;
 import br.com.ecommerce.payment.exception.PaymentNotFoundException;
+import br.com.ecommerce.payment.model.CursorPageDTO;
 import br.com.ecommerce.payment.model.Payment;
 import br.com.ecommerce.payment.model.PaymentDTO;
 import br.com.ecommerce.payment.model.PaymentStatus;
@@ -42,6 +49,7 @@ public class PaymentService {
 	}
 
 	//admin
+	@Transactional(readOnly = true)
 	public Page<PaymentDTO> getAllByParams(
 			Pageable pageable,
 			Long paymentId,
@@ -59,4 +67,31 @@ public class PaymentService {
 			status)
 			.map(p -> new PaymentDTO(p));
 	}
+
+	//admin
+	@Transactional(readOnly = true)
+	public CursorPageDTO<PaymentDTO> getAllByParamsAfter(
+			String cursor,
+			int size,
+			Long orderId,
+			Long userId,
+			BigDecimal paymentAmount, 
+			PaymentStatus status) {
+
+		Slice<Payment> slice = repository.findAllByParamsAfterId(
+			Optional.ofNullable(ContinuationToken.decode(cursor, Long::valueOf)).orElse(0L),
+			orderId,
+			userId,
+			paymentAmount,
+			status,
+			PageRequest.ofSize(size));
+
+		List<Payment> payments = slice.getContent();
+		String nextCursor = slice.hasNext() ? ContinuationToken.encode(payments.get(payments.size() - 1).getId()) : null;
+		return new CursorPageDTO<>(
+			payments.stream().map(PaymentDTO::new).toList(),
+			payments.size(),
+			slice.hasNext(),
+			nextCursor);
+	}
 }
\ No newline at end of file
@@ -1,8 +1,11 @@
 package br.com.ecommerce.payment.unit;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
@@ -24,7 +27,9 @@ import org.springframework.data.domain.PageImpl;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 
+import br.com.ecommerce.common.page.ContinuationToken;
 import br.com.ecommerce.payment.controller.PaymentController;
+import br.com.ecommerce.payment.model.CursorPageDTO;
 import br.com.ecommerce.payment.model.Payment;
 import br.com.ecommerce.payment.model.PaymentConfirmDTO;
 import br.com.ecommerce.payment.model.PaymentDTO;
@@ -68,6 +73,42 @@ class PaymentControllerUnitTest {
 		verify(service).getAllByParams(any(), any(), any(), any(), any(), any());
 	}
 
+	@Test
+	void getAllByCursorTest01() throws IOException, Exception {
+		// arrange
+		var mockValueReturned = new CursorPageDTO<>(
+			List.of(new PaymentDTO("1", "1", BigDecimal.TEN)), 1, true, ContinuationToken.encode(5L));
+		when(service.getAllByParamsAfter(any(), anyInt(), any(), any(), any(), any())).thenReturn(mockValueReturned);
+
+		// act
+		mvc.perform(
+			get("/payments/cursor")
+				.contentType(MediaType.APPLICATION_JSON)
+				.param("cursor", ContinuationToken.encode(4L))
+				.param("size", "1")
+		)
+		// assert
+		.andExpect(status().isOk())
+		.andExpect(jsonPath("$.nextCursor").value(mockValueReturned.nextCursor()));
+
+		verify(service).getAllByParamsAfter(eq(ContinuationToken.encode(4L)), eq(1), any(), any(), any(), any());
+	}
+
+	@Test
+	void getAllByCursorTest02_withSizeOutOfBounds() throws IOException, Exception {
+		for (String size : List.of("0", "-1", "101")) {
+			// act
+			mvc.perform(
+				get("/payments/cursor")
+					.contentType(MediaType.APPLICATION_JSON)
+					.param("size", size)
+			)
+			// assert
+			.andExpect(status().isBadRequest());
+		}
+		verifyNoInteractions(service);
+	}
+
 	@Test
 	void confirmPaymentTest01() throws IOException, Exception {
 		// arrange
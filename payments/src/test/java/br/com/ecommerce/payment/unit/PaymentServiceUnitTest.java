@@ -3,13 +3,16 @@ package br.com.ecommerce.payment.unit;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 import java.math.BigDecimal;
+import java.util.List;
 import java.util.Optional;
 
 import org.junit.jupiter.api.DisplayName;
@@ -18,7 +21,10 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.SliceImpl;
 
+import br.com.ecommerce.common.page.ContinuationToken;
 import br.com.ecommerce.payment.model.Payment;
 import br.com.ecommerce.payment.model.PaymentDTO;
 import br.com.ecommerce.payment.model.PaymentStatus;
@@ -118,6 +124,29 @@ class PaymentServiceUnitTest {
         assertEquals(PaymentStatus.CANCELED, result.getStatus());
     }
 
+    @Test
+    @DisplayName("Unit - getAllByParamsAfter - Must start from the first id and return the last id as next cursor")
+    void getAllByParamsAfterTest01() {
+        // arrange
+        Payment payment = Payment.builder()
+            .id(5L)
+            .orderId("1")
+            .userId("1")
+            .status(PaymentStatus.AWAITING)
+            .paymentAmount(BigDecimal.TEN)
+            .build();
+        when(repository.findAllByParamsAfterId(eq(0L), any(), any(), any(), any(), any()))
+            .thenReturn(new SliceImpl<>(List.of(payment), PageRequest.ofSize(1), true));
+
+        // act
+        var result = service.getAllByParamsAfter(null, 1, null, null, null, null);
+
+        // assert
+        assertEquals(1, result.size());
+        assertTrue(result.hasNext());
+        assertEquals(5L, ContinuationToken.<Long>decode(result.nextCursor(), Long::valueOf));
+    }
+
     private Payment getPaymentMock(PaymentStatus status) {
         return Payment.builder()
             .orderId("1")
@@ -126,4 +155,4 @@ class PaymentServiceUnitTest {
             .paymentAmount(BigDecimal.TEN)
             .build();
     }
-}
+}
\ No newline at end of file
@@ -0,0 +1,39 @@
+package br.com.ecommerce.products.api.amqp;
+
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.amqp.AmqpException;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import br.com.ecommerce.products.infra.transaction.AfterCommit;
+import lombok.AllArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Announces the products whose name, price or main image changed, so services keeping a copy of that
+ * data can drop it. Sent once the change commits; a message that is lost is only covered by the
+ * expiration of the copies.
+ */
+@Slf4j
+@Component
+@Profile("!test")
+@AllArgsConstructor
+public class ProductChangePublisher {
+
+	private final RabbitTemplate template;
+
+
+	public void publishAfterCommit(Collection<Long> productIds) {
+		List<Long> ids = List.copyOf(productIds);
+		AfterCommit.run(() -> {
+			try {
+				template.convertAndSend("products.changes.ex", "", ids);
+			} catch (AmqpException ex) {
+				log.warn("Product changes not published: {}", ex.getMessage());
+			}
+		});
+	}
+}
\ No newline at end of file
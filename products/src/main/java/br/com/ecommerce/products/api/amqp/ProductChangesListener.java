@@ -0,0 +1,31 @@
+package br.com.ecommerce.products.api.amqp;
+
+import java.util.List;
+
+import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import org.springframework.context.annotation.Profile;
+import org.springframework.messaging.handler.annotation.Payload;
+import org.springframework.stereotype.Component;
+
+import br.com.ecommerce.products.infra.cache.ProductDetailCache;
+import br.com.ecommerce.products.infra.cache.ProductPriceCache;
+import lombok.AllArgsConstructor;
+
+/**
+ * Evicts the products changed through any instance, including this one, from the caches of this instance.
+ */
+@AllArgsConstructor
+@Component
+@Profile("!test")
+public class ProductChangesListener {
+
+	private final ProductPriceCache priceCache;
+	private final ProductDetailCache detailCache;
+
+
+	@RabbitListener(queues = "#{queueProductChanges.name}")
+	public void receiveProductChanges(@Payload List<Long> productIds) {
+		priceCache.evictAll(productIds);
+		detailCache.evictAll(productIds);
+	}
+}
\ No newline at end of file
@@ -1,15 +1,21 @@
 package br.com.ecommerce.products.api.amqp;
 
+import org.springframework.amqp.core.AcknowledgeMode;
+import org.springframework.amqp.core.AnonymousQueue;
 import org.springframework.amqp.core.Binding;
 import org.springframework.amqp.core.BindingBuilder;
 import org.springframework.amqp.core.DirectExchange;
 import org.springframework.amqp.core.ExchangeBuilder;
+import org.springframework.amqp.core.FanoutExchange;
 import org.springframework.amqp.core.Queue;
 import org.springframework.amqp.core.QueueBuilder;
+import org.springframework.amqp.rabbit.config.SimpleRabbitListenerContainerFactory;
 import org.springframework.amqp.rabbit.connection.ConnectionFactory;
 import org.springframework.amqp.rabbit.core.RabbitAdmin;
 import org.springframework.amqp.rabbit.core.RabbitTemplate;
 import org.springframework.amqp.support.converter.Jackson2JsonMessageConverter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.context.event.ApplicationReadyEvent;
 import org.springframework.context.ApplicationListener;
 import org.springframework.context.annotation.Bean;
@@ -42,6 +48,16 @@ public class ProductsAMQPConfig {
 		return template;
 	}
 
+	// Sender configs
+	@Configuration
+	static class Sender {
+
+		@Bean
+		FanoutExchange fanoutExchangeProductChanges() {
+			return ExchangeBuilder.fanoutExchange("products.changes.ex").build();
+		}
+	}
+
 	// Receiver configs
 	@Configuration
 	static class Receiver {
@@ -63,5 +79,41 @@ public class ProductsAMQPConfig {
 				.to(this.discoverExchangeOrders())
 				.with("stock");
 		}
+
+		/**
+		 * Every instance keeps its own product caches, so each one needs its own queue, removed when the
+		 * instance disconnects.
+		 */
+		@Bean
+		Queue queueProductChanges() {
+			return new AnonymousQueue();
+		}
+
+		@Bean
+		Binding bindProductChanges(FanoutExchange fanoutExchangeProductChanges) {
+			return BindingBuilder.bind(this.queueProductChanges()).to(fanoutExchangeProductChanges);
+		}
+
+		/**
+		 * Hands the listener up to {@code size} messages at a time, or fewer once no message arrives for
+		 * {@code receive-timeout-millis}. Acknowledged by the listener, message by message.
+		 */
+		@Bean
+		@ConditionalOnProperty(prefix = "api.stocks.batch-listener", name = "enabled", havingValue = "true")
+		SimpleRabbitListenerContainerFactory stockBatchContainerFactory(
+			ConnectionFactory conn,
+			@Value("${api.stocks.batch-listener.size:100}") int batchSize,
+			@Value("${api.stocks.batch-listener.receive-timeout-millis:50}") long receiveTimeout
+		) {
+			SimpleRabbitListenerContainerFactory factory = new SimpleRabbitListenerContainerFactory();
+			factory.setConnectionFactory(conn);
+			factory.setBatchListener(true);
+			factory.setConsumerBatchEnabled(true);
+			factory.setBatchSize(batchSize);
+			factory.setPrefetchCount(batchSize);
+			factory.setReceiveTimeout(receiveTimeout);
+			factory.setAcknowledgeMode(AcknowledgeMode.MANUAL);
+			return factory;
+		}
 	}
 }
\ No newline at end of file
@@ -0,0 +1,97 @@
+package br.com.ecommerce.products.api.amqp;
+
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.rabbitmq.client.Channel;
+
+import br.com.ecommerce.products.api.dto.product.StockWriteOffDTO;
+import br.com.ecommerce.products.business.service.ProductService;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.ConstraintViolationException;
+import jakarta.validation.Validator;
+import lombok.AllArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Replaces {@link ProductsListener} when {@code api.stocks.batch-listener.enabled} is set, consuming the stock
+ * write-offs in batches of messages.
+ */
+@Slf4j
+@AllArgsConstructor
+@Component
+@ConditionalOnProperty(prefix = "api.stocks.batch-listener", name = "enabled", havingValue = "true")
+public class ProductsBatchListener {
+
+	private static final TypeReference<List<StockWriteOffDTO>> WRITE_OFFS = new TypeReference<>() {};
+
+	private final ProductService service;
+	private final ObjectMapper objectMapper;
+	private final Validator validator;
+
+
+	/**
+	 * Applies the write-offs of the whole batch in one transaction. If it fails, each message is applied on its
+	 * own, so only the messages failing again go back to the queue. Invalid messages are rejected without
+	 * requeue, as the single message listener does.
+	 */
+	@RabbitListener(queues = "products.stock-orders", containerFactory = "stockBatchContainerFactory")
+	public void receiveQueueMessagesOrder(List<Message> messages, Channel channel) throws IOException {
+		Map<Long, List<StockWriteOffDTO>> writeOffsByDeliveryTag = new LinkedHashMap<>();
+		for (Message message : messages) {
+			long deliveryTag = message.getMessageProperties().getDeliveryTag();
+			try {
+				writeOffsByDeliveryTag.put(deliveryTag, this.read(message));
+			} catch (IOException | ConstraintViolationException ex) {
+				log.warn("Stock write-off message rejected: {}", ex.getMessage());
+				channel.basicReject(deliveryTag, false);
+			}
+		}
+		if (writeOffsByDeliveryTag.isEmpty()) return;
+
+		try {
+			service.updateStocksInBatch(List.copyOf(writeOffsByDeliveryTag.values()));
+		} catch (RuntimeException ex) {
+			log.warn("Stock write-off batch failed, applying its messages one by one", ex);
+			this.applyOneByOne(writeOffsByDeliveryTag, channel);
+			return;
+		}
+		for (Long deliveryTag : writeOffsByDeliveryTag.keySet()) {
+			channel.basicAck(deliveryTag, false);
+		}
+	}
+
+	private void applyOneByOne(Map<Long, List<StockWriteOffDTO>> writeOffsByDeliveryTag, Channel channel) throws IOException {
+		for (Map.Entry<Long, List<StockWriteOffDTO>> entry : writeOffsByDeliveryTag.entrySet()) {
+			try {
+				service.updateStocks(entry.getValue());
+				channel.basicAck(entry.getKey(), false);
+			} catch (RuntimeException ex) {
+				log.warn("Stock write-off message requeued: {}", ex.getMessage());
+				channel.basicNack(entry.getKey(), false, true);
+			}
+		}
+	}
+
+	private List<StockWriteOffDTO> read(Message message) throws IOException {
+		List<StockWriteOffDTO> writeOffs = objectMapper.readValue(message.getBody(), WRITE_OFFS);
+		if (writeOffs == null || writeOffs.contains(null)) throw new ConstraintViolationException("Null stock write-off message or line", Set.of());
+
+		Set<ConstraintViolation<StockWriteOffDTO>> violations = writeOffs.stream()
+			.flatMap(writeOff -> validator.validate(writeOff).stream())
+			.collect(Collectors.toSet());
+		if (!violations.isEmpty()) throw new ConstraintViolationException(violations);
+		return writeOffs;
+	}
+}
\ No newline at end of file
@@ -3,6 +3,7 @@ package br.com.ecommerce.products.api.amqp;
 import java.util.List;
 
 import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.messaging.handler.annotation.Payload;
 import org.springframework.stereotype.Component;
 
@@ -13,6 +14,7 @@ import lombok.AllArgsConstructor;
 
 @AllArgsConstructor
 @Component
+@ConditionalOnProperty(prefix = "api.stocks.batch-listener", name = "enabled", havingValue = "false", matchIfMissing = true)
 public class ProductsListener {
 
 	private final ProductService service;
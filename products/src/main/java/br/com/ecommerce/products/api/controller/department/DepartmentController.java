@@ -12,10 +12,12 @@ import org.springframework.web.bind.annotation.RestController;
 
 import br.com.ecommerce.products.api.dto.category.SimpleDataCategoryDTO;
 import br.com.ecommerce.products.api.dto.department.DataDepartmentDTO;
+import br.com.ecommerce.products.api.dto.department.DepartmentTreeDTO;
 import br.com.ecommerce.products.api.dto.department.SimpleDataDepartmentDTO;
 import br.com.ecommerce.products.api.openapi.IDepartmentController;
 import br.com.ecommerce.products.business.service.CategoryService;
 import br.com.ecommerce.products.business.service.DepartmentService;
+import br.com.ecommerce.products.business.service.DepartmentTreeService;
 import lombok.AllArgsConstructor;
 
 @AllArgsConstructor
@@ -25,8 +27,14 @@ public class DepartmentController implements IDepartmentController{
 
 	private final DepartmentService departmentService;
 	private final CategoryService categoryService;
+	private final DepartmentTreeService treeService;
 
 
+	@GetMapping("/tree")
+	public ResponseEntity<DepartmentTreeDTO> getTree() {
+		return ResponseEntity.ok(treeService.getTree());
+	}
+
 	@GetMapping("/{departmentId}")
 	public ResponseEntity<DataDepartmentDTO> getDepartment(@PathVariable Long departmentId) {
 		return ResponseEntity.ok(departmentService.getOneDepartment(departmentId));
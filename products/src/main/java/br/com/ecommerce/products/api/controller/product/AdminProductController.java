@@ -1,7 +1,9 @@
 package br.com.ecommerce.products.api.controller.product;
 
+import java.io.InputStream;
 import java.util.Set;
 
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.PatchMapping;
@@ -12,8 +14,11 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import org.springframework.web.util.UriComponentsBuilder;
 
+import br.com.ecommerce.products.api.dto.product.BulkPromotionalPriceDTO;
+import br.com.ecommerce.products.api.dto.product.BulkPromotionalPriceResponseDTO;
 import br.com.ecommerce.products.api.dto.product.CreateProductDTO;
 import br.com.ecommerce.products.api.dto.product.DataProductDTO;
 import br.com.ecommerce.products.api.dto.product.DataProductStockDTO;
@@ -25,7 +30,9 @@ import br.com.ecommerce.products.api.dto.product.UpdateProductImagesResponseDTO;
 import br.com.ecommerce.products.api.dto.product.UpdateProductPriceResponseDTO;
 import br.com.ecommerce.products.api.dto.product.UpdateProductResponseDTO;
 import br.com.ecommerce.products.api.openapi.IAdminProductController;
+import br.com.ecommerce.products.business.service.ProductImportService;
 import br.com.ecommerce.products.business.service.ProductService;
+import br.com.ecommerce.products.business.service.PromotionCampaignService;
 import jakarta.validation.Valid;
 import lombok.AllArgsConstructor;
 
@@ -34,7 +41,11 @@ import lombok.AllArgsConstructor;
 @RequestMapping("/admin/products")
 public class AdminProductController implements IAdminProductController {
 
+	private static final String NDJSON = "application/x-ndjson";
+
 	private final ProductService service;
+	private final ProductImportService importService;
+	private final PromotionCampaignService campaignService;
 
 
 	@PostMapping
@@ -50,6 +61,13 @@ public class AdminProductController implements IAdminProductController {
 		return ResponseEntity.created(uri).body(responseBody);
 	}
 
+	@PostMapping(value = "/import", consumes = NDJSON, produces = NDJSON)
+	public ResponseEntity<StreamingResponseBody> importProducts(InputStream body) {
+		return ResponseEntity.ok()
+			.contentType(MediaType.parseMediaType(NDJSON))
+			.body(output -> importService.importProducts(body, output));
+	}
+
 	@PutMapping("/{productId}")
 	public ResponseEntity<UpdateProductResponseDTO> updateProduct(
 		@PathVariable Long productId, 
@@ -82,6 +100,13 @@ public class AdminProductController implements IAdminProductController {
 		return ResponseEntity.ok(service.switchCurrentPriceToPromotional(productId, requestBody.getEndOfPromotion()));
 	}
 
+	@PutMapping("/prices/switch-to-promotional")
+	public ResponseEntity<BulkPromotionalPriceResponseDTO> switchCurrentPricesToPromotionalPrices(
+		@RequestBody @Valid BulkPromotionalPriceDTO requestBody
+	) {
+		return ResponseEntity.ok(campaignService.startPromotions(requestBody.getProducts()));
+	}
+
 	@PutMapping("/{productId}/prices/switch-to-original")
 	public ResponseEntity<UpdateProductPriceResponseDTO> switchCurrentPriceToOriginalPrice(
 		@PathVariable Long productId
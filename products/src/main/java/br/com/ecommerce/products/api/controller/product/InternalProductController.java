@@ -15,12 +15,17 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import br.com.ecommerce.products.api.dto.product.CheckoutQuoteDTO;
 import br.com.ecommerce.products.api.dto.product.DataProductStockDTO;
 import br.com.ecommerce.products.api.dto.product.InternalProductDataDTO;
+import br.com.ecommerce.products.api.dto.product.ProductChangesDTO;
 import br.com.ecommerce.products.api.dto.product.ProductUnitsRequestedDTO;
+import br.com.ecommerce.products.business.service.ProductChangeService;
 import br.com.ecommerce.products.business.service.ProductService;
 import br.com.ecommerce.products.infra.entity.product.Product;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotEmpty;
 import lombok.AllArgsConstructor;
 
@@ -30,6 +35,7 @@ import lombok.AllArgsConstructor;
 public class InternalProductController {
 
 	private final ProductService service;
+	private final ProductChangeService changeService;
 
 
 	@PostMapping("/stocks")
@@ -50,6 +56,13 @@ public class InternalProductController {
 			.body(responseBody);
 	}
 
+	@PostMapping("/checkout-quote")
+	public ResponseEntity<List<CheckoutQuoteDTO>> getCheckoutQuote(
+		@RequestBody @Valid @NotEmpty List<ProductUnitsRequestedDTO> dto
+	) {
+		return ResponseEntity.ok(service.getCheckoutQuote(dto));
+	}
+
 	@GetMapping("/prices")
 	public ResponseEntity<Map<String, InternalProductDataDTO>> getPrices(
 		@Valid @NotEmpty @RequestParam("productIds") Set<Long> productIds
@@ -62,6 +75,21 @@ public class InternalProductController {
 		return ResponseEntity.ok(service.getProductPriceInternal(productId));
 	}
 
+	@GetMapping("/changes")
+	public ResponseEntity<ProductChangesDTO> getChanges(
+		@RequestParam(required = false) Long since,
+		@RequestParam(defaultValue = "500") @Min(1) @Max(1000) int size
+	) {
+		return ResponseEntity.ok(changeService.getChanges(since, size));
+	}
+
+	@GetMapping("/exists")
+	public ResponseEntity<Set<Long>> findMissingProducts(
+		@Valid @NotEmpty @RequestParam("productIds") Set<Long> productIds
+	) {
+		return ResponseEntity.ok(service.findMissingProducts(productIds));
+	}
+
 	@GetMapping("/exists/{productId}")
 	public ResponseEntity<Void> existsProduct(@PathVariable Long productId) {
 		boolean existsProduct = service.existsProduct(productId);
@@ -1,10 +1,12 @@
 package br.com.ecommerce.products.api.controller.product;
 
 import java.math.BigDecimal;
+import java.util.List;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
@@ -12,9 +14,14 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import br.com.ecommerce.products.api.dto.page.CursorPageDTO;
 import br.com.ecommerce.products.api.dto.product.DataProductDTO;
+import br.com.ecommerce.products.api.dto.product.ProductFacetsDTO;
+import br.com.ecommerce.products.api.dto.product.ProductSuggestionDTO;
 import br.com.ecommerce.products.api.openapi.IProductController;
+import br.com.ecommerce.products.business.service.ProductFacetService;
 import br.com.ecommerce.products.business.service.ProductService;
+import br.com.ecommerce.products.infra.cache.SerializedProduct;
 import lombok.AllArgsConstructor;
 
 @AllArgsConstructor
@@ -23,6 +30,7 @@ import lombok.AllArgsConstructor;
 public class ProductController implements IProductController {
 
 	private final ProductService service;
+	private final ProductFacetService facetService;
 
 
 	@GetMapping
@@ -44,8 +52,58 @@ public class ProductController implements IProductController {
 			));
 	}
 
+	@GetMapping("/cursor")
+	public ResponseEntity<CursorPageDTO<DataProductDTO>> getAllByCursor(
+		@RequestParam(required = false) String cursor,
+		@RequestParam(defaultValue = "10") int size,
+		@RequestParam(required = false) String name,
+		@RequestParam(required = false) String category,
+		@RequestParam(required = false) BigDecimal minPrice,
+		@RequestParam(required = false) BigDecimal maxPrice,
+		@RequestParam(required = false) String manufacturer
+	) {
+		return ResponseEntity.ok(service.getAllProductWithParamsAfter(
+			cursor,
+			size,
+			name, 
+			category, 
+			minPrice, 
+			maxPrice, 
+			manufacturer
+			));
+	}
+
+	@GetMapping("/facets")
+	public ResponseEntity<ProductFacetsDTO> getFacets(
+		@RequestParam(required = false) String name,
+		@RequestParam(required = false) String category,
+		@RequestParam(required = false) BigDecimal minPrice,
+		@RequestParam(required = false) BigDecimal maxPrice,
+		@RequestParam(required = false) String manufacturer
+	) {
+		return ResponseEntity.ok(facetService.getFacets(
+			name, 
+			category, 
+			minPrice, 
+			maxPrice, 
+			manufacturer
+			));
+	}
+
+	@GetMapping("/suggest")
+	public ResponseEntity<List<ProductSuggestionDTO>> getSuggestions(
+		@RequestParam String prefix,
+		@RequestParam(defaultValue = "10") int size
+	) {
+		return ResponseEntity.ok(service.getSuggestions(prefix, size));
+	}
+
 	@GetMapping("/{productId}")
-	public ResponseEntity<DataProductDTO> getProduct(@PathVariable Long productId) {
-		return ResponseEntity.ok(service.getProduct(productId));
+	public ResponseEntity<byte[]> getProduct(@PathVariable Long productId) {
+		SerializedProduct product = service.getSerializedProduct(productId);
+		return ResponseEntity.ok()
+			.eTag(product.eTag())
+			.contentType(MediaType.APPLICATION_JSON)
+			.body(product.json());
 	}
 }
\ No newline at end of file
@@ -0,0 +1,15 @@
+package br.com.ecommerce.products.api.dto.category;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class CategoryNodeDTO {
+
+    private Long id;
+    private String name;
+    private long productCount;
+}
\ No newline at end of file
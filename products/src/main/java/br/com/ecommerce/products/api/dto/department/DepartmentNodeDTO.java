@@ -0,0 +1,19 @@
+package br.com.ecommerce.products.api.dto.department;
+
+import java.util.List;
+
+import br.com.ecommerce.products.api.dto.category.CategoryNodeDTO;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class DepartmentNodeDTO {
+
+	private Long id;
+	private String name;
+	private long productCount;
+	private List<CategoryNodeDTO> categories;
+}
\ No newline at end of file
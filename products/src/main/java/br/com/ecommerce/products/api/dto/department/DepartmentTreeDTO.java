@@ -0,0 +1,18 @@
+package br.com.ecommerce.products.api.dto.department;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class DepartmentTreeDTO {
+
+	private long version;
+	private LocalDateTime builtAt;
+	private List<DepartmentNodeDTO> departments;
+}
\ No newline at end of file
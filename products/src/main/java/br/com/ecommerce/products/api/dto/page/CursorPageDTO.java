@@ -0,0 +1,20 @@
+package br.com.ecommerce.products.api.dto.page;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+@Getter
+@ToString
+@NoArgsConstructor
+@AllArgsConstructor
+public class CursorPageDTO<T> {
+
+	private List<T> content;
+	private int size;
+	private boolean hasNext;
+	private String nextCursor;
+}
\ No newline at end of file
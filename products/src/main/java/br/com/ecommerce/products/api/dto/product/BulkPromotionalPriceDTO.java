@@ -0,0 +1,18 @@
+package br.com.ecommerce.products.api.dto.product;
+
+import java.util.List;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkPromotionalPriceDTO {
+
+    @NotEmpty
+    private List<@Valid PromotionalPriceDTO> products;
+}
\ No newline at end of file
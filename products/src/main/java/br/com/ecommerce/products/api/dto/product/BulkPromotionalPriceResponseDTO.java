@@ -0,0 +1,16 @@
+package br.com.ecommerce.products.api.dto.product;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkPromotionalPriceResponseDTO {
+
+    private int applied;
+    private List<Long> rejectedProductIds;
+}
\ No newline at end of file
@@ -0,0 +1,22 @@
+package br.com.ecommerce.products.api.dto.product;
+
+import java.math.BigDecimal;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+@Getter
+@ToString
+@NoArgsConstructor
+@AllArgsConstructor
+public class CheckoutQuoteDTO {
+
+    private Long productId;
+    private String name;
+    private BigDecimal price;
+    private String imageLink;
+    private Integer unit;
+    private boolean available;
+}
\ No newline at end of file
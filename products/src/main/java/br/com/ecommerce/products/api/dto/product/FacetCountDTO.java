@@ -0,0 +1,17 @@
+package br.com.ecommerce.products.api.dto.product;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+@Getter
+@ToString
+@NoArgsConstructor
+@AllArgsConstructor
+public class FacetCountDTO {
+
+    private Long id;
+    private String name;
+    private long count;
+}
\ No newline at end of file
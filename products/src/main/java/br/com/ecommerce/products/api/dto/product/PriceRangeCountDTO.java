@@ -0,0 +1,19 @@
+package br.com.ecommerce.products.api.dto.product;
+
+import java.math.BigDecimal;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+@Getter
+@ToString
+@NoArgsConstructor
+@AllArgsConstructor
+public class PriceRangeCountDTO {
+
+    private BigDecimal minPrice;
+    private BigDecimal maxPrice;
+    private long count;
+}
\ No newline at end of file
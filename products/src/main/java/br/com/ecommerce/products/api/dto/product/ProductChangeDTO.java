@@ -1,4 +1,4 @@
-package br.com.ecommerce.orders.api.dto.product;
+package br.com.ecommerce.products.api.dto.product;
 
 import java.math.BigDecimal;
 
@@ -11,8 +11,10 @@ import lombok.ToString;
 @ToString
 @NoArgsConstructor
 @AllArgsConstructor
-public class InternalProductDataDTO {
+public class ProductChangeDTO {
 
+    private Long productId;
+    private Long seq;
     private String name;
     private BigDecimal price;
     private String imageLink;
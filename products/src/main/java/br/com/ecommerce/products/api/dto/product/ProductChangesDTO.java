@@ -0,0 +1,19 @@
+package br.com.ecommerce.products.api.dto.product;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+@Getter
+@ToString
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProductChangesDTO {
+
+    private List<ProductChangeDTO> changes;
+    private Long lastSeq;
+    private boolean hasNext;
+}
\ No newline at end of file
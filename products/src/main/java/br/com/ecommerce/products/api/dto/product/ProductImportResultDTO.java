@@ -0,0 +1,18 @@
+package br.com.ecommerce.products.api.dto.product;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+@Getter
+@ToString
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProductImportResultDTO {
+
+	private int line;
+	private Long id;
+	private String name;
+	private String error;
+}
\ No newline at end of file
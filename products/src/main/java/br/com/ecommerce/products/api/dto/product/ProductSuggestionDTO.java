@@ -0,0 +1,16 @@
+package br.com.ecommerce.products.api.dto.product;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+@Getter
+@ToString
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProductSuggestionDTO {
+
+    private Long id;
+    private String name;
+}
\ No newline at end of file
@@ -0,0 +1,30 @@
+package br.com.ecommerce.products.api.dto.product;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+import jakarta.validation.constraints.Future;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+@Getter
+@ToString
+@NoArgsConstructor
+@AllArgsConstructor
+public class PromotionalPriceDTO {
+
+    @NotNull
+    private Long productId;
+
+    @NotNull
+    @Positive
+    private BigDecimal promotionalPrice;
+
+    @NotNull
+    @Future
+    private LocalDateTime endOfPromotion;
+}
\ No newline at end of file
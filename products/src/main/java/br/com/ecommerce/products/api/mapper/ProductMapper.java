@@ -1,11 +1,13 @@
 package br.com.ecommerce.products.api.mapper;
 
 import java.util.Optional;
+import java.util.Set;
 
 import org.springframework.stereotype.Component;
 
 import br.com.ecommerce.products.api.dto.category.SimpleDataCategoryDTO;
 import br.com.ecommerce.products.api.dto.manufacturer.SimpleDataManufacturerDTO;
+import br.com.ecommerce.products.api.dto.product.CheckoutQuoteDTO;
 import br.com.ecommerce.products.api.dto.product.CompletePriceDataDTO;
 import br.com.ecommerce.products.api.dto.product.CreateProductDTO;
 import br.com.ecommerce.products.api.dto.product.DataProductDTO;
@@ -18,8 +20,10 @@ import br.com.ecommerce.products.api.dto.product.UpdateProductPriceResponseDTO;
 import br.com.ecommerce.products.api.dto.product.UpdateProductResponseDTO;
 import br.com.ecommerce.products.infra.entity.category.Category;
 import br.com.ecommerce.products.infra.entity.manufacturer.Manufacturer;
+import br.com.ecommerce.products.infra.entity.product.Images;
 import br.com.ecommerce.products.infra.entity.product.Product;
 import br.com.ecommerce.products.infra.entity.tools.factory.ProductFactory;
+import br.com.ecommerce.products.infra.repository.ProductView;
 import lombok.AllArgsConstructor;
 
 @AllArgsConstructor
@@ -46,6 +50,16 @@ public class ProductMapper {
             data.getImages().getMainImage());
     }
 
+    public CheckoutQuoteDTO toCheckoutQuoteDTO(ProductView data, boolean available) {
+        return new CheckoutQuoteDTO(
+            data.getId(),
+            data.getName(),
+            data.getCurrentPrice(),
+            data.getMainImage(),
+            data.getUnit(),
+            available);
+    }
+
     public DataProductDTO toDataProductDTO(
             Product data,
             SimplePriceDataDTO priceData,
@@ -66,6 +80,25 @@ public class ProductMapper {
             .orElse(null);
     }
 
+    public DataProductDTO toDataProductDTO(ProductView data, Set<String> additionalImages) {
+        return Optional.ofNullable(data)
+            .map(p -> new DataProductDTO(
+                p.getId(),
+                p.getName(),
+                p.getDescription(),
+                p.getSpecs(),
+                p.getOnPromotion() == null ? null : new SimplePriceDataDTO(
+                    p.getCurrentPrice(), 
+                    p.getOriginalPrice(), 
+                    p.getOnPromotion(), 
+                    p.getEndOfPromotion()),
+                p.getUnit() == null ? null : new DataStockDTO(p.getUnit()),
+                new Images(p.getMainImage(), additionalImages),
+                new SimpleDataCategoryDTO(p.getCategoryId(), p.getCategoryName()),
+                new SimpleDataManufacturerDTO(p.getManufacturerId(), p.getManufacturerName())))
+            .orElse(null);
+    }
+
     public UpdateProductResponseDTO toProductUpdateResponseDTO(Product data) {
         return Optional.ofNullable(data)
             .map(p -> new UpdateProductResponseDTO(
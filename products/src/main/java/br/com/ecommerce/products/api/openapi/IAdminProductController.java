@@ -1,15 +1,19 @@
 package br.com.ecommerce.products.api.openapi;
 
+import java.io.InputStream;
 import java.util.Set;
 
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import org.springframework.web.util.UriComponentsBuilder;
 
 import br.com.ecommerce.products.api.dto.department.SimpleDataDepartmentDTO;
 import br.com.ecommerce.products.api.dto.exception.ResponseError;
+import br.com.ecommerce.products.api.dto.product.BulkPromotionalPriceDTO;
+import br.com.ecommerce.products.api.dto.product.BulkPromotionalPriceResponseDTO;
 import br.com.ecommerce.products.api.dto.product.CreateProductDTO;
 import br.com.ecommerce.products.api.dto.product.DataProductDTO;
 import br.com.ecommerce.products.api.dto.product.DataProductStockDTO;
@@ -80,6 +84,39 @@ public interface IAdminProductController {
         UriComponentsBuilder uriBuilder
     );
     
+    @Operation(
+        summary = "Import products",
+        description = 
+            """
+            Creates products in bulk from a newline-delimited JSON body (`application/x-ndjson`), one 
+            product per line, with the same fields as `Create product`.
+    
+            ### Rules:
+    
+            1. **Same validations as `Create product`**: each line must have a unique name and reference an 
+            existing category and manufacturer. Names repeated inside the same import are rejected too.
+            2. **Per-line results**: the response streams one JSON object per input line, with its `line` number 
+            and either the created product `id` or an `error`. Rejected lines do not stop the import.
+            3. **Batched inserts**: valid products are inserted in batches, so created lines are reported once their 
+            batch is written and may come after rejected lines that follow them.
+            """,
+        responses = {
+            @ApiResponse(
+                description = "Success", 
+                responseCode = "200",
+                content = @Content(
+                    mediaType = "application/x-ndjson",
+                    examples = @ExampleObject(
+                        value = 
+                            """
+                            {"line":2,"id":null,"name":null,"error":"Category not found"}
+                            {"line":1,"id":15,"name":"Notebook","error":null}
+                            """
+                    )
+            ))
+        })
+    public ResponseEntity<StreamingResponseBody> importProducts(InputStream body);
+
     @Operation(
         summary = "Update product [name, description, specs]",
         description = 
@@ -243,6 +280,47 @@ public interface IAdminProductController {
         @RequestBody @Valid EndOfPromotionDTO requestBody
     );
     
+    @Operation(
+        summary = "Start promotions in bulk",
+        description = 
+            """
+            Puts several products on promotion at once, setting the `promotionalPrice` and the `endOfPromotion` 
+            of each product and changing its `currentPrice` to the promotional value. Intended for campaign 
+            launches, where a single request replaces one `/products/{productId}/prices/switch-to-promotional` 
+            call per product.
+        
+            ### Rules:
+            - Products are updated in chunks, and each chunk is committed on its own.
+            - Products sharing the same `endOfPromotion` exit the promotion together when that date is reached.
+        
+            ### Rejected products:
+            Products that do not exist, have no `originalPrice`, or whose `promotionalPrice` is not lower than 
+            the `originalPrice` are left unchanged and returned in `rejectedProductIds`.
+        
+            ### Validations:
+            1. **Past dates are not allowed**: Every expiration date must be in the future.
+            2. **The promotional price must be positive**.
+            """,
+        responses = {
+            @ApiResponse(
+                description = "Success", 
+                responseCode = "200",
+                content = @Content(
+                    mediaType = "application/json",
+                    schema = @Schema(implementation = BulkPromotionalPriceResponseDTO.class)
+            )), 
+            @ApiResponse(
+                description = "Invalid field values", 
+                responseCode = "400",
+                content = @Content(
+                    mediaType = "application/json",
+                    schema = @Schema(implementation = ResponseError.class)
+            ))
+        })
+    public ResponseEntity<BulkPromotionalPriceResponseDTO> switchCurrentPricesToPromotionalPrices(
+        @RequestBody @Valid BulkPromotionalPriceDTO requestBody
+    );
+    
     @Operation(
         summary = "End promotion",
         description = 
@@ -9,6 +9,7 @@ import org.springframework.web.bind.annotation.RequestParam;
 
 import br.com.ecommerce.products.api.dto.category.SimpleDataCategoryDTO;
 import br.com.ecommerce.products.api.dto.department.DataDepartmentDTO;
+import br.com.ecommerce.products.api.dto.department.DepartmentTreeDTO;
 import br.com.ecommerce.products.api.dto.department.SimpleDataDepartmentDTO;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -22,6 +23,19 @@ import io.swagger.v3.oas.annotations.tags.Tag;
     description = "Public controller")
 public interface IDepartmentController {
 
+    @Operation(
+        summary = "Get department tree",
+        description = 
+            """
+            Returns every department with its categories and the number of products of each, served from
+            memory.
+    
+            The tree is rebuilt when a department or category changes; product counts are refreshed
+            periodically. `version` grows on every rebuild.
+            """
+    )
+    public ResponseEntity<DepartmentTreeDTO> getTree();
+
     @Operation(
         summary = "Get department",
         description = 
@@ -1,6 +1,7 @@
 package br.com.ecommerce.products.api.openapi;
 
 import java.math.BigDecimal;
+import java.util.List;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -9,13 +10,18 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestParam;
 
+import br.com.ecommerce.products.api.dto.page.CursorPageDTO;
 import br.com.ecommerce.products.api.dto.product.DataProductDTO;
+import br.com.ecommerce.products.api.dto.product.ProductFacetsDTO;
+import br.com.ecommerce.products.api.dto.product.ProductSuggestionDTO;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.ExampleObject;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
 
 @Tag(
     name = "product-controller",
@@ -49,8 +55,70 @@ public interface IProductController {
         @RequestParam(required = false) String manufacturer
     );
 
+    @Operation(
+        summary = "Get all products by cursor",
+        description = 
+            """
+            Returns products ordered by ID using keyset pagination, without counting the total of results.
+    
+            Accepts the same filters as `Get all products`. Send the `nextCursor` of a response as the
+            `cursor` parameter to get the next page; it is null on the last page.
+
+            - `size` must be between 1 and 100.
+            - Results are always ordered by ID; other orderings are not supported.
+            """
+    )
+    public ResponseEntity<CursorPageDTO<DataProductDTO>> getAllByCursor(
+        @RequestParam(required = false) String cursor,
+        @RequestParam(defaultValue = "10") @Min(1) @Max(100) int size,
+        @RequestParam(required = false) String name,
+        @RequestParam(required = false) String category,
+        @RequestParam(required = false) BigDecimal minPrice,
+        @RequestParam(required = false) BigDecimal maxPrice,
+        @RequestParam(required = false) String manufacturer
+    );
+
+    @Operation(
+        summary = "Get product facets",
+        description = 
+            """
+            Returns how many products match each category, each manufacturer and each price range,
+            accepting the same filters as `Get all products`.
+    
+            Every facet is counted with the filters of the other facets, ignoring its own: selecting a
+            category still lists the counts of the other categories.
+            """
+    )
+    public ResponseEntity<ProductFacetsDTO> getFacets(
+        @RequestParam(required = false) String name,
+        @RequestParam(required = false) String category,
+        @RequestParam(required = false) BigDecimal minPrice,
+        @RequestParam(required = false) BigDecimal maxPrice,
+        @RequestParam(required = false) String manufacturer
+    );
+
+    @Operation(
+        summary = "Get product name suggestions",
+        description = 
+            """
+            Returns up to `size` products whose name starts with `prefix`, ignoring case, followed by
+            products with another word of the name starting with it.
+    
+            Suggestions are served from memory and follow product changes as soon as they are committed.
+            """
+    )
+    public ResponseEntity<List<ProductSuggestionDTO>> getSuggestions(
+        @RequestParam String prefix,
+        @RequestParam(defaultValue = "10") @Min(1) @Max(50) int size
+    );
+
     @Operation(
         summary = "Get product",
+        description = 
+            """
+            Returns the product with a strong `ETag`. Send it back in `If-None-Match` to get
+            `304 Not Modified` while the product is unchanged.
+            """,
         responses = {
             @ApiResponse(
                 description = "Success", 
@@ -59,6 +127,9 @@ public interface IProductController {
                     mediaType = "application/json",
                     schema = @Schema(implementation = DataProductDTO.class)
             )), 
+            @ApiResponse(
+                description = "Not modified", 
+                responseCode = "304"), 
             @ApiResponse(
                 description = "Not found", 
                 responseCode = "404",
@@ -75,5 +146,5 @@ public interface IProductController {
                     )
                 ))
         })
-    public ResponseEntity<DataProductDTO> getProduct(@PathVariable Long productId);
+    public ResponseEntity<byte[]> getProduct(@PathVariable Long productId);
 }
\ No newline at end of file
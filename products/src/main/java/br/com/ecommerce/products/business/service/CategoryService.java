@@ -9,11 +9,13 @@ import br.com.ecommerce.products.api.dto.category.SimpleDataCategoryDTO;
 import br.com.ecommerce.products.api.dto.category.UpdateCategoryDTO;
 import br.com.ecommerce.products.api.mapper.CategoryMapper;
 import br.com.ecommerce.products.business.validator.UniqueNameCategoryValidator;
+import br.com.ecommerce.products.infra.cache.ProductDetailCache;
 import br.com.ecommerce.products.infra.entity.category.Category;
 import br.com.ecommerce.products.infra.exception.exceptions.CategoryNotFoundException;
 import br.com.ecommerce.products.infra.exception.exceptions.DepartmentNotFoundException;
 import br.com.ecommerce.products.infra.repository.CategoryRepository;
 import br.com.ecommerce.products.infra.repository.DepartmentRepository;
+import br.com.ecommerce.products.infra.transaction.ReadOnlyTransactional;
 import jakarta.transaction.Transactional;
 import lombok.AllArgsConstructor;
 
@@ -25,6 +27,8 @@ public class CategoryService {
     private final DepartmentRepository departmentRepository;
     private final CategoryMapper categoryMapper;
     private final UniqueNameCategoryValidator uniqueNameValidator;
+    private final ProductDetailCache detailCache;
+    private final DepartmentTreeService treeService;
 
 
     @Transactional
@@ -33,10 +37,11 @@ public class CategoryService {
         return departmentRepository.findById(dto.getDepartmentId())
             .map(dp -> {
                 Category category = categoryMapper.toCategory(dto.getName(), dp);
-                categoryRepository.save(category);
+                uniqueNameValidator.save(() -> categoryRepository.save(category));
 
                 dp.addCategory(category);
                 departmentRepository.save(dp);
+                treeService.rebuildAfterCommit();
 
                 return category;
             })
@@ -44,6 +49,7 @@ public class CategoryService {
             .orElseThrow(DepartmentNotFoundException::new);
     }
 
+    @ReadOnlyTransactional
     public Page<SimpleDataCategoryDTO> getAllByParams(
         String name, 
         Pageable pageable
@@ -52,6 +58,7 @@ public class CategoryService {
             .map(categoryMapper::toSimpleDataCategoryDTO);
     }
 
+    @ReadOnlyTransactional
     public SimpleDataCategoryDTO getOne(Long id) {
         return categoryRepository.findById(id)
             .map(categoryMapper::toSimpleDataCategoryDTO)
@@ -61,10 +68,12 @@ public class CategoryService {
     @Transactional
     public SimpleDataCategoryDTO update(Long id, UpdateCategoryDTO dto) {
         uniqueNameValidator.validate(dto.getName());
+        detailCache.clear();
         return categoryRepository.findById(id)
             .map(category -> {
                 category.update(dto.getName());
-                return categoryRepository.save(category);
+                treeService.rebuildAfterCommit();
+                return uniqueNameValidator.save(() -> categoryRepository.save(category));
             })
             .map(categoryMapper::toSimpleDataCategoryDTO)
             .orElseThrow(CategoryNotFoundException::new);
@@ -16,6 +16,7 @@ import br.com.ecommerce.products.business.validator.UniqueNameDepartmentValidato
 import br.com.ecommerce.products.infra.entity.department.Department;
 import br.com.ecommerce.products.infra.exception.exceptions.DepartmentNotFoundException;
 import br.com.ecommerce.products.infra.repository.DepartmentRepository;
+import br.com.ecommerce.products.infra.transaction.ReadOnlyTransactional;
 import jakarta.transaction.Transactional;
 import lombok.AllArgsConstructor;
 
@@ -27,14 +28,17 @@ public class DepartmentService {
     private final DepartmentMapper departmentMapper;
     private final UniqueNameDepartmentValidator uniqueNameValidator;
     private final CategoryMapper categoryMapper;
+    private final DepartmentTreeService treeService;
 
 
 
+    @ReadOnlyTransactional
     public Page<SimpleDataDepartmentDTO> getAllDepartments(String name, Pageable pageable) {
         return departmentRepository.findAllByParams(name, pageable)
             .map(departmentMapper::toSimpleDataDepartmentDTO);
     }
 
+    @ReadOnlyTransactional
     public DataDepartmentDTO getOneDepartment(Long id) {
         return departmentRepository.findById(id)
             .map(department -> department.getCategories().stream()
@@ -49,7 +53,8 @@ public class DepartmentService {
     public SimpleDataDepartmentDTO createDepartment(CreateDepartmentDTO data) {
         uniqueNameValidator.validate(data.getName());
         Department department = departmentMapper.toDepartment(data);
-        departmentRepository.save(department);
+        uniqueNameValidator.save(() -> departmentRepository.save(department));
+        treeService.rebuildAfterCommit();
         return departmentMapper.toSimpleDataDepartmentDTO(department);
     }
 
@@ -59,7 +64,8 @@ public class DepartmentService {
         return departmentRepository.findById(id)
             .map(department -> {
                 department.update(data.getName());
-                return departmentRepository.save(department);
+                treeService.rebuildAfterCommit();
+                return uniqueNameValidator.save(() -> departmentRepository.save(department));
             })
             .map(departmentMapper::toSimpleDataDepartmentDTO)
             .orElseThrow(DepartmentNotFoundException::new);
@@ -68,5 +74,6 @@ public class DepartmentService {
     @Transactional
     public void destroyDepartment(Long id) {
         departmentRepository.deleteById(id);
+        treeService.rebuildAfterCommit();
     }
 }
\ No newline at end of file
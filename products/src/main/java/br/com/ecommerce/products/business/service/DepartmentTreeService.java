@@ -0,0 +1,71 @@
+package br.com.ecommerce.products.business.service;
+
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Collectors;
+
+import org.springframework.stereotype.Service;
+
+import br.com.ecommerce.products.api.dto.category.CategoryNodeDTO;
+import br.com.ecommerce.products.api.dto.department.DepartmentNodeDTO;
+import br.com.ecommerce.products.api.dto.department.DepartmentTreeDTO;
+import br.com.ecommerce.products.infra.repository.DepartmentRepository;
+import br.com.ecommerce.products.infra.repository.DepartmentTreeRow;
+import br.com.ecommerce.products.infra.transaction.AfterCommit;
+import lombok.AllArgsConstructor;
+
+/**
+ * Department and category tree with product counts, built by a single query and served from memory.
+ * A rebuild replaces the whole snapshot at once, so readers always see one consistent version of the tree.
+ * <p>
+ * Department and category changes rebuild it once committed. Product counts are only refreshed by the
+ * periodic rebuild, so they may lag behind product creation by up to {@code api.departments.tree.refresh-millis}.
+ */
+@Service
+@AllArgsConstructor
+public class DepartmentTreeService {
+
+    private final DepartmentRepository departmentRepository;
+    private final AtomicReference<DepartmentTreeDTO> snapshot = new AtomicReference<>();
+
+
+    public DepartmentTreeDTO getTree() {
+        DepartmentTreeDTO tree = snapshot.get();
+        return tree != null ? tree : this.rebuild();
+    }
+
+    public void rebuildAfterCommit() {
+        AfterCommit.run(this::rebuild);
+    }
+
+    /**
+     * Synchronized so that the snapshot read last is always the one kept.
+     */
+    public synchronized DepartmentTreeDTO rebuild() {
+        Map<Long, List<DepartmentTreeRow>> rowsByDepartment = departmentRepository.findAllTreeRows().stream()
+            .collect(Collectors.groupingBy(DepartmentTreeRow::getDepartmentId, LinkedHashMap::new, Collectors.toList()));
+        List<DepartmentNodeDTO> departments = rowsByDepartment.values().stream()
+            .map(DepartmentTreeService::toDepartmentNode)
+            .toList();
+
+        DepartmentTreeDTO previous = snapshot.get();
+        long version = previous == null ? 1 : previous.getVersion() + 1;
+        DepartmentTreeDTO tree = new DepartmentTreeDTO(version, LocalDateTime.now(), departments);
+        snapshot.set(tree);
+        return tree;
+    }
+
+    private static DepartmentNodeDTO toDepartmentNode(List<DepartmentTreeRow> rows) {
+        List<CategoryNodeDTO> categories = rows.stream()
+            .filter(row -> row.getCategoryId() != null)
+            .map(row -> new CategoryNodeDTO(row.getCategoryId(), row.getCategoryName(), row.getTotal()))
+            .toList();
+        long productCount = categories.stream().mapToLong(CategoryNodeDTO::getProductCount).sum();
+
+        DepartmentTreeRow department = rows.get(0);
+        return new DepartmentNodeDTO(department.getDepartmentId(), department.getDepartmentName(), productCount, categories);
+    }
+}
\ No newline at end of file
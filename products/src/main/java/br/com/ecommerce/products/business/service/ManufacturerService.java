@@ -14,12 +14,14 @@ import br.com.ecommerce.products.api.dto.manufacturer.UpdateManufacturerDTO;
 import br.com.ecommerce.products.api.mapper.AddressMapper;
 import br.com.ecommerce.products.api.mapper.ManufacturerMapper;
 import br.com.ecommerce.products.business.validator.UniqueNameManufacturerValidator;
+import br.com.ecommerce.products.infra.cache.ProductDetailCache;
 import br.com.ecommerce.products.infra.entity.manufacturer.Address;
 import br.com.ecommerce.products.infra.entity.manufacturer.Manufacturer;
 import br.com.ecommerce.products.infra.entity.manufacturer.Phone;
 import br.com.ecommerce.products.infra.entity.tools.factory.PhoneFactory;
 import br.com.ecommerce.products.infra.exception.exceptions.ManufacturerNotFoundException;
 import br.com.ecommerce.products.infra.repository.ManufacturerRepository;
+import br.com.ecommerce.products.infra.transaction.ReadOnlyTransactional;
 import jakarta.transaction.Transactional;
 import lombok.AllArgsConstructor;
 
@@ -34,8 +36,10 @@ public class ManufacturerService {
 	private final AddressMapper addressMapper;
 
 	private final UniqueNameManufacturerValidator uniqueNameValidator;
+	private final ProductDetailCache detailCache;
 
 
+	@ReadOnlyTransactional
 	public Page<SimpleDataManufacturerDTO> getAllSimpleDataManufacturers(
 		String name,
 		String contactPerson,
@@ -45,6 +49,7 @@ public class ManufacturerService {
 			.map(manufacturerMapper::toSimpleDataManufacturerDTO);
 	}
 
+	@ReadOnlyTransactional
 	public Page<DataManufacturerDTO> getAllManufacturers(
 		String name, 
 		String phone, 
@@ -64,6 +69,7 @@ public class ManufacturerService {
 			});
 	}
 
+	@ReadOnlyTransactional
 	public DataManufacturerDTO getManufacturer(Long id) {
 		return repository.findById(id)
 			.map(manufacturer -> {
@@ -78,7 +84,7 @@ public class ManufacturerService {
 		uniqueNameValidator.validate(dto.getName());
 		Address address = addressMapper.toAddress(dto.getAddress());
 		Manufacturer manufacturer = manufacturerMapper.toManufacturer(dto, address);
-		repository.save(manufacturer);
+		uniqueNameValidator.save(() -> repository.save(manufacturer));
 		DataAddressDTO addressData = addressMapper.toDataAddressDTO(manufacturer.getAddress());
 		return manufacturerMapper.toDataManufacturerDTO(manufacturer, addressData);
 	}
@@ -86,6 +92,7 @@ public class ManufacturerService {
 	@Transactional
 	public DataManufacturerDTO updateManufacturer(Long id, UpdateManufacturerDTO dto) {
 		uniqueNameValidator.validate(dto.getName());
+		detailCache.clear();
 		return repository.findById(id)
 			.map(manufacturer -> {
 				Phone newPhone = Optional.ofNullable(dto.getPhone())
@@ -101,7 +108,7 @@ public class ManufacturerService {
 					dto.getEmail(),
 					dto.getContactPerson(),
 					address);
-				return repository.save(manufacturer);
+				return uniqueNameValidator.save(() -> repository.save(manufacturer));
 			})
 			.map(manufacturer -> {
 				DataAddressDTO address = addressMapper.toDataAddressDTO(manufacturer.getAddress());
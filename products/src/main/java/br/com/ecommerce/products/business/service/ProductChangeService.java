@@ -0,0 +1,143 @@
+package br.com.ecommerce.products.business.service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+
+import br.com.ecommerce.products.api.amqp.ProductChangePublisher;
+import br.com.ecommerce.products.api.dto.product.InternalProductDataDTO;
+import br.com.ecommerce.products.api.dto.product.ProductChangeDTO;
+import br.com.ecommerce.products.api.dto.product.ProductChangesDTO;
+import br.com.ecommerce.products.api.mapper.ProductMapper;
+import br.com.ecommerce.products.infra.entity.product.Product;
+import br.com.ecommerce.products.infra.exception.exceptions.ChangeFeedExpiredException;
+import br.com.ecommerce.products.infra.repository.ProductChangeRepository;
+import br.com.ecommerce.products.infra.repository.ProductChangeSeq;
+import br.com.ecommerce.products.infra.repository.ProductRepository;
+import jakarta.transaction.Transactional;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Change feed of the internal product data (name, current price and main image). Every change appends
+ * the product to a log whose sequence only grows, and consumers ask for the products changed after the
+ * last sequence they have seen.
+ * <p>
+ * Sequences are taken when a change is written, not when it commits, so a change is only served once it
+ * is {@code settle-millis} old: a transaction still open by then could commit a sequence lower than one
+ * already served.
+ * <p>
+ * The feed is read from the primary: a replica lagging behind by more than the settle time would serve
+ * a sequence while hiding lower ones committed before it, and consumers would skip those changes. The
+ * product data is read in the same transaction and never from the price cache, which another instance
+ * may not have evicted yet: an old value served with a new sequence would never be corrected.
+ */
+@Slf4j
+@Service
+public class ProductChangeService {
+
+	private final ProductChangeRepository changeRepository;
+	private final ProductRepository productRepository;
+	private final ProductMapper productMapper;
+	private final ObjectProvider<ProductChangePublisher> publisher;
+	private final Duration settleTime;
+	private final Duration retention;
+
+
+	public ProductChangeService(
+		ProductChangeRepository changeRepository,
+		ProductRepository productRepository,
+		ProductMapper productMapper,
+		ObjectProvider<ProductChangePublisher> publisher,
+		@Value("${api.products.changes.settle-millis:2000}") long settleMillis,
+		@Value("${api.products.changes.retention-days:7}") long retentionDays
+	) {
+		this.changeRepository = changeRepository;
+		this.productRepository = productRepository;
+		this.productMapper = productMapper;
+		this.publisher = publisher;
+		this.settleTime = Duration.ofMillis(settleMillis);
+		this.retention = Duration.ofDays(retentionDays);
+	}
+
+	/**
+	 * Appends the products to the change log, ignoring ids of missing products, and announces them once
+	 * committed. Outside of a transaction, call it once the change is committed, so the entry is never
+	 * served before the change is visible.
+	 */
+	public void record(Collection<Long> productIds) {
+		if (productIds.isEmpty()) return;
+		changeRepository.recordAll(productIds, LocalDateTime.now());
+		publisher.ifAvailable(target -> target.publishAfterCommit(productIds));
+	}
+
+	public void record(Long productId) {
+		this.record(List.of(productId));
+	}
+
+	/**
+	 * Returns the current data of the products changed after {@code since}, at most {@code size} of them,
+	 * ordered by their latest sequence. Without {@code since}, returns no changes and the sequence to start
+	 * following the feed from.
+	 *
+	 * @throws ChangeFeedExpiredException if changes after {@code since} were already purged
+	 */
+	@Transactional
+	public ProductChangesDTO getChanges(Long since, int size) {
+		LocalDateTime settledBefore = LocalDateTime.now().minus(settleTime);
+		if (since == null) {
+			Long lastSeq = changeRepository.findLastSeq(settledBefore);
+			return new ProductChangesDTO(List.of(), lastSeq == null ? 0L : lastSeq, false);
+		}
+
+		Long firstSeq = changeRepository.findFirstSeq();
+		if (firstSeq != null && since < firstSeq - 1) throw new ChangeFeedExpiredException();
+
+		List<ProductChangeSeq> latest = changeRepository.findAllLatestAfter(since, settledBefore, PageRequest.ofSize(size + 1));
+		boolean hasNext = latest.size() > size;
+		if (hasNext) latest = latest.subList(0, size);
+		if (latest.isEmpty()) return new ProductChangesDTO(List.of(), since, false);
+
+		Map<Long, InternalProductDataDTO> data = this.loadInternalData(
+			latest.stream().map(ProductChangeSeq::getProductId).collect(Collectors.toSet()));
+		List<ProductChangeDTO> changes = latest.stream()
+			.filter(change -> data.containsKey(change.getProductId()))
+			.map(change -> {
+				InternalProductDataDTO product = data.get(change.getProductId());
+				return new ProductChangeDTO(
+					change.getProductId(),
+					change.getSeq(),
+					product.getName(),
+					product.getPrice(),
+					product.getImageLink());
+			})
+			.toList();
+		return new ProductChangesDTO(changes, latest.get(latest.size() - 1).getSeq(), hasNext);
+	}
+
+	/**
+	 * Deletes the changes older than the retention, always keeping the last one so that the first retained
+	 * sequence still tells how far back the log goes.
+	 */
+	public int purgeChanges() {
+		Long lastSeq = changeRepository.findLastSeq();
+		if (lastSeq == null) return 0;
+
+		int purged = changeRepository.deleteAllChangedBeforeAndSeqLessThan(LocalDateTime.now().minus(retention), lastSeq);
+		log.info("Product changes purged: {}", purged);
+		return purged;
+	}
+
+	private Map<Long, InternalProductDataDTO> loadInternalData(Set<Long> productIds) {
+		return productRepository.findAllById(productIds).stream()
+			.collect(Collectors.toMap(Product::getId, productMapper::toInternalProductDataDTO));
+	}
+}
\ No newline at end of file
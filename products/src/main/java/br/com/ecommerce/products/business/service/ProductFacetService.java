@@ -0,0 +1,116 @@
+package br.com.ecommerce.products.business.service;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import br.com.ecommerce.products.api.dto.product.FacetCountDTO;
+import br.com.ecommerce.products.api.dto.product.PriceRangeCountDTO;
+import br.com.ecommerce.products.api.dto.product.ProductFacetsDTO;
+import br.com.ecommerce.products.infra.repository.ProductFacetRow;
+import br.com.ecommerce.products.infra.repository.ProductRepository;
+import br.com.ecommerce.products.infra.search.ProductNameIndex;
+import br.com.ecommerce.products.infra.transaction.ReadOnlyTransactional;
+
+/**
+ * Facet counts of the product listing. A single grouped query returns the products matching the name,
+ * counted by category, manufacturer and price; every facet is then counted from those rows with the
+ * filters of the other facets, so each one still shows the alternatives to its own selection.
+ * <p>
+ * Products without a price yet match no price filter, as in the listing, and are left out of the price
+ * ranges.
+ */
+@Service
+public class ProductFacetService {
+
+	private static final Comparator<FacetCountDTO> BY_COUNT = Comparator
+		.comparingLong(FacetCountDTO::getCount).reversed()
+		.thenComparing(FacetCountDTO::getName, String.CASE_INSENSITIVE_ORDER);
+
+	private final ProductRepository productRepository;
+	private final ProductNameIndex nameIndex;
+	private final BigDecimal[] priceBounds;
+
+
+	public ProductFacetService(
+		ProductRepository productRepository,
+		ProductNameIndex nameIndex,
+		@Value("${api.products.facets.price-bounds:50,100,250,500,1000}") BigDecimal[] priceBounds
+	) {
+		this.productRepository = productRepository;
+		this.nameIndex = nameIndex;
+		this.priceBounds = Arrays.stream(priceBounds)
+			.distinct()
+			.sorted()
+			.toArray(BigDecimal[]::new);
+	}
+
+	@ReadOnlyTransactional
+	public ProductFacetsDTO getFacets(
+		String name,
+		String categoryName,
+		BigDecimal minPrice,
+		BigDecimal maxPrice,
+		String manufacturer
+	) {
+		Map<Facet, Long> categories = new HashMap<>();
+		Map<Facet, Long> manufacturers = new HashMap<>();
+		long[] prices = new long[priceBounds.length + 1];
+
+		for (ProductFacetRow row : this.findRows(name)) {
+			boolean inCategory = categoryName == null || categoryName.equalsIgnoreCase(row.getCategoryName());
+			boolean inManufacturer = manufacturer == null || manufacturer.equalsIgnoreCase(row.getManufacturerName());
+			boolean inPriceRange = (minPrice == null || row.getPrice() != null && row.getPrice().compareTo(minPrice) >= 0)
+				&& (maxPrice == null || row.getPrice() != null && row.getPrice().compareTo(maxPrice) <= 0);
+
+			if (inManufacturer && inPriceRange)
+				categories.merge(new Facet(row.getCategoryId(), row.getCategoryName()), row.getTotal(), Long::sum);
+			if (inCategory && inPriceRange)
+				manufacturers.merge(new Facet(row.getManufacturerId(), row.getManufacturerName()), row.getTotal(), Long::sum);
+			if (inCategory && inManufacturer && row.getPrice() != null)
+				prices[this.priceRangeOf(row.getPrice())] += row.getTotal();
+		}
+
+		return new ProductFacetsDTO(
+			this.toFacetCounts(categories),
+			this.toFacetCounts(manufacturers),
+			IntStream.range(0, prices.length)
+				.mapToObj(range -> new PriceRangeCountDTO(
+					range == 0 ? BigDecimal.ZERO : priceBounds[range - 1],
+					range == priceBounds.length ? null : priceBounds[range],
+					prices[range]))
+				.toList());
+	}
+
+	private List<ProductFacetRow> findRows(String name) {
+		if (!nameIndex.supports(name)) return productRepository.findAllFacetRowsByName(name);
+
+		List<Long> candidates = nameIndex.search(name);
+		return candidates.isEmpty() ? List.of() : productRepository.findAllFacetRowsByIdIn(candidates);
+	}
+
+	/**
+	 * Ranges include their lower bound and exclude the upper one.
+	 */
+	private int priceRangeOf(BigDecimal price) {
+		int range = 0;
+		while (range < priceBounds.length && price.compareTo(priceBounds[range]) >= 0) range++;
+		return range;
+	}
+
+	private List<FacetCountDTO> toFacetCounts(Map<Facet, Long> counts) {
+		return counts.entrySet().stream()
+			.map(entry -> new FacetCountDTO(entry.getKey().id(), entry.getKey().name(), entry.getValue()))
+			.sorted(BY_COUNT)
+			.toList();
+	}
+
+	private record Facet(Long id, String name) {}
+}
\ No newline at end of file
@@ -0,0 +1,211 @@
+package br.com.ecommerce.products.business.service;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import br.com.ecommerce.products.api.dto.product.CreateProductDTO;
+import br.com.ecommerce.products.api.dto.product.ProductImportResultDTO;
+import br.com.ecommerce.products.api.mapper.ProductMapper;
+import br.com.ecommerce.products.infra.entity.category.Category;
+import br.com.ecommerce.products.infra.entity.manufacturer.Manufacturer;
+import br.com.ecommerce.products.infra.entity.product.Product;
+import br.com.ecommerce.products.infra.exception.exceptions.CategoryNotFoundException;
+import br.com.ecommerce.products.infra.exception.exceptions.ManufacturerNotFoundException;
+import br.com.ecommerce.products.infra.repository.CategoryRepository;
+import br.com.ecommerce.products.infra.repository.ManufacturerRepository;
+import br.com.ecommerce.products.infra.repository.ProductName;
+import br.com.ecommerce.products.infra.repository.ProductRepository;
+import br.com.ecommerce.products.infra.search.ProductNameIndex;
+import br.com.ecommerce.products.infra.search.ProductNameSuggester;
+import br.com.ecommerce.products.infra.search.UniqueNameIndex;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Service
+public class ProductImportService {
+
+	private final ProductRepository productRepository;
+	private final CategoryRepository categoryRepository;
+	private final ManufacturerRepository manufacturerRepository;
+	private final ProductMapper productMapper;
+	private final ProductNameIndex nameIndex;
+	private final ProductNameSuggester suggester;
+	private final UniqueNameIndex uniqueNames;
+	private final ProductChangeService changeService;
+	private final ObjectMapper objectMapper;
+	private final Validator validator;
+	private final int batchSize;
+
+
+	public ProductImportService(
+		ProductRepository productRepository,
+		CategoryRepository categoryRepository,
+		ManufacturerRepository manufacturerRepository,
+		ProductMapper productMapper,
+		ProductNameIndex nameIndex,
+		ProductNameSuggester suggester,
+		UniqueNameIndex uniqueNames,
+		ProductChangeService changeService,
+		ObjectMapper objectMapper,
+		Validator validator,
+		@Value("${api.products.import.batch-size:500}") int batchSize
+	) {
+		this.productRepository = productRepository;
+		this.categoryRepository = categoryRepository;
+		this.manufacturerRepository = manufacturerRepository;
+		this.productMapper = productMapper;
+		this.nameIndex = nameIndex;
+		this.suggester = suggester;
+		this.uniqueNames = uniqueNames;
+		this.changeService = changeService;
+		this.objectMapper = objectMapper;
+		this.validator = validator;
+		this.batchSize = batchSize;
+	}
+
+	/**
+	 * Reads one {@link CreateProductDTO} per line and writes one {@link ProductImportResultDTO} per line,
+	 * inserting the valid products in JDBC batches. Rejected lines are written as soon as they are read,
+	 * created ones once their batch is inserted.
+	 */
+	public void importProducts(InputStream input, OutputStream output) throws IOException {
+		Set<String> names = productRepository.findAllNames().stream()
+			.map(ProductName::getName)
+			.map(this::normalize)
+			.collect(Collectors.toCollection(HashSet::new));
+		Map<Long, Optional<Category>> categories = new HashMap<>();
+		Map<Long, Optional<Manufacturer>> manufacturers = new HashMap<>();
+		List<PendingProduct> batch = new ArrayList<>(batchSize);
+
+		BufferedReader reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8));
+		int lineNumber = 0;
+		String line;
+		while ((line = reader.readLine()) != null) {
+			lineNumber++;
+			if (line.isBlank()) continue;
+
+			try {
+				CreateProductDTO dto = this.read(line);
+				Category category = categories.computeIfAbsent(dto.getCategoryId(), categoryRepository::findById)
+					.orElseThrow(CategoryNotFoundException::new);
+				Manufacturer manufacturer = manufacturers
+					.computeIfAbsent(dto.getManufacturerId(), manufacturerRepository::findById)
+					.orElseThrow(ManufacturerNotFoundException::new);
+				Product product = productMapper.toProduct(dto, category, manufacturer);
+				if (!names.add(this.normalize(product.getName())))
+					throw new IllegalArgumentException("Invalid product name");
+
+				batch.add(new PendingProduct(lineNumber, product));
+			} catch (RuntimeException ex) {
+				this.write(output, new ProductImportResultDTO(lineNumber, null, null, ex.getMessage()));
+			}
+
+			if (batch.size() >= batchSize) this.flush(batch, output);
+		}
+		this.flush(batch, output);
+	}
+
+	private CreateProductDTO read(String line) {
+		CreateProductDTO dto;
+		try {
+			dto = objectMapper.readValue(line, CreateProductDTO.class);
+		} catch (JsonProcessingException ex) {
+			throw new IllegalArgumentException("Malformed JSON");
+		}
+
+		Set<ConstraintViolation<CreateProductDTO>> violations = validator.validate(dto);
+		if (!violations.isEmpty()) {
+			throw new IllegalArgumentException(violations.stream()
+				.map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+				.sorted()
+				.collect(Collectors.joining(", ")));
+		}
+		return dto;
+	}
+
+	/**
+	 * Inserts the batch, or each of its products on its own when the database rejects the batch, so one
+	 * bad line does not fail the others. The batch runs in a single transaction, so a rejected one leaves
+	 * nothing behind.
+	 */
+	private void flush(List<PendingProduct> batch, OutputStream output) throws IOException {
+		if (batch.isEmpty()) return;
+
+		List<Product> products = batch.stream().map(PendingProduct::product).toList();
+		products.forEach(product -> uniqueNames.put(Product.class, product.getName()));
+		List<ProductImportResultDTO> results = new ArrayList<>(batch.size());
+		try {
+			List<Long> ids = productRepository.insertAll(products);
+			this.recordChanges(ids);
+			for (int i = 0; i < batch.size(); i++) results.add(this.created(batch.get(i), ids.get(i)));
+		} catch (DataAccessException ex) {
+			log.warn("Product import batch rejected, inserting its lines one by one: {}",
+				ex.getMostSpecificCause().getMessage());
+			batch.forEach(pending -> results.add(this.insert(pending)));
+		}
+
+		for (ProductImportResultDTO result : results) this.write(output, result);
+		output.flush();
+		batch.clear();
+	}
+
+	private ProductImportResultDTO insert(PendingProduct pending) {
+		String name = pending.product().getName();
+		try {
+			Long id = productRepository.insertAll(List.of(pending.product())).get(0);
+			this.recordChanges(List.of(id));
+			return this.created(pending, id);
+		} catch (DataAccessException ex) {
+			log.warn("Product import line {} rejected: {}", pending.line(), ex.getMostSpecificCause().getMessage());
+			return new ProductImportResultDTO(pending.line(), null, name, "Rejected by the database");
+		}
+	}
+
+	private ProductImportResultDTO created(PendingProduct pending, Long id) {
+		String name = pending.product().getName();
+		nameIndex.put(id, name);
+		suggester.put(id, name);
+		return new ProductImportResultDTO(pending.line(), id, name, null);
+	}
+
+	private void recordChanges(List<Long> ids) {
+		try {
+			changeService.record(ids);
+		} catch (DataAccessException ex) {
+			log.warn("Imported products not recorded in the change feed: {}", ex.getMostSpecificCause().getMessage());
+		}
+	}
+
+	private void write(OutputStream output, ProductImportResultDTO result) throws IOException {
+		output.write(objectMapper.writeValueAsBytes(result));
+		output.write('\n');
+	}
+
+	private String normalize(String name) {
+		return name.trim().toLowerCase(Locale.ROOT);
+	}
+
+	private record PendingProduct(int line, Product product) {}
+}
\ No newline at end of file
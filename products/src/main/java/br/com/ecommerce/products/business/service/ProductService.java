@@ -2,17 +2,31 @@ package br.com.ecommerce.products.business.service;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
 import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import br.com.ecommerce.common.page.ContinuationToken;
 import br.com.ecommerce.products.api.dto.category.SimpleDataCategoryDTO;
 import br.com.ecommerce.products.api.dto.manufacturer.SimpleDataManufacturerDTO;
+import br.com.ecommerce.products.api.dto.page.CursorPageDTO;
+import br.com.ecommerce.products.api.dto.product.CheckoutQuoteDTO;
 import br.com.ecommerce.products.api.dto.product.CompletePriceDataDTO;
 import br.com.ecommerce.products.api.dto.product.CreateProductDTO;
 import br.com.ecommerce.products.api.dto.product.DataProductDTO;
@@ -21,6 +35,7 @@ import br.com.ecommerce.products.api.dto.product.DataStockDTO;
 import br.com.ecommerce.products.api.dto.product.InternalProductDataDTO;
 import br.com.ecommerce.products.api.dto.product.ProductUnitsRequestedDTO;
 import br.com.ecommerce.products.api.dto.product.SimplePriceDataDTO;
+import br.com.ecommerce.products.api.dto.product.ProductSuggestionDTO;
 import br.com.ecommerce.products.api.dto.product.StockWriteOffDTO;
 import br.com.ecommerce.products.api.dto.product.UpdatePriceDTO;
 import br.com.ecommerce.products.api.dto.product.UpdateProductDTO;
@@ -33,6 +48,9 @@ import br.com.ecommerce.products.api.mapper.PriceMapper;
 import br.com.ecommerce.products.api.mapper.ProductMapper;
 import br.com.ecommerce.products.api.mapper.StockMapper;
 import br.com.ecommerce.products.business.validator.UniqueNameProductValidator;
+import br.com.ecommerce.products.infra.cache.ProductDetailCache;
+import br.com.ecommerce.products.infra.cache.ProductPriceCache;
+import br.com.ecommerce.products.infra.cache.SerializedProduct;
 import br.com.ecommerce.products.infra.entity.category.Category;
 import br.com.ecommerce.products.infra.entity.manufacturer.Manufacturer;
 import br.com.ecommerce.products.infra.entity.product.Price;
@@ -42,7 +60,15 @@ import br.com.ecommerce.products.infra.exception.exceptions.ManufacturerNotFound
 import br.com.ecommerce.products.infra.exception.exceptions.ProductNotFoundException;
 import br.com.ecommerce.products.infra.repository.CategoryRepository;
 import br.com.ecommerce.products.infra.repository.ManufacturerRepository;
+import br.com.ecommerce.products.infra.repository.ProductImage;
 import br.com.ecommerce.products.infra.repository.ProductRepository;
+import br.com.ecommerce.products.infra.repository.ProductUnit;
+import br.com.ecommerce.products.infra.repository.ProductView;
+import br.com.ecommerce.products.infra.search.ProductNameIndex;
+import br.com.ecommerce.products.infra.search.ProductNameSuggester;
+import br.com.ecommerce.products.infra.stock.StockWriteBehindBuffer;
+import br.com.ecommerce.products.infra.transaction.AfterCommit;
+import br.com.ecommerce.products.infra.transaction.ReadOnlyTransactional;
 import jakarta.transaction.Transactional;
 import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -61,24 +87,49 @@ public class ProductService {
 	private final ProductMapper productMapper;
 	private final CategoryMapper categoryMapper;
 	private final ManufacturerMapper manufacturerMapper;
+	private final ObjectMapper objectMapper;
 
 	private final UniqueNameProductValidator uniqueNameValidator;
 
 	private final PriceJobService scheduler;
+	private final ProductChangeService changeService;
+
+	private final ProductPriceCache priceCache;
+	private final ProductDetailCache detailCache;
+	private final ProductNameIndex nameIndex;
+	private final ProductNameSuggester suggester;
+	private final StockWriteBehindBuffer stockBuffer;
 
 
+	@ReadOnlyTransactional
 	public DataProductDTO getProduct(Long id) {
-		return productRepository.findById(id)
-			.map(this::createDataProductDTO)
+		return this.createDataProductDTOs(productRepository.findAllViewsByIdIn(List.of(id))).stream()
+			.findFirst()
 			.orElseThrow(ProductNotFoundException::new);
 	}
 
+	/**
+	 * Same content as {@link #getProduct(Long)}, serialized once and kept until the product changes. Misses
+	 * are loaded from the primary, so a lagging replica cannot put a row the cache was just evicted of back.
+	 */
+	@Transactional
+	public SerializedProduct getSerializedProduct(Long id) {
+		return detailCache.get(id, productId -> {
+			ProductView product = productRepository.findAllViewsByIdIn(List.of(productId)).stream()
+				.findFirst()
+				.orElseThrow(ProductNotFoundException::new);
+			byte[] json = this.serialize(this.createDataProductDTOs(List.of(product)).get(0));
+			return SerializedProduct.of(productId, product.getModifiedAt(), json);
+		});
+	}
+
 	public InternalProductDataDTO getProductPriceInternal(Long id) {
-		return productRepository.findById(id)
+		return priceCache.get(id, productId -> productRepository.findById(productId)
 			.map(productMapper::toInternalProductDataDTO)
-			.orElseThrow(ProductNotFoundException::new);
+			.orElseThrow(ProductNotFoundException::new));
 	}
 
+	@ReadOnlyTransactional
 	public Page<DataProductDTO> getAllProductWithParams(
 		String name, 
 		String categoryName, 
@@ -87,37 +138,149 @@ public class ProductService {
 		String manufacturer,
 		Pageable pageable 
 	) {
-		return productRepository.findAllByParams(
+		if (nameIndex.supports(name)) 
+			return this.getAllProductWithIndexedName(name, categoryName, minPrice, maxPrice, manufacturer, pageable);
+
+		return this.createDataProductDTOs(productRepository.findAllByParams(
 			name, 
 			categoryName, 
 			minPrice, 
 			maxPrice, 
 			manufacturer,
 			pageable 
-		)
-		.map(this::createDataProductDTO);
+		));
+	}
+
+	@ReadOnlyTransactional
+	public CursorPageDTO<DataProductDTO> getAllProductWithParamsAfter(
+		String cursor,
+		int size,
+		String name, 
+		String categoryName, 
+		BigDecimal minPrice, 
+		BigDecimal maxPrice,
+		String manufacturer
+	) {
+		Long lastId = Optional.ofNullable(ContinuationToken.decode(cursor, Long::valueOf)).orElse(0L);
+		Slice<ProductView> slice = productRepository.findAllByParamsAfterId(
+			lastId, 
+			name, 
+			categoryName, 
+			minPrice, 
+			maxPrice, 
+			manufacturer, 
+			PageRequest.ofSize(size));
+
+		List<ProductView> products = slice.getContent();
+		String nextCursor = slice.hasNext()
+			? ContinuationToken.encode(products.get(products.size() - 1).getId())
+			: null;
+		return new CursorPageDTO<>(
+			this.createDataProductDTOs(products),
+			products.size(),
+			slice.hasNext(),
+			nextCursor);
+	}
+
+	/**
+	 * Names starting with the prefix, then names with a word starting with it, served from memory.
+	 */
+	public List<ProductSuggestionDTO> getSuggestions(String prefix, int size) {
+		return suggester.suggest(prefix, size);
 	}
 
+	private Page<DataProductDTO> getAllProductWithIndexedName(
+		String name, 
+		String categoryName, 
+		BigDecimal minPrice, 
+		BigDecimal maxPrice,
+		String manufacturer,
+		Pageable pageable 
+	) {
+		List<Long> candidates = nameIndex.search(name);
+		if (candidates.isEmpty()) return Page.empty(pageable);
+
+		if (pageable.getSort().isSorted())
+			return this.createDataProductDTOs(productRepository.findAllByParamsAndIdIn(
+				candidates, categoryName, minPrice, maxPrice, manufacturer, pageable));
+
+		Set<Long> matching = new HashSet<>(productRepository.findAllIdsByParamsAndIdIn(
+			candidates, categoryName, minPrice, maxPrice, manufacturer));
+		List<Long> ranked = candidates.stream()
+			.filter(matching::contains)
+			.toList();
+
+		List<Long> pageIds = pageable.isUnpaged() ? ranked : ranked.stream()
+			.skip(pageable.getOffset())
+			.limit(pageable.getPageSize())
+			.toList();
+		Map<Long, ProductView> products = productRepository.findAllViewsByIdIn(pageIds).stream()
+			.collect(Collectors.toMap(ProductView::getId, Function.identity()));
+
+		List<DataProductDTO> content = this.createDataProductDTOs(pageIds.stream()
+			.map(products::get)
+			.filter(Objects::nonNull)
+			.toList());
+		return new PageImpl<>(content, pageable, ranked.size());
+	}
+
+	/**
+	 * Compares the units requested for each product, added up, with its stock, reading the units in one
+	 * query without locking the products. Unknown products are left out.
+	 */
+	@Transactional
 	public List<Product> checkWichProductsExceedsStock(List<ProductUnitsRequestedDTO> productsRequest) {
-		Map<Long, Integer> unitiesRequested = productsRequest.stream()
-			.collect(Collectors.toMap(i -> i.getId(), u -> u.getUnit()));
+		List<Long> failedIds;
+		if (stockBuffer.isEnabled()) {
+			failedIds = stockBuffer.findExceeding(productsRequest);
+		} else {
+			Map<Long, Long> requested = new LinkedHashMap<>();
+			productsRequest.forEach(line -> requested.merge(line.getId(), line.getUnit().longValue(), Long::sum));
+			failedIds = productRepository.findAllUnitsByIdIn(requested.keySet()).stream()
+				.filter(product -> product.getUnit() == null || product.getUnit() < requested.get(product.getId()))
+				.map(ProductUnit::getId)
+				.toList();
+		}
+		if (failedIds.isEmpty()) return List.of();
+
+		return productRepository.findAllById(failedIds);
+	}
 
-		List<Long> listOfProductIds = productsRequest.stream()
-			.map(p -> p.getId())
+	/**
+	 * Answers stock, price, name and image for every requested product in one query. Units requested
+	 * more than once for the same product are added up; unknown products come back unavailable.
+	 */
+	public List<CheckoutQuoteDTO> getCheckoutQuote(List<ProductUnitsRequestedDTO> lines) {
+		Map<Long, Long> requested = new LinkedHashMap<>();
+		lines.forEach(line -> requested.merge(line.getId(), line.getUnit().longValue(), Long::sum));
+
+		Map<Long, ProductView> products = productRepository.findAllViewsByIdIn(requested.keySet()).stream()
+			.collect(Collectors.toMap(ProductView::getId, Function.identity()));
+		Set<Long> exceeding = stockBuffer.isEnabled() ? Set.copyOf(stockBuffer.findExceeding(lines)) : Set.of();
+
+		return requested.entrySet().stream()
+			.map(entry -> {
+				ProductView product = products.get(entry.getKey());
+				if (product == null) return new CheckoutQuoteDTO(entry.getKey(), null, null, null, 0, false);
+
+				boolean available = stockBuffer.isEnabled()
+					? !exceeding.contains(entry.getKey())
+					: product.getUnit() != null && product.getUnit() >= entry.getValue();
+				return productMapper.toCheckoutQuoteDTO(product, available);
+			})
 			.toList();
-		
-		return productRepository.findAllById(listOfProductIds).stream()
-			.filter(product -> product != null && product.getStock().getUnit() < unitiesRequested.get(product.getId())) 
-			.collect(Collectors.toList());
 	}
 
 	@Transactional
 	public UpdateProductResponseDTO updateProductData(Long id, UpdateProductDTO dto) {
 		uniqueNameValidator.validate(dto.getName());
+		priceCache.evict(id);
+		changeService.record(id);
+		detailCache.evict(id);
 		return productRepository.findById(id)
 			.map(product -> {
 				product.update(dto.getName(), dto.getDescription(), dto.getSpecs());
-				return productRepository.save(product);
+				return uniqueNameValidator.save(() -> productRepository.save(product));
 			})
 			.map(productMapper::toProductUpdateResponseDTO)
 			.orElseThrow(ProductNotFoundException::new);
@@ -125,6 +288,9 @@ public class ProductService {
 
 	@Transactional
 	public UpdateProductPriceResponseDTO updateProductPrice(Long id, UpdatePriceDTO dto) {
+		priceCache.evict(id);
+		changeService.record(id);
+		detailCache.evict(id);
 		return productRepository.findById(id)
 			.map(p -> {
 				Price newPrice = priceMapper.toPrice(dto);
@@ -137,6 +303,9 @@ public class ProductService {
 
 	@Transactional
 	public UpdateProductPriceResponseDTO switchCurrentPriceToOriginal(Long id) {
+		priceCache.evict(id);
+		changeService.record(id);
+		detailCache.evict(id);
 		return productRepository.findById(id)
 			.map(p -> {
 				p.switchPriceToOriginal();
@@ -151,6 +320,9 @@ public class ProductService {
 
 	@Transactional
 	public UpdateProductPriceResponseDTO switchCurrentPriceToPromotional(Long productId, LocalDateTime endOfPromotion) {
+		priceCache.evict(productId);
+		changeService.record(productId);
+		detailCache.evict(productId);
 		return productRepository.findById(productId)
 			.map(product -> {
 				product.switchPriceToPromotional(endOfPromotion);
@@ -167,19 +339,60 @@ public class ProductService {
 	public DataProductStockDTO updateStockByProductId(Long productId, DataStockDTO dto) {
 		Product target = productRepository.getReferenceById(productId);
 		target.updateStock(dto.getUnit());
+		detailCache.evict(productId);
+		AfterCommit.run(() -> stockBuffer.refresh(productId));
 		return stockMapper.toDataProductStock(target);
 	}
 
 	@Transactional
-	public void updateStocks(List<StockWriteOffDTO> dto) {
-		Map<Long, Integer> writeOffValueMap = dto.stream()
-			.collect(Collectors.toMap(
-				StockWriteOffDTO::getProductId, StockWriteOffDTO::getUnit));
-		
-		productRepository.findAllById(dto.stream()
-			.map(StockWriteOffDTO::getProductId)
-			.toList())
-				.forEach(p -> p.updateStock(writeOffValueMap.get(p.getId())));
+	public List<ProductUnitsRequestedDTO> updateStocks(List<StockWriteOffDTO> dto) {
+		List<ProductUnitsRequestedDTO> lines = this.toUnitsRequested(dto);
+
+		if (!stockBuffer.isEnabled())
+			detailCache.evictAll(lines.stream().map(ProductUnitsRequestedDTO::getId).toList());
+
+		List<ProductUnitsRequestedDTO> failed = stockBuffer.isEnabled()
+			? stockBuffer.reserve(lines)
+			: productRepository.reserveStocks(lines);
+		if (!failed.isEmpty()) log.warn("Stock write-off rejected for lines: {}", failed);
+		return failed;
+	}
+
+	/**
+	 * Write-offs of several messages in one transaction. The reservations of each product are summed into a
+	 * single update; a product whose sum cannot be reserved, or that also has lines returning units, has its
+	 * lines applied one by one in message order instead. Either way the same lines are rejected as by calling
+	 * {@link #updateStocks(List)} once per message.
+	 */
+	@Transactional
+	public List<ProductUnitsRequestedDTO> updateStocksInBatch(List<List<StockWriteOffDTO>> writeOffs) {
+		List<ProductUnitsRequestedDTO> lines = this.toUnitsRequested(writeOffs.stream().flatMap(List::stream).toList());
+		if (stockBuffer.isEnabled()) {
+			List<ProductUnitsRequestedDTO> failed = stockBuffer.reserve(lines);
+			if (!failed.isEmpty()) log.warn("Stock write-off rejected for lines: {}", failed);
+			return failed;
+		}
+
+		Map<Long, List<ProductUnitsRequestedDTO>> linesByProductId = lines.stream()
+			.collect(Collectors.groupingBy(ProductUnitsRequestedDTO::getId, LinkedHashMap::new, Collectors.toList()));
+		detailCache.evictAll(List.copyOf(linesByProductId.keySet()));
+
+		List<ProductUnitsRequestedDTO> sums = linesByProductId.entrySet().stream()
+			.filter(entry -> entry.getValue().stream().allMatch(line -> line.getUnit() >= 0))
+			.map(entry -> new ProductUnitsRequestedDTO(entry.getKey(), entry.getValue().stream()
+				.map(ProductUnitsRequestedDTO::getUnit)
+				.reduce(0, Math::addExact)))
+			.toList();
+		Set<Long> summedIds = sums.stream()
+			.map(ProductUnitsRequestedDTO::getId)
+			.collect(Collectors.toCollection(HashSet::new));
+		productRepository.reserveStocks(sums).forEach(rejected -> summedIds.remove(rejected.getId()));
+
+		List<ProductUnitsRequestedDTO> failed = productRepository.reserveStocks(lines.stream()
+			.filter(line -> !summedIds.contains(line.getId()))
+			.toList());
+		if (!failed.isEmpty()) log.warn("Stock write-off rejected for lines: {}", failed);
+		return failed;
 	}
 
 	@Transactional
@@ -195,22 +408,28 @@ public class ProductService {
 		category.addProduct(product);
 		manufacturer.addProduct(product);
 
-		productRepository.save(product);
+		uniqueNameValidator.save(() -> productRepository.save(product));
 		categoryRepository.save(category);
 		manufacturerRepository.save(manufacturer);
+		changeService.record(product.getId());
 		
 		return this.createDataProductDTO(product);
 	}
 
 	public Map<String, InternalProductDataDTO> getAllProductsByListOfIds(Set<Long> productsIds) {
-		return productRepository.findAllById(productsIds).stream()
+		return priceCache.getAll(productsIds, missingIds -> productRepository.findAllById(missingIds).stream()
+				.collect(Collectors.toMap(Product::getId, productMapper::toInternalProductDataDTO)))
+			.entrySet().stream()
 			.collect(Collectors.toMap(
-				product -> String.valueOf(product.getId()), 
-				productMapper::toInternalProductDataDTO));
+				entry -> String.valueOf(entry.getKey()), 
+				Map.Entry::getValue));
 	}
 
 	@Transactional
 	public UpdateProductImagesResponseDTO addMainImage(Long productId, String imageLink) {
+		priceCache.evict(productId);
+		changeService.record(productId);
+		detailCache.evict(productId);
 		return productRepository.findById(productId)
 			.stream()
 			.peek(product -> product.getImages().setMainImage(imageLink))
@@ -222,6 +441,9 @@ public class ProductService {
 
 	@Transactional
 	public UpdateProductImagesResponseDTO addImages(Long productId, Set<String> newImages) {
+		priceCache.evict(productId);
+		changeService.record(productId);
+		detailCache.evict(productId);
 		return productRepository.findById(productId)
 			.stream()
 			.peek(product -> product.getImages().addAdditionalImages(newImages))
@@ -233,6 +455,9 @@ public class ProductService {
 
 	@Transactional
 	public UpdateProductImagesResponseDTO removeImages(Long productId, Set<String> newImages) {
+		priceCache.evict(productId);
+		changeService.record(productId);
+		detailCache.evict(productId);
 		return productRepository.findById(productId)
 			.stream()
 			.peek(product -> product.getImages().remove(newImages))
@@ -242,6 +467,12 @@ public class ProductService {
 			.orElseThrow(ProductNotFoundException::new);
     }
 
+	private List<ProductUnitsRequestedDTO> toUnitsRequested(List<StockWriteOffDTO> writeOffs) {
+		return writeOffs.stream()
+			.map(writeOff -> new ProductUnitsRequestedDTO(writeOff.getProductId(), Math.negateExact(writeOff.getUnit())))
+			.toList();
+	}
+
 	private DataProductDTO createDataProductDTO(Product product) {
 		SimplePriceDataDTO priceData = priceMapper.toSimplePriceDataDTO(product.getPrice());
 		DataStockDTO stockData = stockMapper.toDataStockDTO(product.getStock());
@@ -252,6 +483,39 @@ public class ProductService {
 		return productMapper.toDataProductDTO(product, priceData, stockData, categoryData, manufacturerData);
 	}
 
+	private Page<DataProductDTO> createDataProductDTOs(Page<ProductView> views) {
+		return new PageImpl<>(
+			this.createDataProductDTOs(views.getContent()), 
+			views.getPageable(), 
+			views.getTotalElements());
+	}
+
+	private byte[] serialize(DataProductDTO product) {
+		try {
+			return objectMapper.writeValueAsBytes(product);
+		} catch (JsonProcessingException ex) {
+			throw new IllegalStateException("Product " + product.getId() + " could not be serialized", ex);
+		}
+	}
+
+	/**
+	 * Builds the DTOs from rows that already carry category and manufacturer, loading the
+	 * additional images of the whole batch in a single query.
+	 */
+	private List<DataProductDTO> createDataProductDTOs(List<ProductView> views) {
+		if (views.isEmpty()) return List.of();
+
+		List<Long> ids = views.stream().map(ProductView::getId).toList();
+		Map<Long, Set<String>> images = productRepository.findAllImagesByProductIdIn(ids).stream()
+			.collect(Collectors.groupingBy(
+				ProductImage::getProductId, 
+				Collectors.mapping(ProductImage::getImage, Collectors.toSet())));
+
+		return views.stream()
+			.map(view -> productMapper.toDataProductDTO(view, images.getOrDefault(view.getId(), Set.of())))
+			.toList();
+	}
+
 	private UpdateProductPriceResponseDTO createUpdateProductPriceResponseDTO(Product product) {
 		CompletePriceDataDTO priceData = priceMapper.toCompletePriceDataDTO(product.getPrice());
 		return productMapper.toUpdateProductPriceResponseDTO(product, priceData);
@@ -260,4 +524,15 @@ public class ProductService {
     public boolean existsProduct(Long productId) {
 		return productRepository.existsById(productId);
     }
+
+	/**
+	 * Returns the ids, among the given ones, of the products that do not exist, checking all of them in a
+	 * single query.
+	 */
+	public Set<Long> findMissingProducts(Set<Long> productIds) {
+		Set<Long> existing = productRepository.findAllIdsByIdIn(productIds);
+		return productIds.stream()
+			.filter(productId -> !existing.contains(productId))
+			.collect(Collectors.toSet());
+	}
 }
\ No newline at end of file
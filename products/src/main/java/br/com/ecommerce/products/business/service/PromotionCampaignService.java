@@ -0,0 +1,80 @@
+package br.com.ecommerce.products.business.service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.springframework.stereotype.Service;
+
+import br.com.ecommerce.products.api.dto.product.BulkPromotionalPriceResponseDTO;
+import br.com.ecommerce.products.api.dto.product.PromotionalPriceDTO;
+import br.com.ecommerce.products.infra.cache.ProductDetailCache;
+import br.com.ecommerce.products.infra.cache.ProductPriceCache;
+import br.com.ecommerce.products.infra.repository.ProductRepository;
+import lombok.AllArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Service
+@AllArgsConstructor
+public class PromotionCampaignService {
+
+	private static final int CHUNK_SIZE = 500;
+
+	private final ProductRepository productRepository;
+	private final ProductPriceCache priceCache;
+	private final ProductDetailCache detailCache;
+	private final PriceJobService scheduler;
+	private final ProductChangeService changeService;
+
+
+	/**
+	 * Puts the given products on promotion, one JDBC batch per chunk of lines. Each chunk commits on its own
+	 * and registers the end of its promotions once per distinct end date.
+	 */
+	public BulkPromotionalPriceResponseDTO startPromotions(List<PromotionalPriceDTO> lines) {
+		int applied = 0;
+		Set<Long> rejected = new HashSet<>();
+		List<Long> rejectedInOrder = new ArrayList<>();
+
+		for (int from = 0; from < lines.size(); from += CHUNK_SIZE) {
+			List<PromotionalPriceDTO> chunk = lines.subList(from, Math.min(from + CHUNK_SIZE, lines.size()));
+			List<PromotionalPriceDTO> failed = productRepository.startPromotions(chunk);
+			Set<PromotionalPriceDTO> failedLines = Set.copyOf(failed);
+
+			List<PromotionalPriceDTO> started = chunk.stream()
+				.filter(line -> !failedLines.contains(line))
+				.toList();
+			List<Long> productIds = chunk.stream().map(PromotionalPriceDTO::getProductId).toList();
+			priceCache.evictAll(productIds);
+			detailCache.evictAll(productIds);
+			changeService.record(started.stream().map(PromotionalPriceDTO::getProductId).toList());
+			this.scheduleEndOfPromotions(started);
+
+			applied += started.size();
+			failed.stream()
+				.map(PromotionalPriceDTO::getProductId)
+				.filter(rejected::add)
+				.forEach(rejectedInOrder::add);
+		}
+
+		if (!rejectedInOrder.isEmpty()) log.warn("Promotion rejected for products: {}", rejectedInOrder);
+		return new BulkPromotionalPriceResponseDTO(applied, rejectedInOrder);
+	}
+
+	private void scheduleEndOfPromotions(List<PromotionalPriceDTO> started) {
+		Map<Long, LocalDateTime> endByProduct = new LinkedHashMap<>();
+		started.forEach(line -> endByProduct.put(line.getProductId(), line.getEndOfPromotion()));
+
+		Map<LocalDateTime, List<Long>> productsByEnd = endByProduct.entrySet().stream()
+			.collect(Collectors.groupingBy(
+				Map.Entry::getValue,
+				Collectors.mapping(Map.Entry::getKey, Collectors.toList())));
+		productsByEnd.forEach((end, productIds) -> scheduler.createScheduleForEndOfPromotion(productIds, end));
+	}
+}
\ No newline at end of file
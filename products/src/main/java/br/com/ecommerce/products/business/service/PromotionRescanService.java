@@ -1,21 +1,67 @@
 package br.com.ecommerce.products.business.service;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 
+import br.com.ecommerce.products.infra.cache.ProductDetailCache;
+import br.com.ecommerce.products.infra.cache.ProductPriceCache;
 import br.com.ecommerce.products.infra.repository.ProductRepository;
 import jakarta.transaction.Transactional;
 import lombok.AllArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 
+@Slf4j
 @Service
 @AllArgsConstructor
 public class PromotionRescanService {
 
+	private static final int CHUNK_SIZE = 500;
+
 	private final ProductRepository productRepository;
+	private final ProductPriceCache priceCache;
+	private final ProductDetailCache detailCache;
+	private final ProductChangeService changeService;
+
+
+	/**
+	 * Ends every promotion that expired while the service was down, one bulk update per chunk of
+	 * products, and returns how many products were updated. Each chunk commits on its own.
+	 */
+	public int rescanProductsWithExpiredPromotions() {
+		LocalDateTime now = LocalDateTime.now();
+		int expired = 0;
+		Long lastId = 0L;
 
+		List<Long> chunk;
+		do {
+			chunk = productRepository.findAllIdsWithPromotionEndedAfterId(lastId, now, PageRequest.ofSize(CHUNK_SIZE));
+			if (chunk.isEmpty()) break;
+
+			expired += productRepository.expirePromotions(chunk, now);
+			priceCache.evictAll(chunk);
+			changeService.record(chunk);
+			detailCache.evictAll(chunk);
+			lastId = chunk.get(chunk.size() - 1);
+		} while (chunk.size() == CHUNK_SIZE);
+
+		log.info("Expired promotions rescanned: {} products updated", expired);
+		return expired;
+	}
 
+	/**
+	 * Ends the promotions of the given products in one statement. Products whose promotion was
+	 * extended or removed in the meantime are left untouched.
+	 */
 	@Transactional
-	public void rescanProductsWithExpiredPromotions() {
-		productRepository.findAllWithExpiredPromotions()
-			.forEach(product -> product.switchPriceToOriginal());
+	public int expirePromotions(Collection<Long> productIds) {
+		int expired = productRepository.expirePromotions(productIds, LocalDateTime.now());
+		priceCache.evictAll(productIds);
+		changeService.record(productIds);
+		detailCache.evictAll(productIds);
+		return expired;
 	}
 }
\ No newline at end of file
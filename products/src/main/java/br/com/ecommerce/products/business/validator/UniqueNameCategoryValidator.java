@@ -2,20 +2,14 @@ package br.com.ecommerce.products.business.validator;
 
 import org.springframework.stereotype.Component;
 
-import br.com.ecommerce.products.infra.entity.tools.interfaces.Validator;
+import br.com.ecommerce.products.infra.entity.category.Category;
 import br.com.ecommerce.products.infra.repository.CategoryRepository;
-import lombok.AllArgsConstructor;
+import br.com.ecommerce.products.infra.search.UniqueNameIndex;
 
 @Component
-@AllArgsConstructor
-public class UniqueNameCategoryValidator implements Validator<String> {
+public class UniqueNameCategoryValidator extends UniqueNameValidator {
 
-    private final CategoryRepository repository;
-
-
-    @Override
-    public void validate(String param) {
-        if (repository.existsByName(param))
-            throw new IllegalArgumentException("Invalid category name");
+    public UniqueNameCategoryValidator(CategoryRepository repository, UniqueNameIndex nameIndex) {
+        super(Category.class, Category.NAME_CONSTRAINT, repository, repository::existsByName, nameIndex, "Invalid category name");
     }
 }
\ No newline at end of file
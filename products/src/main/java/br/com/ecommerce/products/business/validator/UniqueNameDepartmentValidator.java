@@ -2,20 +2,14 @@ package br.com.ecommerce.products.business.validator;
 
 import org.springframework.stereotype.Component;
 
-import br.com.ecommerce.products.infra.entity.tools.interfaces.Validator;
+import br.com.ecommerce.products.infra.entity.department.Department;
 import br.com.ecommerce.products.infra.repository.DepartmentRepository;
-import lombok.AllArgsConstructor;
+import br.com.ecommerce.products.infra.search.UniqueNameIndex;
 
 @Component
-@AllArgsConstructor
-public class UniqueNameDepartmentValidator implements Validator<String> {
+public class UniqueNameDepartmentValidator extends UniqueNameValidator {
 
-    private final DepartmentRepository repository;
-
-
-    @Override
-    public void validate(String param) {
-        if (repository.existsByName(param))
-            throw new IllegalArgumentException("Invalid department name");
+    public UniqueNameDepartmentValidator(DepartmentRepository repository, UniqueNameIndex nameIndex) {
+        super(Department.class, Department.NAME_CONSTRAINT, repository, repository::existsByName, nameIndex, "Invalid department name");
     }
 }
\ No newline at end of file
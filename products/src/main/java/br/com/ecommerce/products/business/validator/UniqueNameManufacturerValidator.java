@@ -2,20 +2,14 @@ package br.com.ecommerce.products.business.validator;
 
 import org.springframework.stereotype.Component;
 
-import br.com.ecommerce.products.infra.entity.tools.interfaces.Validator;
+import br.com.ecommerce.products.infra.entity.manufacturer.Manufacturer;
 import br.com.ecommerce.products.infra.repository.ManufacturerRepository;
-import lombok.AllArgsConstructor;
+import br.com.ecommerce.products.infra.search.UniqueNameIndex;
 
 @Component
-@AllArgsConstructor
-public class UniqueNameManufacturerValidator implements Validator<String> {
+public class UniqueNameManufacturerValidator extends UniqueNameValidator {
 
-    private final ManufacturerRepository repository;
-
-
-    @Override
-    public void validate(String param) {
-        if (repository.existsByName(param))
-            throw new IllegalArgumentException("Invalid manufacturer name");
+    public UniqueNameManufacturerValidator(ManufacturerRepository repository, UniqueNameIndex nameIndex) {
+        super(Manufacturer.class, Manufacturer.NAME_CONSTRAINT, repository, repository::existsByName, nameIndex, "Invalid manufacturer name");
     }
 }
\ No newline at end of file
@@ -2,20 +2,14 @@ package br.com.ecommerce.products.business.validator;
 
 import org.springframework.stereotype.Component;
 
-import br.com.ecommerce.products.infra.entity.tools.interfaces.Validator;
+import br.com.ecommerce.products.infra.entity.product.Product;
 import br.com.ecommerce.products.infra.repository.ProductRepository;
-import lombok.AllArgsConstructor;
+import br.com.ecommerce.products.infra.search.UniqueNameIndex;
 
 @Component
-@AllArgsConstructor
-public class UniqueNameProductValidator implements Validator<String> {
+public class UniqueNameProductValidator extends UniqueNameValidator {
 
-    private final ProductRepository repository;
-
-
-    @Override
-    public void validate(String param) {
-        if (repository.existsByName(param))
-            throw new IllegalArgumentException("Invalid product name");
+    public UniqueNameProductValidator(ProductRepository repository, UniqueNameIndex nameIndex) {
+        super(Product.class, Product.NAME_CONSTRAINT, repository, repository::existsByName, nameIndex, "Invalid product name");
     }
 }
\ No newline at end of file
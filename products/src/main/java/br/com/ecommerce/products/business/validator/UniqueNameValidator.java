@@ -0,0 +1,76 @@
+package br.com.ecommerce.products.business.validator;
+
+import java.sql.SQLException;
+import java.util.Locale;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import br.com.ecommerce.products.infra.entity.tools.interfaces.Validator;
+import br.com.ecommerce.products.infra.search.UniqueNameIndex;
+
+/**
+ * Checks that a name is not taken yet, through the {@link UniqueNameIndex}, and translates a violation of the
+ * unique constraint on the name, when the entity is saved, into the same error.
+ */
+public abstract class UniqueNameValidator implements Validator<String> {
+
+    private final Class<?> entity;
+    private final String constraint;
+    private final JpaRepository<?, ?> repository;
+    private final Predicate<String> existsByName;
+    private final UniqueNameIndex nameIndex;
+    private final String message;
+
+
+    protected UniqueNameValidator(
+        Class<?> entity,
+        String constraint,
+        JpaRepository<?, ?> repository,
+        Predicate<String> existsByName,
+        UniqueNameIndex nameIndex,
+        String message
+    ) {
+        this.entity = entity;
+        this.constraint = constraint.toLowerCase(Locale.ROOT);
+        this.repository = repository;
+        this.existsByName = existsByName;
+        this.nameIndex = nameIndex;
+        this.message = message;
+    }
+
+    @Override
+    public void validate(String param) {
+        if (nameIndex.exists(entity, param, existsByName))
+            throw new IllegalArgumentException(message);
+    }
+
+    /**
+     * Runs {@code write} and flushes it, so a name taken after {@link #validate(String)} passed, by a
+     * concurrent request or through another instance the index has not heard of, fails with the same error
+     * instead of the unique constraint violation. Any other integrity violation is rethrown as is.
+     */
+    public <T> T save(Supplier<T> write) {
+        try {
+            T saved = write.get();
+            repository.flush();
+            return saved;
+        } catch (DataIntegrityViolationException ex) {
+            if (this.violatesName(ex)) throw new IllegalArgumentException(message);
+            throw ex;
+        }
+    }
+
+    private boolean violatesName(Throwable ex) {
+        for (Throwable cause = ex; cause != null; cause = cause.getCause()) {
+            String name = cause instanceof ConstraintViolationException violation
+                ? violation.getConstraintName()
+                : cause instanceof SQLException ? cause.getMessage() : null;
+            if (name != null && name.toLowerCase(Locale.ROOT).contains(constraint)) return true;
+        }
+        return false;
+    }
+}
\ No newline at end of file
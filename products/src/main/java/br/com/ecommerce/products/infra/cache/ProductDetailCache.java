@@ -0,0 +1,67 @@
+package br.com.ecommerce.products.infra.cache;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Function;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import br.com.ecommerce.products.infra.transaction.AfterCommit;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+/**
+ * Serialized product detail responses by product id. Every method that changes what the detail shows
+ * evicts the product: its own fields, prices, stock, images, and the category or manufacturer names.
+ * <p>
+ * Evictions only reach this instance, so entries also expire after {@code expire-after-write-seconds}
+ * to bound how long a change made through another instance stays hidden.
+ */
+@Component
+public class ProductDetailCache {
+
+    private static final String CACHE_NAME = "products.details";
+
+    private final Cache<Long, SerializedProduct> cache;
+
+
+    public ProductDetailCache(
+        @Value("${api.cache.details.maximum-size:10000}") long maximumSize,
+        @Value("${api.cache.details.expire-after-write-seconds:300}") long expireAfterWriteSeconds,
+        MeterRegistry registry
+    ) {
+        this.cache = Caffeine.newBuilder()
+            .maximumSize(maximumSize)
+            .expireAfterWrite(Duration.ofSeconds(expireAfterWriteSeconds))
+            .recordStats()
+            .build();
+        CaffeineCacheMetrics.monitor(registry, cache, CACHE_NAME);
+    }
+
+    public SerializedProduct get(Long productId, Function<Long, SerializedProduct> loader) {
+        return cache.get(productId, loader);
+    }
+
+    public void evict(Long productId) {
+        this.evictAll(List.of(productId));
+    }
+
+    /**
+     * Evicts immediately and again after the surrounding transaction commits, so a concurrent read
+     * cannot put the pre-commit state back into the cache.
+     */
+    public void evictAll(Collection<Long> productIds) {
+        cache.invalidateAll(productIds);
+        AfterCommit.run(() -> cache.invalidateAll(productIds));
+    }
+
+    public void clear() {
+        cache.invalidateAll();
+        AfterCommit.run(cache::invalidateAll);
+    }
+}
\ No newline at end of file
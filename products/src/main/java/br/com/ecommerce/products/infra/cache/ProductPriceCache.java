@@ -0,0 +1,79 @@
+package br.com.ecommerce.products.infra.cache;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+
+import br.com.ecommerce.products.api.dto.product.InternalProductDataDTO;
+import br.com.ecommerce.products.infra.transaction.AfterCommit;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+/**
+ * Name, current price and main image of products by id, served to the other services. Each instance
+ * evicts its own entries on a change and on every change announced on {@code products.changes.ex}; entries
+ * also expire after {@code expire-after-write-seconds} in case an announcement is lost.
+ */
+@Component
+public class ProductPriceCache {
+
+    private static final String CACHE_NAME = "products.prices";
+
+    private final Cache<Long, InternalProductDataDTO> cache;
+
+
+    public ProductPriceCache(
+        @Value("${api.cache.prices.maximum-size:10000}") long maximumSize,
+        @Value("${api.cache.prices.expire-after-write-seconds:300}") long expireAfterWriteSeconds,
+        MeterRegistry registry
+    ) {
+        this.cache = Caffeine.newBuilder()
+            .maximumSize(maximumSize)
+            .expireAfterWrite(Duration.ofSeconds(expireAfterWriteSeconds))
+            .recordStats()
+            .build();
+        CaffeineCacheMetrics.monitor(registry, cache, CACHE_NAME);
+    }
+
+    public InternalProductDataDTO get(Long productId, Function<Long, InternalProductDataDTO> loader) {
+        return cache.get(productId, loader);
+    }
+
+    /**
+     * Returns the cached entries for the given ids, calling the loader once with only the ids that missed.
+     * Ids the loader does not return are left out of the result and are not cached.
+     */
+    public Map<Long, InternalProductDataDTO> getAll(
+        Set<Long> productIds,
+        Function<Set<Long>, Map<Long, InternalProductDataDTO>> loader
+    ) {
+        return cache.getAll(productIds, missingIds -> loader.apply(Set.copyOf(missingIds)));
+    }
+
+    public void evict(Long productId) {
+        this.evictAll(List.of(productId));
+    }
+
+    /**
+     * Evicts immediately and again after the surrounding transaction commits, so a concurrent read
+     * cannot put the pre-commit state back into the cache.
+     */
+    public void evictAll(Collection<Long> productIds) {
+        cache.invalidateAll(productIds);
+        AfterCommit.run(() -> cache.invalidateAll(productIds));
+    }
+
+    public CacheStats stats() {
+        return cache.stats();
+    }
+}
\ No newline at end of file
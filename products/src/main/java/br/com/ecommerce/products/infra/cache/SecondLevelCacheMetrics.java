@@ -0,0 +1,37 @@
+package br.com.ecommerce.products.infra.cache;
+
+import javax.cache.CacheManager;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.AllArgsConstructor;
+
+/**
+ * Exports the Caffeine statistics of every second-level cache region as {@code cache.*} meters, tagged
+ * {@code cache=hibernate.<region>}. Bound once the application is ready, when Hibernate has opened all
+ * the regions.
+ */
+@Component
+@AllArgsConstructor
+public class SecondLevelCacheMetrics {
+
+    private static final String CACHE_PREFIX = "hibernate.";
+
+    private final CacheManager hibernateCacheManager;
+    private final MeterRegistry registry;
+
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void bind() {
+        for (String region : hibernateCacheManager.getCacheNames()) {
+            Cache<?, ?> cache = hibernateCacheManager.getCache(region).unwrap(Cache.class);
+            CaffeineCacheMetrics.monitor(registry, cache, CACHE_PREFIX + region);
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,18 @@
+package br.com.ecommerce.products.infra.cache;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+import org.springframework.util.DigestUtils;
+
+/**
+ * Product detail already serialized to JSON, with a strong ETag made of the product id, its last
+ * modification and a digest of the bytes.
+ */
+public record SerializedProduct(byte[] json, String eTag) {
+
+    public static SerializedProduct of(Long productId, LocalDateTime modifiedAt, byte[] json) {
+        long version = modifiedAt == null ? 0 : modifiedAt.toInstant(ZoneOffset.UTC).toEpochMilli();
+        return new SerializedProduct(json, "\"%d-%d-%s\"".formatted(productId, version, DigestUtils.md5DigestAsHex(json)));
+    }
+}
\ No newline at end of file
@@ -1,14 +1,20 @@
 package br.com.ecommerce.products.infra.config;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
 import org.springframework.scheduling.annotation.EnableScheduling;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
+import br.com.ecommerce.products.business.service.DepartmentTreeService;
 import br.com.ecommerce.products.business.service.PriceJobService;
+import br.com.ecommerce.products.business.service.ProductChangeService;
 import br.com.ecommerce.products.business.service.PromotionRescanService;
 import br.com.ecommerce.products.infra.repository.ProductRepository;
+import br.com.ecommerce.products.infra.scheduling.PromotionTimingWheel;
+import br.com.ecommerce.products.infra.search.ProductNameIndexInitializer;
+import br.com.ecommerce.products.infra.stock.StockWriteBehindBuffer;
 import jakarta.annotation.PostConstruct;
 import lombok.AllArgsConstructor;
 
@@ -20,6 +26,11 @@ public class SchedulerConfig {
     private final ProductRepository repository;
     private final PriceJobService jobService;
     private final PromotionRescanService rescanService;
+    private final PromotionTimingWheel wheel;
+    private final StockWriteBehindBuffer stockBuffer;
+    private final ProductChangeService changeService;
+    private final DepartmentTreeService treeService;
+    private final ProductNameIndexInitializer nameIndexInitializer;
 
 
     private void createSchedule() {
@@ -40,4 +51,41 @@ public class SchedulerConfig {
     private void runsWithScheduler() {
         this.createSchedule();
     }
+
+    /**
+     * The wheel forgets the products it returns, so they go back on it when ending their promotions fails.
+     */
+    @Scheduled(fixedDelayString = "${api.promotions.wheel.tick-millis:1000}")
+    private void expireDuePromotions() {
+        LocalDateTime now = LocalDateTime.now();
+        List<Long> due = wheel.advance(now);
+        if (due.isEmpty()) return;
+
+        try {
+            this.rescanService.expirePromotions(due);
+        } catch (RuntimeException ex) {
+            wheel.requeue(due, now);
+            throw ex;
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${api.stocks.write-behind.flush-millis:500}")
+    private void flushStockReservations() {
+        this.stockBuffer.flush();
+    }
+
+    @Scheduled(cron = "0 30 3 * * *")
+    private void purgeProductChanges() {
+        this.changeService.purgeChanges();
+    }
+
+    @Scheduled(fixedDelayString = "${api.departments.tree.refresh-millis:60000}")
+    private void rebuildDepartmentTree() {
+        this.treeService.rebuild();
+    }
+
+    @Scheduled(fixedDelayString = "${api.products.name-index.sync-millis:5000}")
+    private void syncProductNameIndex() {
+        this.nameIndexInitializer.sync();
+    }
 }
\ No newline at end of file
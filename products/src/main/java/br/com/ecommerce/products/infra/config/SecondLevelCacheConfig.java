@@ -0,0 +1,48 @@
+package br.com.ecommerce.products.infra.config;
+
+import java.net.URI;
+
+import javax.cache.CacheManager;
+
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+
+/**
+ * Hibernate second-level cache of the reference entities (categories, departments and manufacturers),
+ * held in Caffeine through JCache. Regions and their bounds are declared in {@code hibernate-cache.conf}.
+ * Evictions are local to each instance, so the entity regions also expire after a write.
+ * <p>
+ * The cache manager is created by a provider of its own rather than looked up in {@code Caching}, whose
+ * managers are shared by every application context of the JVM.
+ */
+@Configuration
+public class SecondLevelCacheConfig {
+
+    @Bean(destroyMethod = "close")
+    public CacheManager hibernateCacheManager(
+        @Value("${api.cache.second-level.config:classpath:hibernate-cache.conf}") URI config
+    ) {
+        return new CaffeineCachingProvider().getCacheManager(config, this.getClass().getClassLoader());
+    }
+
+    /**
+     * Regions missing from the configuration fail the startup instead of being created unbounded.
+     */
+    @Bean
+    public HibernatePropertiesCustomizer secondLevelCache(CacheManager hibernateCacheManager) {
+        return properties -> {
+            properties.put(AvailableSettings.USE_SECOND_LEVEL_CACHE, true);
+            properties.put(AvailableSettings.USE_QUERY_CACHE, true);
+            properties.put(AvailableSettings.AUTO_EVICT_COLLECTION_CACHE, true);
+            properties.put(AvailableSettings.CACHE_REGION_FACTORY, "jcache");
+            properties.put(ConfigSettings.CACHE_MANAGER, hibernateCacheManager);
+            properties.put(ConfigSettings.MISSING_CACHE_STRATEGY, "fail");
+        };
+    }
+}
\ No newline at end of file
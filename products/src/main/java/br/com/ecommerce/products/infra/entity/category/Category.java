@@ -5,13 +5,19 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
 
 import br.com.ecommerce.products.infra.entity.department.Department;
 import br.com.ecommerce.products.infra.entity.product.Product;
+import br.com.ecommerce.products.infra.entity.tools.interfaces.Named;
+import br.com.ecommerce.products.infra.search.UniqueNameIndexListener;
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
 import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
@@ -20,20 +26,26 @@ import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.OneToMany;
 import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 @Getter
 @NoArgsConstructor
 @Entity(name = "Category")
-@Table(name = "categories")
-public class Category {
+@Table(name = "categories", uniqueConstraints = @UniqueConstraint(name = Category.NAME_CONSTRAINT, columnNames = "name"))
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "categories")
+@EntityListeners(UniqueNameIndexListener.class)
+public class Category implements Named {
+
+	public static final String NAME_CONSTRAINT = "uk_categories_name";
 
 	@Id 
 	@GeneratedValue(strategy = GenerationType.IDENTITY)
 	private Long id;
 
-	@Column(unique = true, nullable = false, length = 100)
+	@Column(nullable = false, length = 100)
 	private String name;
 
 	@ManyToOne(fetch = FetchType.LAZY)
@@ -4,36 +4,48 @@ import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
 
 import br.com.ecommerce.products.infra.entity.category.Category;
+import br.com.ecommerce.products.infra.entity.tools.interfaces.Named;
+import br.com.ecommerce.products.infra.search.UniqueNameIndexListener;
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
 import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.OneToMany;
 import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 @Getter
 @NoArgsConstructor
 @Entity(name = "Department")
-@Table(name = "departments")
-public class Department {
+@Table(name = "departments", uniqueConstraints = @UniqueConstraint(name = Department.NAME_CONSTRAINT, columnNames = "name"))
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "departments")
+@EntityListeners(UniqueNameIndexListener.class)
+public class Department implements Named {
+
+	public static final String NAME_CONSTRAINT = "uk_departments_name";
 
 	@Id @GeneratedValue(strategy = GenerationType.IDENTITY)
 	private Long id;
 
-	@Column(unique = true)
 	private String name;
 
 	@OneToMany(
 		mappedBy = "department", 
 		fetch = FetchType.LAZY)
+	@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "department-categories")
 	private List<Category> categories;
 
 	@Column(updatable = false)
@@ -5,34 +5,46 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
 
 import br.com.ecommerce.products.infra.entity.product.Product;
+import br.com.ecommerce.products.infra.entity.tools.interfaces.Named;
+import br.com.ecommerce.products.infra.search.UniqueNameIndexListener;
 import jakarta.persistence.AttributeOverride;
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.Column;
 import jakarta.persistence.Embedded;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
 import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.OneToMany;
 import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 @Getter
 @NoArgsConstructor
 @Entity(name = "Manufacturer")
-@Table(name = "manufacturers")
-public class Manufacturer {
+@Table(name = "manufacturers", uniqueConstraints = @UniqueConstraint(name = Manufacturer.NAME_CONSTRAINT, columnNames = "name"))
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "manufacturers")
+@EntityListeners(UniqueNameIndexListener.class)
+public class Manufacturer implements Named {
+
+	public static final String NAME_CONSTRAINT = "uk_manufacturers_name";
 
 	@Id 
 	@GeneratedValue(strategy = GenerationType.IDENTITY)
 	private Long id;
 
-	@Column(unique = true, nullable = false, length = 100)
+	@Column(nullable = false, length = 100)
 	private String name;
 
 	@Embedded
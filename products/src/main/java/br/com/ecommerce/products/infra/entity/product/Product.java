@@ -8,9 +8,13 @@ import org.hibernate.annotations.UpdateTimestamp;
 
 import br.com.ecommerce.products.infra.entity.category.Category;
 import br.com.ecommerce.products.infra.entity.manufacturer.Manufacturer;
+import br.com.ecommerce.products.infra.entity.tools.interfaces.Named;
+import br.com.ecommerce.products.infra.search.ProductNameIndexListener;
+import br.com.ecommerce.products.infra.search.UniqueNameIndexListener;
 import jakarta.persistence.Column;
 import jakarta.persistence.Embedded;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
 import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
@@ -18,20 +22,24 @@ import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 @Getter
 @NoArgsConstructor
 @Entity(name = "Product")
-@Table(name = "products")
-public class Product {
+@Table(name = "products", uniqueConstraints = @UniqueConstraint(name = Product.NAME_CONSTRAINT, columnNames = "name"))
+@EntityListeners({ProductNameIndexListener.class, UniqueNameIndexListener.class})
+public class Product implements Named {
+
+	public static final String NAME_CONSTRAINT = "uk_products_name";
 
 	@Id 
 	@GeneratedValue(strategy = GenerationType.IDENTITY)
 	private Long id;
 
-	@Column(unique = true, nullable = false, length = 100)
+	@Column(nullable = false, length = 100)
 	private String name;
 
 	@Column(length = 255)
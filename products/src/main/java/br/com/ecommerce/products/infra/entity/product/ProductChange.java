@@ -0,0 +1,32 @@
+package br.com.ecommerce.products.infra.entity.product;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * Entry of the product change log. The sequence of the latest entry of a product is its version.
+ */
+@Getter
+@NoArgsConstructor
+@Entity(name = "ProductChange")
+@Table(name = "product_changes")
+public class ProductChange {
+
+	@Id
+	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	private Long seq;
+
+	@Column(nullable = false)
+	private Long productId;
+
+	@Column(nullable = false)
+	private LocalDateTime changedAt;
+}
\ No newline at end of file
@@ -0,0 +1,27 @@
+package br.com.ecommerce.products.infra.entity.product;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * Segment of the write-behind stock journal whose deltas were already applied to the stocks. Written in the
+ * same transaction as the deltas, so replaying the journal after a crash skips it.
+ */
+@Getter
+@NoArgsConstructor
+@Entity(name = "StockJournalSegment")
+@Table(name = "stock_journal_segments")
+public class StockJournalSegment {
+
+	@Id
+	private String id;
+
+	@Column(nullable = false)
+	private LocalDateTime appliedAt;
+}
\ No newline at end of file
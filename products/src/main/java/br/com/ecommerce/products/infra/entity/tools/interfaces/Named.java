@@ -0,0 +1,5 @@
+package br.com.ecommerce.products.infra.entity.tools.interfaces;
+
+public interface Named {
+    String getName();
+}
\ No newline at end of file
@@ -0,0 +1,9 @@
+package br.com.ecommerce.products.infra.exception.exceptions;
+
+public class ChangeFeedExpiredException extends RuntimeException {
+    private static final String defaultMessage = "Changes since the given sequence are no longer retained";
+
+    public ChangeFeedExpiredException() {
+        super(defaultMessage);
+    }
+}
\ No newline at end of file
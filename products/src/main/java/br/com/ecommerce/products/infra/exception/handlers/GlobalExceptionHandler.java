@@ -15,6 +15,7 @@ import org.springframework.web.method.annotation.HandlerMethodValidationExceptio
 import org.springframework.web.servlet.resource.NoResourceFoundException;
 
 import br.com.ecommerce.products.infra.exception.exceptions.CategoryNotFoundException;
+import br.com.ecommerce.products.infra.exception.exceptions.ChangeFeedExpiredException;
 import br.com.ecommerce.products.infra.exception.exceptions.DepartmentNotFoundException;
 import br.com.ecommerce.products.infra.exception.exceptions.ManufacturerNotFoundException;
 import br.com.ecommerce.products.infra.exception.exceptions.ProductNotFoundException;
@@ -27,6 +28,7 @@ public class GlobalExceptionHandler {
 	private final HttpStatus notFound = HttpStatus.NOT_FOUND;
 	private final HttpStatus unauthorized = HttpStatus.UNAUTHORIZED;
 	private final HttpStatus badRequest = HttpStatus.BAD_REQUEST;
+	private final HttpStatus gone = HttpStatus.GONE;
 	private final HttpStatus unsupportedMediaType = HttpStatus.UNSUPPORTED_MEDIA_TYPE;
 	private final HttpStatus internalServerError = HttpStatus.INTERNAL_SERVER_ERROR;
 
@@ -80,6 +82,16 @@ public class GlobalExceptionHandler {
 				ex.getMessage()));
 	}
 
+	@ExceptionHandler(ChangeFeedExpiredException.class)
+	public ResponseEntity<ResponseError> handleError410(ChangeFeedExpiredException ex) {
+		return ResponseEntity
+			.status(gone.value())
+			.body(new ResponseError(
+				gone.value(),
+				gone.getReasonPhrase(),
+				ex.getMessage()));
+	}
+
 	@ExceptionHandler(MethodArgumentNotValidException.class)
 	public ResponseEntity<ResponseError> handleError400(MethodArgumentNotValidException ex) {
 		var fields = ex.getFieldErrors().stream()
@@ -1,16 +1,25 @@
 package br.com.ecommerce.products.infra.repository;
 
+import java.util.List;
+
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 
 import br.com.ecommerce.products.infra.entity.category.Category;
+import jakarta.persistence.QueryHint;
 
 public interface CategoryRepository extends JpaRepository<Category, Long> {
 
     public Boolean existsByName(String name);
 
+    @Query("SELECT c.name FROM Category c")
+    public List<String> findAllNames();
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     @Query("""
             SELECT c FROM Category c WHERE 
             (:name IS NULL OR LOWER(c.name) LIKE LOWER(CONCAT('%', :name ,'%')))
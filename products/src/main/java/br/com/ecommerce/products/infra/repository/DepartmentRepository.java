@@ -1,19 +1,37 @@
 package br.com.ecommerce.products.infra.repository;
 
+import java.util.List;
+
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 
 import br.com.ecommerce.products.infra.entity.department.Department;
+import jakarta.persistence.QueryHint;
 
 public interface DepartmentRepository extends JpaRepository<Department, Long> {
 
     public Boolean existsByName(String name);
 
+    @Query("SELECT d.name FROM Department d")
+    public List<String> findAllNames();
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     @Query("""
             SELECT d FROM Department d WHERE 
             (:name IS NULL OR LOWER(d.name) LIKE LOWER(CONCAT('%', :name, '%')))
             """)
     public Page<Department> findAllByParams(String name,  Pageable pageable);
+
+    @Query("""
+            SELECT d.id AS departmentId, d.name AS departmentName, c.id AS categoryId, c.name AS categoryName,
+                COUNT(p) AS total
+            FROM Department d LEFT JOIN d.categories c LEFT JOIN c.products p
+            GROUP BY d.id, d.name, c.id, c.name
+            ORDER BY d.name, c.name
+        """)
+    public List<DepartmentTreeRow> findAllTreeRows();
 }
\ No newline at end of file
@@ -0,0 +1,14 @@
+package br.com.ecommerce.products.infra.repository;
+
+/**
+ * A category of a department with its number of products. Departments without categories come with a
+ * null category.
+ */
+public interface DepartmentTreeRow {
+
+    Long getDepartmentId();
+    String getDepartmentName();
+    Long getCategoryId();
+    String getCategoryName();
+    Long getTotal();
+}
\ No newline at end of file
@@ -1,18 +1,23 @@
 package br.com.ecommerce.products.infra.repository;
 
+import java.util.List;
 import java.util.Optional;
 
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 
 import br.com.ecommerce.products.infra.entity.manufacturer.Manufacturer;
+import jakarta.persistence.QueryHint;
 
 public interface ManufacturerRepository extends JpaRepository<Manufacturer, Long>{
 
 	Optional<Manufacturer> findByName(String manufacturerName);
 
+	@QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
 	@Query("""
 			SELECT m FROM Manufacturer m WHERE
 			(:name IS NULL OR LOWER(m.name) LIKE LOWER(CONCAT('%', :name, '%'))) 
@@ -29,6 +34,7 @@ public interface ManufacturerRepository extends JpaRepository<Manufacturer, Long
 		Pageable pageable
 	);
 
+	@QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
 	@Query("""
 			SELECT m FROM Manufacturer m WHERE
 			(:name IS NULL OR LOWER(m.name) LIKE LOWER(CONCAT('%', :name, '%')))
@@ -38,4 +44,7 @@ public interface ManufacturerRepository extends JpaRepository<Manufacturer, Long
 	Page<Manufacturer> findAllByParams(String name, String contactPerson, Pageable pageable);
 
 	boolean existsByName(String name);
+
+	@Query("SELECT m.name FROM Manufacturer m")
+	List<String> findAllNames();
 }
\ No newline at end of file
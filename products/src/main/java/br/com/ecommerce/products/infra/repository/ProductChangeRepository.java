@@ -0,0 +1,50 @@
+package br.com.ecommerce.products.infra.repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+
+import br.com.ecommerce.products.infra.entity.product.ProductChange;
+import jakarta.transaction.Transactional;
+
+public interface ProductChangeRepository extends JpaRepository<ProductChange, Long> {
+
+    @Transactional
+    @Modifying
+    @Query("""
+            INSERT INTO ProductChange (productId, changedAt)
+            SELECT p.id, :now FROM Product p WHERE p.id IN :ids
+        """)
+    int recordAll(Collection<Long> ids, LocalDateTime now);
+
+    /**
+     * Latest change of each product changed after {@code since}, ignoring the changes newer than
+     * {@code settledBefore}, ordered by sequence.
+     */
+    @Query("""
+            SELECT c.productId AS productId, MAX(c.seq) AS seq FROM ProductChange c
+            WHERE c.seq > :since AND c.changedAt <= :settledBefore
+            GROUP BY c.productId
+            ORDER BY MAX(c.seq)
+        """)
+    List<ProductChangeSeq> findAllLatestAfter(Long since, LocalDateTime settledBefore, Pageable pageable);
+
+    @Query("SELECT MAX(c.seq) FROM ProductChange c WHERE c.changedAt <= :settledBefore")
+    Long findLastSeq(LocalDateTime settledBefore);
+
+    @Query("SELECT MIN(c.seq) FROM ProductChange c")
+    Long findFirstSeq();
+
+    @Query("SELECT MAX(c.seq) FROM ProductChange c")
+    Long findLastSeq();
+
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM ProductChange c WHERE c.changedAt < :before AND c.seq < :seq")
+    int deleteAllChangedBeforeAndSeqLessThan(LocalDateTime before, Long seq);
+}
\ No newline at end of file
@@ -0,0 +1,7 @@
+package br.com.ecommerce.products.infra.repository;
+
+public interface ProductChangeSeq {
+
+    Long getProductId();
+    Long getSeq();
+}
\ No newline at end of file
@@ -0,0 +1,16 @@
+package br.com.ecommerce.products.infra.repository;
+
+import java.math.BigDecimal;
+
+/**
+ * Number of products sharing a category, a manufacturer and a current price.
+ */
+public interface ProductFacetRow {
+
+    Long getCategoryId();
+    String getCategoryName();
+    Long getManufacturerId();
+    String getManufacturerName();
+    BigDecimal getPrice();
+    Long getTotal();
+}
\ No newline at end of file
@@ -0,0 +1,7 @@
+package br.com.ecommerce.products.infra.repository;
+
+public interface ProductImage {
+
+    Long getProductId();
+    String getImage();
+}
\ No newline at end of file
@@ -0,0 +1,17 @@
+package br.com.ecommerce.products.infra.repository;
+
+import java.util.List;
+
+import br.com.ecommerce.products.infra.entity.product.Product;
+import jakarta.transaction.Transactional;
+
+public interface ProductImportRepository {
+
+    /**
+     * Inserts new products as a single JDBC batch in one transaction, bypassing the persistence context.
+     *
+     * @return the generated ids, in the order of the given products
+     */
+    @Transactional
+    List<Long> insertAll(List<Product> products);
+}
\ No newline at end of file
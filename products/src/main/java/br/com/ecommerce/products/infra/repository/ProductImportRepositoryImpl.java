@@ -0,0 +1,63 @@
+package br.com.ecommerce.products.infra.repository;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+
+import br.com.ecommerce.products.infra.entity.product.Product;
+import lombok.AllArgsConstructor;
+
+@AllArgsConstructor
+class ProductImportRepositoryImpl implements ProductImportRepository {
+
+    private static final String INSERT_PRODUCT = """
+            INSERT INTO products
+            (name, description, specs, on_promotion, unit, category_id, manufacturer_id, created_at, modified_at, is_active)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+        """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+
+    @Override
+    public List<Long> insertAll(List<Product> products) {
+        if (products.isEmpty()) return List.of();
+
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        GeneratedKeyHolder keyHolder = new GeneratedKeyHolder();
+        jdbcTemplate.batchUpdate(
+            connection -> connection.prepareStatement(INSERT_PRODUCT, new String[] {"id"}),
+            new BatchPreparedStatementSetter() {
+                @Override
+                public void setValues(PreparedStatement ps, int i) throws SQLException {
+                    Product product = products.get(i);
+                    ps.setString(1, product.getName());
+                    ps.setString(2, product.getDescription());
+                    ps.setString(3, product.getSpecs());
+                    ps.setBoolean(4, product.getPrice().isOnPromotion());
+                    ps.setInt(5, product.getStock().getUnit());
+                    ps.setLong(6, product.getCategory().getId());
+                    ps.setLong(7, product.getManufacturer().getId());
+                    ps.setTimestamp(8, now);
+                    ps.setTimestamp(9, now);
+                    ps.setBoolean(10, product.isActive());
+                }
+
+                @Override
+                public int getBatchSize() {
+                    return products.size();
+                }
+            },
+            keyHolder);
+
+        return keyHolder.getKeyList().stream()
+            .map(keys -> ((Number) keys.values().iterator().next()).longValue())
+            .toList();
+    }
+}
\ No newline at end of file
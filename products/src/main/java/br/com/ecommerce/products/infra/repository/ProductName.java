@@ -0,0 +1,7 @@
+package br.com.ecommerce.products.infra.repository;
+
+public interface ProductName {
+
+    Long getId();
+    String getName();
+}
\ No newline at end of file
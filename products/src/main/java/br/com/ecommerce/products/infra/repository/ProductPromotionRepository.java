@@ -0,0 +1,18 @@
+package br.com.ecommerce.products.infra.repository;
+
+import java.util.List;
+
+import br.com.ecommerce.products.api.dto.product.PromotionalPriceDTO;
+import jakarta.transaction.Transactional;
+
+public interface ProductPromotionRepository {
+
+    /**
+     * Sets the promotional price and puts each product on promotion, sending all lines as a single JDBC batch.
+     * A line is skipped when the product does not exist or its promotional price is not below the original price.
+     *
+     * @return the lines that were not applied, in request order
+     */
+    @Transactional
+    List<PromotionalPriceDTO> startPromotions(List<PromotionalPriceDTO> lines);
+}
\ No newline at end of file
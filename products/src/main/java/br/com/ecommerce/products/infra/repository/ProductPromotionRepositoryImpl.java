@@ -0,0 +1,45 @@
+package br.com.ecommerce.products.infra.repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import br.com.ecommerce.products.api.dto.product.PromotionalPriceDTO;
+import lombok.AllArgsConstructor;
+
+@AllArgsConstructor
+class ProductPromotionRepositoryImpl implements ProductPromotionRepository {
+
+    private static final String START_PROMOTION = """
+        UPDATE products
+        SET promotional_price = ?, current_price = ?, end_of_promotion = ?, on_promotion = TRUE, modified_at = ?
+        WHERE id = ? AND original_price > ?
+        """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+
+    @Override
+    public List<PromotionalPriceDTO> startPromotions(List<PromotionalPriceDTO> lines) {
+        if (lines.isEmpty()) return List.of();
+
+        LocalDateTime now = LocalDateTime.now();
+        List<Object[]> params = lines.stream()
+            .map(line -> new Object[] {
+                line.getPromotionalPrice(),
+                line.getPromotionalPrice(),
+                line.getEndOfPromotion(),
+                now,
+                line.getProductId(),
+                line.getPromotionalPrice()})
+            .toList();
+        int[] updated = jdbcTemplate.batchUpdate(START_PROMOTION, params);
+
+        return IntStream.range(0, lines.size())
+            .filter(i -> updated[i] == 0)
+            .mapToObj(lines::get)
+            .toList();
+    }
+}
\ No newline at end of file
@@ -2,27 +2,120 @@ package br.com.ecommerce.products.infra.repository;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Set;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 
 import br.com.ecommerce.products.infra.entity.product.Product;
+import jakarta.transaction.Transactional;
 
-public interface ProductRepository extends JpaRepository<Product, Long>{
+public interface ProductRepository extends JpaRepository<Product, Long>,
+    ProductStockRepository, ProductImportRepository, ProductPromotionRepository {
 
-    @Query("""
-            SELECT p from Product p WHERE
+    String SELECT_VIEW = """
+            SELECT new br.com.ecommerce.products.infra.repository.ProductView(
+                p.id, p.name, p.description, p.specs,
+                p.price.currentPrice, p.price.originalPrice, p.price.onPromotion, p.price.endOfPromotion,
+                p.stock.unit, p.images.mainImage, c.id, c.name, m.id, m.name, p.modifiedAt)
+            FROM Product p JOIN p.category c JOIN p.manufacturer m
+        """;
+
+    String SELECT_FACET_ROWS = """
+            SELECT c.id AS categoryId, c.name AS categoryName, m.id AS manufacturerId, m.name AS manufacturerName,
+                p.price.currentPrice AS price, COUNT(p) AS total
+            FROM Product p JOIN p.category c JOIN p.manufacturer m
+        """;
+
+    String GROUP_FACET_ROWS = """
+            GROUP BY c.id, c.name, m.id, m.name, p.price.currentPrice
+        """;
+
+    @Query(value = SELECT_VIEW + """
+            WHERE
+            (:name IS NULL OR LOWER(p.name) LIKE LOWER(CONCAT('%', :name, '%')))
+            AND (:categoryName IS NULL OR LOWER(c.name) = LOWER(:categoryName))
+            AND (:minPrice IS NULL OR p.price.currentPrice >= :minPrice)
+            AND (:maxPrice IS NULL OR p.price.currentPrice <= :maxPrice)
+            AND (:manufacturerName IS NULL OR LOWER(m.name) = LOWER(:manufacturerName))
+        """,
+        countQuery = """
+            SELECT COUNT(p) FROM Product p JOIN p.category c JOIN p.manufacturer m WHERE
             (:name IS NULL OR LOWER(p.name) LIKE LOWER(CONCAT('%', :name, '%')))
+            AND (:categoryName IS NULL OR LOWER(c.name) = LOWER(:categoryName))
+            AND (:minPrice IS NULL OR p.price.currentPrice >= :minPrice)
+            AND (:maxPrice IS NULL OR p.price.currentPrice <= :maxPrice)
+            AND (:manufacturerName IS NULL OR LOWER(m.name) = LOWER(:manufacturerName))
+        """)
+    Page<ProductView> findAllByParams(
+        String name,
+        String categoryName,
+        BigDecimal minPrice,
+        BigDecimal maxPrice,
+        String manufacturerName,
+        Pageable pageable
+    );
+
+    @Query(SELECT_VIEW + """
+            WHERE
+            p.id > :lastId
+            AND (:name IS NULL OR LOWER(p.name) LIKE LOWER(CONCAT('%', :name, '%')))
+            AND (:categoryName IS NULL OR LOWER(c.name) = LOWER(:categoryName))
+            AND (:minPrice IS NULL OR p.price.currentPrice >= :minPrice)
+            AND (:maxPrice IS NULL OR p.price.currentPrice <= :maxPrice)
+            AND (:manufacturerName IS NULL OR LOWER(m.name) = LOWER(:manufacturerName))
+            ORDER BY p.id
+        """)
+    Slice<ProductView> findAllByParamsAfterId(
+        Long lastId,
+        String name,
+        String categoryName,
+        BigDecimal minPrice,
+        BigDecimal maxPrice,
+        String manufacturerName,
+        Pageable pageable
+    );
+
+    @Query("""
+            SELECT p.id FROM Product p WHERE
+            p.id IN :ids
             AND (:categoryName IS NULL OR LOWER(p.category.name) = LOWER(:categoryName))
             AND (:minPrice IS NULL OR p.price.currentPrice >= :minPrice)
             AND (:maxPrice IS NULL OR p.price.currentPrice <= :maxPrice)
             AND (:manufacturerName IS NULL OR LOWER(p.manufacturer.name) = LOWER(:manufacturerName))
         """)
-    Page<Product> findAllByParams(
-        String name,
+    List<Long> findAllIdsByParamsAndIdIn(
+        Collection<Long> ids,
+        String categoryName,
+        BigDecimal minPrice,
+        BigDecimal maxPrice,
+        String manufacturerName
+    );
+
+    @Query(value = SELECT_VIEW + """
+            WHERE
+            p.id IN :ids
+            AND (:categoryName IS NULL OR LOWER(c.name) = LOWER(:categoryName))
+            AND (:minPrice IS NULL OR p.price.currentPrice >= :minPrice)
+            AND (:maxPrice IS NULL OR p.price.currentPrice <= :maxPrice)
+            AND (:manufacturerName IS NULL OR LOWER(m.name) = LOWER(:manufacturerName))
+        """,
+        countQuery = """
+            SELECT COUNT(p) FROM Product p JOIN p.category c JOIN p.manufacturer m WHERE
+            p.id IN :ids
+            AND (:categoryName IS NULL OR LOWER(c.name) = LOWER(:categoryName))
+            AND (:minPrice IS NULL OR p.price.currentPrice >= :minPrice)
+            AND (:maxPrice IS NULL OR p.price.currentPrice <= :maxPrice)
+            AND (:manufacturerName IS NULL OR LOWER(m.name) = LOWER(:manufacturerName))
+        """)
+    Page<ProductView> findAllByParamsAndIdIn(
+        Collection<Long> ids,
         String categoryName,
         BigDecimal minPrice,
         BigDecimal maxPrice,
@@ -30,11 +123,57 @@ public interface ProductRepository extends JpaRepository<Product, Long>{
         Pageable pageable
     );
 
+    @Query(SELECT_FACET_ROWS + """
+            WHERE (:name IS NULL OR LOWER(p.name) LIKE LOWER(CONCAT('%', :name, '%')))
+        """ + GROUP_FACET_ROWS)
+    List<ProductFacetRow> findAllFacetRowsByName(String name);
+
+    @Query(SELECT_FACET_ROWS + " WHERE p.id IN :ids " + GROUP_FACET_ROWS)
+    List<ProductFacetRow> findAllFacetRowsByIdIn(Collection<Long> ids);
+
+    @Query(SELECT_VIEW + " WHERE p.id IN :ids")
+    List<ProductView> findAllViewsByIdIn(Collection<Long> ids);
+
+    @Query("SELECT p.id AS productId, i AS image FROM Product p JOIN p.images.additionalImages i WHERE p.id IN :ids")
+    List<ProductImage> findAllImagesByProductIdIn(Collection<Long> ids);
+
+    @Query("SELECT p.id AS id, p.name AS name FROM Product p")
+    List<ProductName> findAllNames();
+
+    @Query("SELECT p.id AS id, p.name AS name FROM Product p WHERE p.id IN :ids")
+    List<ProductName> findAllNamesByIdIn(Collection<Long> ids);
+
+    @Query("SELECT p.id AS id, p.stock.unit AS unit FROM Product p WHERE p.id IN :ids")
+    List<ProductUnit> findAllUnitsByIdIn(Collection<Long> ids);
+
+    @Query("SELECT p.id FROM Product p WHERE p.id IN :ids")
+    Set<Long> findAllIdsByIdIn(Collection<Long> ids);
+
     boolean existsByName(String name);
 
     @Query("SELECT p FROM Product p WHERE p.price.onPromotion = true AND p.price.endOfPromotion BETWEEN :now AND :oneHourLater")
     Set<Product> findAllOnPromotionEndingWithinNextHour(LocalDateTime now, LocalDateTime oneHourLater);
 
-    @Query("SELECT p FROM Product p WHERE p.price.onPromotion = true AND p.price.endOfPromotion < CURRENT_TIMESTAMP")
-    Set<Product> findAllWithExpiredPromotions();
+    @Transactional
+    @Modifying
+    @Query("""
+            UPDATE Product p SET
+            p.price.currentPrice = p.price.originalPrice,
+            p.price.onPromotion = false,
+            p.price.endOfPromotion = NULL,
+            p.modifiedAt = :now
+            WHERE p.id IN :ids
+            AND p.price.onPromotion = true
+            AND p.price.endOfPromotion <= :now
+        """)
+    int expirePromotions(Collection<Long> ids, LocalDateTime now);
+
+    @Query("""
+            SELECT p.id FROM Product p WHERE
+            p.id > :lastId
+            AND p.price.onPromotion = true
+            AND p.price.endOfPromotion <= :now
+            ORDER BY p.id
+        """)
+    List<Long> findAllIdsWithPromotionEndedAfterId(Long lastId, LocalDateTime now, Pageable pageable);
 }
\ No newline at end of file
@@ -0,0 +1,38 @@
+package br.com.ecommerce.products.infra.repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import br.com.ecommerce.products.api.dto.product.ProductUnitsRequestedDTO;
+import jakarta.transaction.Transactional;
+
+public interface ProductStockRepository {
+
+    /**
+     * Subtracts each line's units from the product stock only if enough stock is available, sending all lines
+     * as a single JDBC batch. Lines are applied in order, so repeated ids see the previous reservations.
+     *
+     * @return the lines that could not be reserved, in request order
+     */
+    List<ProductUnitsRequestedDTO> reserveStocks(List<ProductUnitsRequestedDTO> lines);
+
+    /**
+     * Subtracts each product's aggregated units from its stock in a single JDBC batch, without checking
+     * the available stock, and records the journal segments the units came from in the same transaction.
+     * Used to store reservations that were already checked in memory.
+     */
+    @Transactional
+    void applyStockDeltas(Map<Long, Long> unitsByProductId, Collection<String> segmentIds);
+
+    /**
+     * Returns the given journal segments whose units were already applied.
+     */
+    Set<String> findAppliedSegments(Collection<String> segmentIds);
+
+    /**
+     * Forgets journal segments that no longer exist, once their files are deleted.
+     */
+    void deleteAppliedSegments(Collection<String> segmentIds);
+}
\ No newline at end of file
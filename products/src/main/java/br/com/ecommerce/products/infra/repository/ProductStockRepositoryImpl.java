@@ -0,0 +1,74 @@
+package br.com.ecommerce.products.infra.repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.IntStream;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+import br.com.ecommerce.products.api.dto.product.ProductUnitsRequestedDTO;
+import lombok.AllArgsConstructor;
+
+@AllArgsConstructor
+class ProductStockRepositoryImpl implements ProductStockRepository {
+
+    private static final String RESERVE_STOCK = "UPDATE products SET unit = unit - ? WHERE id = ? AND unit >= ?";
+    private static final String APPLY_STOCK_DELTA = "UPDATE products SET unit = unit - ? WHERE id = ?";
+    private static final String RECORD_SEGMENT = "INSERT INTO stock_journal_segments (id, applied_at) VALUES (?, ?)";
+    private static final String FIND_SEGMENTS = "SELECT id FROM stock_journal_segments WHERE id IN (:ids)";
+    private static final String DELETE_SEGMENTS = "DELETE FROM stock_journal_segments WHERE id IN (:ids)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+
+    @Override
+    public List<ProductUnitsRequestedDTO> reserveStocks(List<ProductUnitsRequestedDTO> lines) {
+        if (lines.isEmpty()) return List.of();
+
+        List<Object[]> params = lines.stream()
+            .map(line -> new Object[] {line.getUnit(), line.getId(), line.getUnit()})
+            .toList();
+        int[] updated = jdbcTemplate.batchUpdate(RESERVE_STOCK, params);
+
+        return IntStream.range(0, lines.size())
+            .filter(i -> updated[i] == 0)
+            .mapToObj(lines::get)
+            .toList();
+    }
+
+    @Override
+    public void applyStockDeltas(Map<Long, Long> unitsByProductId, Collection<String> segmentIds) {
+        if (unitsByProductId.isEmpty()) return;
+
+        List<Object[]> params = unitsByProductId.entrySet().stream()
+            .map(entry -> new Object[] {entry.getValue(), entry.getKey()})
+            .toList();
+        jdbcTemplate.batchUpdate(APPLY_STOCK_DELTA, params);
+
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate(RECORD_SEGMENT, segmentIds.stream()
+            .map(segmentId -> new Object[] {segmentId, now})
+            .toList());
+    }
+
+    @Override
+    public Set<String> findAppliedSegments(Collection<String> segmentIds) {
+        if (segmentIds.isEmpty()) return Set.of();
+
+        return new HashSet<>(new NamedParameterJdbcTemplate(jdbcTemplate)
+            .queryForList(FIND_SEGMENTS, Map.of("ids", segmentIds), String.class));
+    }
+
+    @Override
+    public void deleteAppliedSegments(Collection<String> segmentIds) {
+        if (segmentIds.isEmpty()) return;
+
+        new NamedParameterJdbcTemplate(jdbcTemplate).update(DELETE_SEGMENTS, Map.of("ids", segmentIds));
+    }
+}
\ No newline at end of file
@@ -0,0 +1,7 @@
+package br.com.ecommerce.products.infra.repository;
+
+public interface ProductUnit {
+
+    Long getId();
+    Integer getUnit();
+}
\ No newline at end of file
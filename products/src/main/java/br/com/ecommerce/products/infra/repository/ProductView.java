@@ -0,0 +1,28 @@
+package br.com.ecommerce.products.infra.repository;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class ProductView {
+
+    private Long id;
+    private String name;
+    private String description;
+    private String specs;
+    private BigDecimal currentPrice;
+    private BigDecimal originalPrice;
+    private Boolean onPromotion;
+    private LocalDateTime endOfPromotion;
+    private Integer unit;
+    private String mainImage;
+    private Long categoryId;
+    private String categoryName;
+    private Long manufacturerId;
+    private String manufacturerName;
+    private LocalDateTime modifiedAt;
+}
\ No newline at end of file
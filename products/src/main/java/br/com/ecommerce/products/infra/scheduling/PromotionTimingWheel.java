@@ -0,0 +1,163 @@
+package br.com.ecommerce.products.infra.scheduling;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.LongConsumer;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Hierarchical timing wheel of promotion deadlines. Each level covers {@code wheelSize} ticks of the
+ * level below it, and entries cascade down as time approaches their deadline.
+ * <p>
+ * The wheel holds one entry per distinct deadline, shared by every product ending at that time.
+ * Rescheduling or cancelling a product only updates the product groups: an entry left without
+ * products is discarded when its bucket is drained.
+ */
+@Component
+public class PromotionTimingWheel {
+
+    private final Map<Long, Long> deadlines = new HashMap<>();
+    private final Map<Long, Set<Long>> productsByDeadline = new HashMap<>();
+    private final List<Long> due = new ArrayList<>();
+    private final Level wheel;
+
+
+    public PromotionTimingWheel(
+        @Value("${api.promotions.wheel.tick-millis:1000}") long tickMillis,
+        @Value("${api.promotions.wheel.size:60}") int wheelSize
+    ) {
+        this.wheel = new Level(tickMillis, wheelSize, System.currentTimeMillis());
+    }
+
+    public void schedule(Long productId, LocalDateTime endOfPromotion) {
+        this.scheduleAll(List.of(productId), endOfPromotion);
+    }
+
+    public synchronized void scheduleAll(Collection<Long> productIds, LocalDateTime endOfPromotion) {
+        long deadline = toMillis(endOfPromotion);
+        productIds.forEach(this::remove);
+
+        boolean newDeadline = !productsByDeadline.containsKey(deadline);
+        Set<Long> group = productsByDeadline.computeIfAbsent(deadline, key -> new HashSet<>());
+        for (Long productId : productIds) {
+            group.add(productId);
+            deadlines.put(productId, deadline);
+        }
+        if (newDeadline) this.add(deadline);
+    }
+
+    public synchronized void cancel(Long productId) {
+        this.remove(productId);
+    }
+
+    /**
+     * Moves the wheel up to {@code now} and returns the products whose promotion ended, each one once.
+     */
+    public synchronized List<Long> advance(LocalDateTime now) {
+        wheel.advance(toMillis(now), this::add);
+
+        List<Long> result = List.copyOf(due);
+        due.clear();
+        return result;
+    }
+
+    /**
+     * Puts back products returned by {@link #advance} whose promotion could not be ended, so the next
+     * advance returns them again. Products scheduled again in the meantime keep their new deadline.
+     */
+    public synchronized void requeue(Collection<Long> productIds, LocalDateTime now) {
+        List<Long> unscheduled = productIds.stream().filter(productId -> !deadlines.containsKey(productId)).toList();
+        if (!unscheduled.isEmpty()) this.scheduleAll(unscheduled, now);
+    }
+
+    public synchronized int size() {
+        return deadlines.size();
+    }
+
+    private void remove(Long productId) {
+        Long deadline = deadlines.remove(productId);
+        if (deadline == null) return;
+
+        Set<Long> group = productsByDeadline.get(deadline);
+        group.remove(productId);
+        if (group.isEmpty()) productsByDeadline.remove(deadline);
+    }
+
+    private void add(long deadline) {
+        if (!productsByDeadline.containsKey(deadline)) return;
+        if (wheel.add(deadline)) return;
+
+        Set<Long> group = productsByDeadline.remove(deadline);
+        group.forEach(deadlines::remove);
+        due.addAll(group);
+    }
+
+    private static long toMillis(LocalDateTime dateTime) {
+        return dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    private static class Level {
+
+        private final long tick;
+        private final int wheelSize;
+        private final long interval;
+        private final List<List<Long>> buckets;
+        private long currentTime;
+        private Level overflow;
+
+        Level(long tick, int wheelSize, long startMillis) {
+            this.tick = tick;
+            this.wheelSize = wheelSize;
+            this.interval = tick * wheelSize;
+            this.currentTime = startMillis - (startMillis % tick);
+            this.buckets = new ArrayList<>(wheelSize);
+            for (int i = 0; i < wheelSize; i++) buckets.add(new ArrayList<>());
+        }
+
+        /**
+         * Returns false when the deadline is before the current tick, in which case it is not stored.
+         */
+        boolean add(long deadline) {
+            if (deadline < currentTime) return false;
+
+            if (deadline < currentTime + interval) {
+                buckets.get(this.slot(deadline)).add(deadline);
+                return true;
+            }
+
+            if (overflow == null) overflow = new Level(interval, wheelSize, currentTime);
+            return overflow.add(deadline);
+        }
+
+        /**
+         * Drains every bucket whose tick ended by {@code timeMillis}. The overflow level is moved along
+         * so that its buckets cascade down as soon as they fit in this level.
+         */
+        void advance(long timeMillis, LongConsumer reinsert) {
+            while (timeMillis >= currentTime + tick) {
+                List<Long> bucket = buckets.get(this.slot(currentTime));
+                currentTime += tick;
+
+                if (!bucket.isEmpty()) {
+                    List<Long> expired = new ArrayList<>(bucket);
+                    bucket.clear();
+                    expired.forEach(reinsert::accept);
+                }
+                if (overflow != null) overflow.advance(currentTime + interval, reinsert);
+            }
+        }
+
+        private int slot(long timeMillis) {
+            return (int) ((timeMillis / tick) % wheelSize);
+        }
+    }
+}
\ No newline at end of file
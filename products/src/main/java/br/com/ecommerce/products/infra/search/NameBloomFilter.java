@@ -0,0 +1,69 @@
+package br.com.ecommerce.products.infra.search;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Fixed-size Bloom filter over normalized names. Bits are only ever set, so a removed or renamed name keeps
+ * answering "maybe" until the filter is rebuilt.
+ */
+class NameBloomFilter {
+
+    private static final long FNV_OFFSET = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    private final AtomicLongArray words;
+    private final int bitCount;
+    private final int hashCount;
+
+
+    NameBloomFilter(long expectedNames, double falsePositiveRate) {
+        long expected = Math.max(1, expectedNames);
+        long bits = (long) Math.ceil(-expected * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+        int wordCount = (int) Math.min(Math.max(1, (bits + 63) / 64), Integer.MAX_VALUE / 64);
+
+        this.words = new AtomicLongArray(wordCount);
+        this.bitCount = wordCount * 64;
+        this.hashCount = (int) Math.max(1, Math.round((double) bitCount / expected * Math.log(2)));
+    }
+
+    void put(String normalizedName) {
+        long hash = hash(normalizedName);
+        for (int i = 1; i <= hashCount; i++) {
+            int bit = this.bit(hash, i);
+            long mask = 1L << bit;
+            words.getAndAccumulate(bit >>> 6, mask, (word, bitMask) -> word | bitMask);
+        }
+    }
+
+    boolean mightContain(String normalizedName) {
+        long hash = hash(normalizedName);
+        for (int i = 1; i <= hashCount; i++) {
+            int bit = this.bit(hash, i);
+            if ((words.get(bit >>> 6) & (1L << bit)) == 0) return false;
+        }
+        return true;
+    }
+
+    private int bit(long hash, int round) {
+        int combined = (int) hash + round * (int) (hash >>> 32);
+        return (combined & Integer.MAX_VALUE) % bitCount;
+    }
+
+    /**
+     * FNV-1a over the UTF-8 bytes followed by the MurmurHash3 finalizer, split in two halves for double hashing.
+     */
+    private static long hash(String value) {
+        long hash = FNV_OFFSET;
+        for (byte b : value.getBytes(StandardCharsets.UTF_8)) {
+            hash ^= b & 0xff;
+            hash *= FNV_PRIME;
+        }
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb9fe1a85ec53L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,136 @@
+package br.com.ecommerce.products.infra.search;
+
+import java.text.Normalizer;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.stereotype.Component;
+
+/**
+ * Trigram inverted index over product names, used to turn a {@code name} filter into a small set of candidate
+ * ids instead of a {@code LIKE '%name%'} table scan. Queries shorter than a trigram cannot be answered here, and
+ * neither can any query before the index is built, so callers fall back to the database meanwhile.
+ * <p>
+ * Names are compared ignoring case and accents, as the accent and case insensitive collation of the
+ * {@code LIKE} it replaces does.
+ */
+@Component
+public class ProductNameIndex {
+
+    private static final int GRAM_SIZE = 3;
+
+    private final Map<String, Set<Long>> postings = new ConcurrentHashMap<>();
+    private final Map<Long, String> names = new ConcurrentHashMap<>();
+    private volatile boolean built;
+
+
+    public int size() {
+        return names.size();
+    }
+
+    /**
+     * Marks the index as holding every product, so it starts answering queries.
+     */
+    public void markBuilt() {
+        this.built = true;
+    }
+
+    public synchronized void put(Long productId, String name) {
+        String normalized = normalize(name);
+        String previous = names.put(productId, normalized);
+        if (normalized.equals(previous)) return;
+
+        if (previous != null) {
+            grams(previous).forEach(gram -> this.removePosting(gram, productId));
+        }
+        grams(normalized).forEach(gram -> postings
+            .computeIfAbsent(gram, key -> ConcurrentHashMap.newKeySet())
+            .add(productId));
+    }
+
+    public synchronized void remove(Long productId) {
+        String previous = names.remove(productId);
+        if (previous != null) grams(previous).forEach(gram -> this.removePosting(gram, productId));
+    }
+
+    public boolean supports(String query) {
+        return built && query != null && normalize(query).length() >= GRAM_SIZE;
+    }
+
+    /**
+     * Returns the ids of every product whose name contains the query, ignoring case and accents. Exact matches come first,
+     * then prefix matches, then matches closer to the start of the name, then shorter names.
+     */
+    public List<Long> search(String query) {
+        String normalized = normalize(query);
+        Set<Long> candidates = null;
+        for (String gram : grams(normalized)) {
+            Set<Long> posting = postings.getOrDefault(gram, Set.of());
+            if (candidates == null) {
+                candidates = new HashSet<>(posting);
+            } else {
+                candidates.retainAll(posting);
+            }
+            if (candidates.isEmpty()) return List.of();
+        }
+
+        return candidates.stream()
+            .map(id -> new Match(id, names.get(id), normalized))
+            .filter(Match::matches)
+            .sorted(Match.RANKING)
+            .map(Match::productId)
+            .toList();
+    }
+
+    private void removePosting(String gram, Long productId) {
+        postings.computeIfPresent(gram, (key, ids) -> {
+            ids.remove(productId);
+            return ids.isEmpty() ? null : ids;
+        });
+    }
+
+    private static Set<String> grams(String value) {
+        Set<String> grams = new HashSet<>();
+        for (int i = 0; i + GRAM_SIZE <= value.length(); i++) {
+            grams.add(value.substring(i, i + GRAM_SIZE));
+        }
+        return grams;
+    }
+
+    /**
+     * Drops accents and case, so names compare as the accent and case insensitive collation does.
+     */
+    static String normalize(String value) {
+        if (value == null) return "";
+        return Normalizer.normalize(value, Normalizer.Form.NFD)
+            .replaceAll("\\p{M}", "")
+            .toLowerCase(Locale.ROOT);
+    }
+
+    private record Match(Long productId, String name, int position, boolean exact) {
+
+        static final Comparator<Match> RANKING = Comparator
+            .comparingInt(Match::tier)
+            .thenComparingInt(Match::position)
+            .thenComparingInt(match -> match.name().length())
+            .thenComparing(Match::productId);
+
+        Match(Long productId, String name, String query) {
+            this(productId, name, name == null ? -1 : name.indexOf(query), query.equals(name));
+        }
+
+        boolean matches() {
+            return position >= 0;
+        }
+
+        int tier() {
+            if (exact) return 0;
+            return position == 0 ? 1 : 2;
+        }
+    }
+}
\ No newline at end of file
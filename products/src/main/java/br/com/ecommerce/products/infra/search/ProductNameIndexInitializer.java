@@ -0,0 +1,98 @@
+package br.com.ecommerce.products.infra.search;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import br.com.ecommerce.products.infra.repository.ProductChangeRepository;
+import br.com.ecommerce.products.infra.repository.ProductChangeSeq;
+import br.com.ecommerce.products.infra.repository.ProductName;
+import br.com.ecommerce.products.infra.repository.ProductRepository;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Builds the in-memory name indexes once the application is ready and keeps them in step with the product
+ * change log, so products created or renamed through other instances are picked up too. Only changes older
+ * than the change feed settle time are followed, as a lower sequence may still commit until then; the
+ * changes newer than that at build time are applied again by the first syncs, which is harmless.
+ */
+@Slf4j
+@Component
+public class ProductNameIndexInitializer {
+
+    private static final int SYNC_BATCH_SIZE = 500;
+
+    private final ProductRepository repository;
+    private final ProductChangeRepository changeRepository;
+    private final ProductNameIndex index;
+    private final ProductNameSuggester suggester;
+    private final Duration settleTime;
+    private volatile Long lastSeq;
+
+
+    public ProductNameIndexInitializer(
+        ProductRepository repository,
+        ProductChangeRepository changeRepository,
+        ProductNameIndex index,
+        ProductNameSuggester suggester,
+        @Value("${api.products.changes.settle-millis:2000}") long settleMillis
+    ) {
+        this.repository = repository;
+        this.changeRepository = changeRepository;
+        this.index = index;
+        this.suggester = suggester;
+        this.settleTime = Duration.ofMillis(settleMillis);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void build() {
+        Long startSeq = changeRepository.findLastSeq(LocalDateTime.now().minus(settleTime));
+        repository.findAllNames().forEach(this::put);
+        this.lastSeq = startSeq == null ? 0L : startSeq;
+        index.markBuilt();
+        log.info("Product name index built with {} products", index.size());
+    }
+
+    /**
+     * Re-reads the names of the products changed since the last sync, dropping the products that no longer
+     * exist. Does nothing until the indexes are built.
+     */
+    public synchronized void sync() {
+        if (lastSeq == null) return;
+
+        LocalDateTime settledBefore = LocalDateTime.now().minus(settleTime);
+        List<ProductChangeSeq> changes;
+        do {
+            changes = changeRepository.findAllLatestAfter(lastSeq, settledBefore, PageRequest.ofSize(SYNC_BATCH_SIZE));
+            if (changes.isEmpty()) return;
+
+            List<Long> productIds = changes.stream().map(ProductChangeSeq::getProductId).toList();
+            Map<Long, ProductName> names = repository.findAllNamesByIdIn(productIds).stream()
+                .collect(Collectors.toMap(ProductName::getId, Function.identity()));
+            productIds.forEach(productId -> {
+                ProductName name = names.get(productId);
+                if (name != null) {
+                    this.put(name);
+                } else {
+                    index.remove(productId);
+                    suggester.remove(productId);
+                }
+            });
+            this.lastSeq = changes.get(changes.size() - 1).getSeq();
+        } while (changes.size() == SYNC_BATCH_SIZE);
+    }
+
+    private void put(ProductName product) {
+        index.put(product.getId(), product.getName());
+        suggester.put(product.getId(), product.getName());
+    }
+}
\ No newline at end of file
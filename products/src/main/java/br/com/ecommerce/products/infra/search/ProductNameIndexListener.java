@@ -0,0 +1,40 @@
+package br.com.ecommerce.products.infra.search;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+import br.com.ecommerce.products.infra.entity.product.Product;
+import br.com.ecommerce.products.infra.transaction.AfterCommit;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.AllArgsConstructor;
+
+@Component
+@AllArgsConstructor
+public class ProductNameIndexListener {
+
+    private final ObjectProvider<ProductNameIndex> index;
+    private final ObjectProvider<ProductNameSuggester> suggester;
+
+
+    @PostPersist
+    @PostUpdate
+    public void onSave(Product product) {
+        Long id = product.getId();
+        String name = product.getName();
+        AfterCommit.run(() -> {
+            index.ifAvailable(target -> target.put(id, name));
+            suggester.ifAvailable(target -> target.put(id, name));
+        });
+    }
+
+    @PostRemove
+    public void onRemove(Product product) {
+        Long id = product.getId();
+        AfterCommit.run(() -> {
+            index.ifAvailable(target -> target.remove(id));
+            suggester.ifAvailable(target -> target.remove(id));
+        });
+    }
+}
\ No newline at end of file
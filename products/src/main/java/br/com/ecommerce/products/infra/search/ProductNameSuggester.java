@@ -0,0 +1,93 @@
+package br.com.ecommerce.products.infra.search;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+import org.springframework.stereotype.Component;
+
+import br.com.ecommerce.products.api.dto.product.ProductSuggestionDTO;
+
+/**
+ * Prefix autocomplete over product names. Names are kept sorted by their text without case and accents, as the
+ * {@link ProductNameIndex} compares them, so a prefix is a range of keys: finding it costs a logarithmic seek and
+ * reading it stops after {@code limit} products. Names starting with the prefix come first, then names with a
+ * later word starting with it, each in alphabetical order.
+ */
+@Component
+public class ProductNameSuggester {
+
+    private static final char ID_SEPARATOR = '\u0000';
+
+    private final NavigableMap<String, Long> nameKeys = new ConcurrentSkipListMap<>();
+    private final NavigableMap<String, Long> wordKeys = new ConcurrentSkipListMap<>();
+    private final Map<Long, String> names = new ConcurrentHashMap<>();
+
+
+    public int size() {
+        return names.size();
+    }
+
+    public synchronized void put(Long productId, String name) {
+        String previous = names.put(productId, name);
+        if (name.equals(previous)) return;
+
+        if (previous != null) this.removeKeys(productId, previous);
+        String normalized = ProductNameIndex.normalize(name);
+        nameKeys.put(key(normalized, productId), productId);
+        wordStarts(normalized).forEach(start -> wordKeys.put(key(normalized.substring(start), productId), productId));
+    }
+
+    public synchronized void remove(Long productId) {
+        String previous = names.remove(productId);
+        if (previous != null) this.removeKeys(productId, previous);
+    }
+
+    public List<ProductSuggestionDTO> suggest(String prefix, int limit) {
+        String normalized = ProductNameIndex.normalize(prefix).stripLeading();
+        if (normalized.isEmpty()) return List.of();
+
+        Set<Long> productIds = new LinkedHashSet<>();
+        collect(nameKeys, normalized, limit, productIds);
+        collect(wordKeys, normalized, limit, productIds);
+
+        return productIds.stream()
+            .map(productId -> {
+                String name = names.get(productId);
+                return name == null ? null : new ProductSuggestionDTO(productId, name);
+            })
+            .filter(Objects::nonNull)
+            .toList();
+    }
+
+    private void removeKeys(Long productId, String name) {
+        String normalized = ProductNameIndex.normalize(name);
+        nameKeys.remove(key(normalized, productId));
+        wordStarts(normalized).forEach(start -> wordKeys.remove(key(normalized.substring(start), productId)));
+    }
+
+    private static void collect(NavigableMap<String, Long> keys, String prefix, int limit, Set<Long> productIds) {
+        for (Map.Entry<String, Long> entry : keys.tailMap(prefix).entrySet()) {
+            if (productIds.size() >= limit || !entry.getKey().startsWith(prefix)) return;
+            productIds.add(entry.getValue());
+        }
+    }
+
+    private static List<Integer> wordStarts(String name) {
+        List<Integer> starts = new ArrayList<>();
+        for (int i = 1; i < name.length(); i++) {
+            if (!Character.isLetterOrDigit(name.charAt(i - 1)) && Character.isLetterOrDigit(name.charAt(i))) starts.add(i);
+        }
+        return starts;
+    }
+
+    private static String key(String normalized, Long productId) {
+        return normalized + ID_SEPARATOR + productId;
+    }
+}
\ No newline at end of file
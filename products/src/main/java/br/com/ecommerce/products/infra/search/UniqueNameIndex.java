@@ -0,0 +1,141 @@
+package br.com.ecommerce.products.infra.search;
+
+import java.text.Normalizer;
+import java.util.Collection;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Bloom filter of the names in use per entity type, checked before the {@code existsByName} query of the
+ * unique-name validators. A name the filter has never seen is answered without touching the database;
+ * anything else, and every lookup made before the filter is built, still goes to the database.
+ * <p>
+ * Names are normalized coarser than the database collation (case, accents and surrounding blanks are
+ * ignored), so two names the database considers equal always share their filter bits.
+ */
+@Component
+public class UniqueNameIndex {
+
+    private static final String LOOKUPS = "names.unique.lookups";
+    private static final String FALSE_POSITIVE_RATE = "names.unique.false-positive-rate";
+    private static final int MINIMUM_CAPACITY = 1024;
+
+    private final Map<Class<?>, Filter> filters = new ConcurrentHashMap<>();
+    private final MeterRegistry registry;
+    private final double falsePositiveRate;
+
+
+    public UniqueNameIndex(
+        MeterRegistry registry,
+        @Value("${api.validation.unique-names.false-positive-rate:0.01}") double falsePositiveRate
+    ) {
+        this.registry = registry;
+        this.falsePositiveRate = falsePositiveRate;
+    }
+
+    /**
+     * Tells whether the name is in use, asking {@code database} only when the filter cannot rule it out.
+     */
+    public boolean exists(Class<?> entity, String name, Predicate<String> database) {
+        Filter filter = this.filter(entity);
+        NameBloomFilter current = filter.current;
+        if (current == null || name == null) return database.test(name);
+
+        if (!current.mightContain(normalize(name))) {
+            filter.negatives.increment();
+            return false;
+        }
+        boolean exists = database.test(name);
+        (exists ? filter.positives : filter.falsePositives).increment();
+        return exists;
+    }
+
+    public void put(Class<?> entity, String name) {
+        if (name == null) return;
+        this.filter(entity).put(normalize(name));
+    }
+
+    /**
+     * Replaces the filter of an entity type with one sized for {@code expectedNames} and loaded from
+     * {@code names}. Names put while the new filter is loading are added to both filters.
+     */
+    public void rebuild(Class<?> entity, long expectedNames, Supplier<Collection<String>> names) {
+        Filter filter = this.filter(entity);
+        NameBloomFilter next = new NameBloomFilter(
+            Math.max(MINIMUM_CAPACITY, 2 * expectedNames), falsePositiveRate);
+        filter.startBuilding(next);
+
+        names.get().forEach(name -> { if (name != null) next.put(normalize(name)); });
+        filter.publish(next);
+    }
+
+    private Filter filter(Class<?> entity) {
+        return filters.computeIfAbsent(entity, this::createFilter);
+    }
+
+    private Filter createFilter(Class<?> entity) {
+        String tag = entity.getSimpleName().toLowerCase(Locale.ROOT);
+        Filter filter = new Filter(
+            Counter.builder(LOOKUPS).tag("entity", tag).tag("result", "negative").register(registry),
+            Counter.builder(LOOKUPS).tag("entity", tag).tag("result", "positive").register(registry),
+            Counter.builder(LOOKUPS).tag("entity", tag).tag("result", "false_positive").register(registry));
+        Gauge.builder(FALSE_POSITIVE_RATE, filter, Filter::falsePositiveRate)
+            .tag("entity", tag)
+            .register(registry);
+        return filter;
+    }
+
+    private static String normalize(String name) {
+        return Normalizer.normalize(name, Normalizer.Form.NFD)
+            .replaceAll("\\p{M}", "")
+            .strip()
+            .toLowerCase(Locale.ROOT);
+    }
+
+    private static class Filter {
+
+        private final Counter negatives;
+        private final Counter positives;
+        private final Counter falsePositives;
+        private volatile NameBloomFilter current;
+        private NameBloomFilter building;
+
+        Filter(Counter negatives, Counter positives, Counter falsePositives) {
+            this.negatives = negatives;
+            this.positives = positives;
+            this.falsePositives = falsePositives;
+        }
+
+        synchronized void put(String normalizedName) {
+            if (current != null) current.put(normalizedName);
+            if (building != null) building.put(normalizedName);
+        }
+
+        synchronized void startBuilding(NameBloomFilter next) {
+            this.building = next;
+        }
+
+        synchronized void publish(NameBloomFilter next) {
+            this.current = next;
+            if (building == next) building = null;
+        }
+
+        /**
+         * Share of the names not in use that the filter failed to rule out.
+         */
+        double falsePositiveRate() {
+            double absent = negatives.count() + falsePositives.count();
+            return absent == 0 ? 0 : falsePositives.count() / absent;
+        }
+    }
+}
\ No newline at end of file
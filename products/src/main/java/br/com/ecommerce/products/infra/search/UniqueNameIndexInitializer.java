@@ -0,0 +1,41 @@
+package br.com.ecommerce.products.infra.search;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import br.com.ecommerce.products.infra.entity.category.Category;
+import br.com.ecommerce.products.infra.entity.department.Department;
+import br.com.ecommerce.products.infra.entity.manufacturer.Manufacturer;
+import br.com.ecommerce.products.infra.entity.product.Product;
+import br.com.ecommerce.products.infra.repository.CategoryRepository;
+import br.com.ecommerce.products.infra.repository.DepartmentRepository;
+import br.com.ecommerce.products.infra.repository.ManufacturerRepository;
+import br.com.ecommerce.products.infra.repository.ProductName;
+import br.com.ecommerce.products.infra.repository.ProductRepository;
+import lombok.AllArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Component
+@AllArgsConstructor
+public class UniqueNameIndexInitializer {
+
+    private final ProductRepository productRepository;
+    private final CategoryRepository categoryRepository;
+    private final DepartmentRepository departmentRepository;
+    private final ManufacturerRepository manufacturerRepository;
+    private final UniqueNameIndex index;
+
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void build() {
+        index.rebuild(Product.class, productRepository.count(), () -> productRepository.findAllNames().stream()
+            .map(ProductName::getName)
+            .toList());
+        index.rebuild(Category.class, categoryRepository.count(), categoryRepository::findAllNames);
+        index.rebuild(Department.class, departmentRepository.count(), departmentRepository::findAllNames);
+        index.rebuild(Manufacturer.class, manufacturerRepository.count(), manufacturerRepository::findAllNames);
+        log.info("Unique name index built");
+    }
+}
\ No newline at end of file
@@ -0,0 +1,28 @@
+package br.com.ecommerce.products.infra.search;
+
+import org.hibernate.Hibernate;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+import br.com.ecommerce.products.infra.entity.tools.interfaces.Named;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostUpdate;
+import lombok.AllArgsConstructor;
+
+/**
+ * Adds names to the {@link UniqueNameIndex} as soon as they are written, before commit: a name from a
+ * transaction that rolls back only costs a false positive, while a late one could let a duplicate through.
+ */
+@Component
+@AllArgsConstructor
+public class UniqueNameIndexListener {
+
+    private final ObjectProvider<UniqueNameIndex> index;
+
+
+    @PostPersist
+    @PostUpdate
+    public void onSave(Named entity) {
+        index.ifAvailable(target -> target.put(Hibernate.getClass(entity), entity.getName()));
+    }
+}
\ No newline at end of file
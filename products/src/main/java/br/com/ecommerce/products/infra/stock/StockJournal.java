@@ -0,0 +1,131 @@
+package br.com.ecommerce.products.infra.stock;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+/**
+ * Append-only log of the stock deltas that were accepted but not yet written to the database.
+ * <p>
+ * Each append is one frame of {@code [count][productId, units]...} forced to disk before it returns, and
+ * a frame cut short by a crash is ignored on replay. The log is split in segments: {@link #seal()} closes
+ * the active segment before a flush, and sealed segments are deleted only once their deltas are stored.
+ * Segment names carry a random id, which the database records with the deltas of the segment so that a
+ * segment stored but not yet deleted is not applied again.
+ */
+class StockJournal {
+
+    private static final String PREFIX = "stock-journal-";
+    private static final String SUFFIX = ".log";
+    private static final int HEADER_BYTES = Integer.BYTES;
+    private static final int ENTRY_BYTES = 2 * Long.BYTES;
+
+    private final Path directory;
+    private final List<Path> sealed = new ArrayList<>();
+    private long sequence;
+    private Path active;
+    private FileChannel channel;
+
+
+    StockJournal(Path directory) throws IOException {
+        this.directory = Files.createDirectories(directory);
+        this.sequence = this.segments().stream()
+            .mapToLong(this::sequenceOf)
+            .max()
+            .orElse(0);
+    }
+
+    /**
+     * Sums the deltas of every complete frame left by a previous run, per segment id, and marks those
+     * segments as sealed.
+     */
+    synchronized Map<String, Map<Long, Long>> recover() throws IOException {
+        Map<String, Map<Long, Long>> deltasBySegment = new LinkedHashMap<>();
+        for (Path segment : this.segments()) {
+            Map<Long, Long> deltas = new HashMap<>();
+            ByteBuffer buffer = ByteBuffer.wrap(Files.readAllBytes(segment));
+            while (buffer.remaining() >= HEADER_BYTES) {
+                int count = buffer.getInt();
+                if (count < 0 || buffer.remaining() < count * ENTRY_BYTES) break;
+
+                for (int i = 0; i < count; i++) deltas.merge(buffer.getLong(), buffer.getLong(), Long::sum);
+            }
+            deltasBySegment.put(this.idOf(segment), deltas);
+            sealed.add(segment);
+        }
+        return deltasBySegment;
+    }
+
+    synchronized void append(Map<Long, Long> deltas) throws IOException {
+        if (channel == null) this.open();
+
+        ByteBuffer frame = ByteBuffer.allocate(HEADER_BYTES + deltas.size() * ENTRY_BYTES);
+        frame.putInt(deltas.size());
+        deltas.forEach((productId, units) -> frame.putLong(productId).putLong(units));
+        frame.flip();
+
+        while (frame.hasRemaining()) channel.write(frame);
+        channel.force(false);
+    }
+
+    /**
+     * Closes the active segment, so appends made from now on are not removed by {@link #deleteSealed()}.
+     */
+    synchronized void seal() throws IOException {
+        if (channel == null) return;
+
+        channel.close();
+        channel = null;
+        sealed.add(active);
+    }
+
+    synchronized List<String> sealedIds() {
+        return sealed.stream().map(this::idOf).toList();
+    }
+
+    synchronized void deleteSealed() throws IOException {
+        for (Path segment : sealed) Files.deleteIfExists(segment);
+        sealed.clear();
+    }
+
+    synchronized void close() throws IOException {
+        if (channel != null) channel.close();
+        channel = null;
+    }
+
+    private void open() throws IOException {
+        active = directory.resolve(PREFIX + (++sequence) + "-" + UUID.randomUUID() + SUFFIX);
+        channel = FileChannel.open(active, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE);
+    }
+
+    private List<Path> segments() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files
+                .filter(file -> file.getFileName().toString().startsWith(PREFIX))
+                .filter(file -> file.getFileName().toString().endsWith(SUFFIX))
+                .sorted((a, b) -> Long.compare(this.sequenceOf(a), this.sequenceOf(b)))
+                .toList();
+        }
+    }
+
+    private String idOf(Path segment) {
+        String name = segment.getFileName().toString();
+        return name.substring(0, name.length() - SUFFIX.length());
+    }
+
+    private long sequenceOf(Path segment) {
+        String id = this.idOf(segment);
+        int end = id.indexOf('-', PREFIX.length());
+        return Long.parseLong(id.substring(PREFIX.length(), end < 0 ? id.length() : end));
+    }
+}
\ No newline at end of file
@@ -0,0 +1,350 @@
+package br.com.ecommerce.products.infra.stock;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Component;
+
+import br.com.ecommerce.products.api.dto.product.ProductUnitsRequestedDTO;
+import br.com.ecommerce.products.infra.cache.ProductDetailCache;
+import br.com.ecommerce.products.infra.repository.ProductRepository;
+import br.com.ecommerce.products.infra.repository.ProductUnit;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Optional write-behind mode for stock reservations. Each product keeps its available units in memory in
+ * striped counters, reservations are checked against them, and the reserved units are summed per product
+ * and written to the database on an interval or after {@code flushThreshold} reservations. Every flush
+ * reloads the counters from the database, minus the units still pending.
+ * <p>
+ * Reservations are journaled before they are acknowledged, and a restart applies whatever was not flushed;
+ * segments already applied are recorded with their units, so they are never applied twice. Stock read from
+ * the database may lag behind the reservations by one flush.
+ * <p>
+ * The mode assumes a single instance of the service consumes the stock reservations: the counters only
+ * see the reservations of other instances after a flush, so several instances may oversell a product by
+ * up to what each one accepts within a flush interval.
+ */
+@Slf4j
+@Component
+public class StockWriteBehindBuffer {
+
+    private final ProductRepository productRepository;
+    private final ProductDetailCache detailCache;
+    private final boolean enabled;
+    private final int flushThreshold;
+    private final Path journalDirectory;
+
+    private final Map<Long, Counter> counters = new ConcurrentHashMap<>();
+    private final AtomicInteger reservationsSinceFlush = new AtomicInteger();
+    private final ReentrantReadWriteLock reservationLock = new ReentrantReadWriteLock();
+    private final ReentrantLock flushLock = new ReentrantLock();
+    private StockJournal journal;
+
+
+    public StockWriteBehindBuffer(
+        ProductRepository productRepository,
+        ProductDetailCache detailCache,
+        @Value("${api.stocks.write-behind.enabled:false}") boolean enabled,
+        @Value("${api.stocks.write-behind.flush-threshold:1000}") int flushThreshold,
+        @Value("${api.stocks.write-behind.journal-dir:./products-stock-journal}") Path journalDirectory
+    ) {
+        this.productRepository = productRepository;
+        this.detailCache = detailCache;
+        this.enabled = enabled;
+        this.flushThreshold = flushThreshold;
+        this.journalDirectory = journalDirectory;
+    }
+
+    @PostConstruct
+    public void recover() throws IOException {
+        if (!enabled) return;
+
+        journal = new StockJournal(journalDirectory);
+        Map<String, Map<Long, Long>> segments = journal.recover();
+        Set<String> applied = productRepository.findAppliedSegments(segments.keySet());
+
+        Map<Long, Long> deltas = new HashMap<>();
+        List<String> replayed = new ArrayList<>();
+        segments.forEach((segmentId, segmentDeltas) -> {
+            if (applied.contains(segmentId)) return;
+            segmentDeltas.forEach((productId, units) -> deltas.merge(productId, units, Long::sum));
+            replayed.add(segmentId);
+        });
+        deltas.values().removeIf(units -> units == 0);
+
+        if (!deltas.isEmpty()) {
+            productRepository.applyStockDeltas(deltas, replayed);
+            detailCache.evictAll(deltas.keySet());
+            log.info("Stock journal recovered: {} products updated", deltas.size());
+        }
+        journal.deleteSealed();
+        productRepository.deleteAppliedSegments(segments.keySet());
+    }
+
+    @PreDestroy
+    public void close() throws IOException {
+        if (!enabled) return;
+
+        this.flush();
+        journal.close();
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Reserves each line against the available units in memory, with the same rules as
+     * {@link ProductRepository#reserveStocks(List)}.
+     *
+     * @return the lines that could not be reserved, in request order
+     */
+    public List<ProductUnitsRequestedDTO> reserve(List<ProductUnitsRequestedDTO> lines) {
+        this.loadCounters(lines.stream().map(ProductUnitsRequestedDTO::getId).distinct().toList());
+
+        List<ProductUnitsRequestedDTO> failed = new ArrayList<>();
+        Map<Long, Long> accepted = new LinkedHashMap<>();
+
+        reservationLock.readLock().lock();
+        try {
+            for (ProductUnitsRequestedDTO line : lines) {
+                Counter counter = counters.get(line.getId());
+                if (counter == null || !counter.tryReserve(line.getUnit())) {
+                    failed.add(line);
+                    continue;
+                }
+                accepted.merge(line.getId(), line.getUnit().longValue(), Long::sum);
+            }
+            if (accepted.isEmpty()) return failed;
+
+            try {
+                journal.append(accepted);
+            } catch (IOException ex) {
+                accepted.forEach((productId, units) -> counters.get(productId).release(units));
+                throw new UncheckedIOException("Could not journal stock reservation", ex);
+            }
+            accepted.forEach((productId, units) -> counters.get(productId).pending.add(units));
+        } finally {
+            reservationLock.readLock().unlock();
+        }
+
+        if (reservationsSinceFlush.addAndGet(accepted.size()) >= flushThreshold) this.flush();
+        return failed;
+    }
+
+    /**
+     * Returns the ids of the products that do not have enough units in memory for the given lines,
+     * without reserving anything.
+     */
+    public List<Long> findExceeding(List<ProductUnitsRequestedDTO> lines) {
+        Map<Long, Long> requested = new LinkedHashMap<>();
+        lines.forEach(line -> requested.merge(line.getId(), line.getUnit().longValue(), Long::sum));
+        this.loadCounters(requested.keySet());
+
+        return requested.entrySet().stream()
+            .filter(entry -> {
+                Counter counter = counters.get(entry.getKey());
+                return counter == null || counter.available() < entry.getValue();
+            })
+            .map(Map.Entry::getKey)
+            .toList();
+    }
+
+    /**
+     * Writes the pending units of every product in one batch, then reloads the counters from the database.
+     * Does nothing if another flush is running. When the journal cannot be sealed or the database rejects
+     * the batch, the units stay pending for the next flush.
+     */
+    public void flush() {
+        if (!enabled || !flushLock.tryLock()) return;
+
+        try {
+            Map<Long, Long> deltas = new HashMap<>();
+            List<String> segmentIds;
+            reservationLock.writeLock().lock();
+            try {
+                counters.forEach((productId, counter) -> {
+                    long units = counter.pending.sumThenReset();
+                    if (units != 0) deltas.put(productId, units);
+                });
+                reservationsSinceFlush.set(0);
+                journal.seal();
+                segmentIds = journal.sealedIds();
+            } catch (IOException ex) {
+                deltas.forEach((productId, units) -> counters.get(productId).pending.add(units));
+                log.warn("Could not seal stock journal segment: {}", ex.getMessage());
+                return;
+            } finally {
+                reservationLock.writeLock().unlock();
+            }
+
+            try {
+                if (!deltas.isEmpty()) {
+                    productRepository.applyStockDeltas(deltas, segmentIds);
+                    detailCache.evictAll(deltas.keySet());
+                }
+            } catch (DataAccessException ex) {
+                deltas.forEach((productId, units) -> counters.get(productId).pending.add(units));
+                log.warn("Stock flush rejected, {} products kept pending: {}",
+                    deltas.size(), ex.getMostSpecificCause().getMessage());
+                return;
+            }
+            this.deleteSegments(segmentIds);
+            this.reload(List.copyOf(counters.keySet()));
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    /**
+     * Reloads the available units of a product whose stock was changed directly in the database.
+     */
+    public void refresh(Long productId) {
+        if (!enabled || !counters.containsKey(productId)) return;
+
+        flushLock.lock();
+        try {
+            this.reload(List.of(productId));
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    private void deleteSegments(List<String> segmentIds) {
+        try {
+            journal.deleteSealed();
+            productRepository.deleteAppliedSegments(segmentIds);
+        } catch (IOException | DataAccessException ex) {
+            log.warn("Could not delete flushed stock journal segments: {}", ex.getMessage());
+        }
+    }
+
+    /**
+     * Sets the available units of the products to their stock in the database minus the units reserved
+     * here and not flushed yet. Must hold the flush lock, so no flush is between resetting the pending
+     * units and storing them.
+     */
+    private void reload(List<Long> productIds) {
+        if (productIds.isEmpty()) return;
+
+        List<ProductUnit> stored;
+        try {
+            stored = productRepository.findAllUnitsByIdIn(productIds);
+        } catch (DataAccessException ex) {
+            log.warn("Could not reload stock counters: {}", ex.getMostSpecificCause().getMessage());
+            return;
+        }
+
+        reservationLock.writeLock().lock();
+        try {
+            stored.forEach(product -> {
+                Counter counter = counters.get(product.getId());
+                if (counter != null) counter.set(product.getUnit() - counter.pending.sum());
+            });
+        } finally {
+            reservationLock.writeLock().unlock();
+        }
+
+        List<Long> oversold = stored.stream()
+            .filter(product -> product.getUnit() < 0)
+            .map(ProductUnit::getId)
+            .toList();
+        if (!oversold.isEmpty()) log.warn("Stock below zero after write-behind flush for products: {}", oversold);
+    }
+
+    private void loadCounters(Collection<Long> productIds) {
+        List<Long> missing = productIds.stream()
+            .filter(productId -> !counters.containsKey(productId))
+            .toList();
+        if (missing.isEmpty()) return;
+
+        for (ProductUnit product : productRepository.findAllUnitsByIdIn(missing))
+            counters.putIfAbsent(product.getId(), new Counter(product.getUnit()));
+    }
+
+    /**
+     * Available units split in stripes, so reservations from different threads usually update different
+     * cells. A reservation that does not fit in the stripe of its thread gathers the units of every stripe
+     * under the counter lock; units released while it gathers may make it fail, never oversell.
+     */
+    private static class Counter {
+
+        private static final int STRIPES = Runtime.getRuntime().availableProcessors();
+        private static final int PADDING = 8;
+
+        private final AtomicLongArray stripes = new AtomicLongArray(STRIPES * PADDING);
+        private final LongAdder pending = new LongAdder();
+
+        Counter(long available) {
+            this.set(available);
+        }
+
+        long available() {
+            long sum = 0;
+            for (int stripe = 0; stripe < STRIPES; stripe++) sum += stripes.get(stripe * PADDING);
+            return sum;
+        }
+
+        /**
+         * Must not run together with reservations of the counter.
+         */
+        void set(long available) {
+            for (int stripe = 0; stripe < STRIPES; stripe++) stripes.set(stripe * PADDING, share(available, stripe));
+        }
+
+        void release(long units) {
+            stripes.addAndGet(home(), units);
+        }
+
+        boolean tryReserve(long units) {
+            int home = home();
+            if (units <= 0) {
+                stripes.addAndGet(home, -units);
+                return true;
+            }
+
+            long current;
+            while ((current = stripes.get(home)) >= units) {
+                if (stripes.compareAndSet(home, current, current - units)) return true;
+            }
+            return this.gatherAndReserve(units);
+        }
+
+        private synchronized boolean gatherAndReserve(long units) {
+            long total = 0;
+            for (int stripe = 0; stripe < STRIPES; stripe++) total += stripes.getAndSet(stripe * PADDING, 0);
+
+            boolean reserved = total >= units;
+            if (reserved) total -= units;
+            for (int stripe = 0; stripe < STRIPES; stripe++) stripes.addAndGet(stripe * PADDING, share(total, stripe));
+            return reserved;
+        }
+
+        private static long share(long units, int stripe) {
+            return units / STRIPES + (stripe == 0 ? units % STRIPES : 0);
+        }
+
+        private static int home() {
+            return (int) (Thread.currentThread().getId() % STRIPES) * PADDING;
+        }
+    }
+}
\ No newline at end of file
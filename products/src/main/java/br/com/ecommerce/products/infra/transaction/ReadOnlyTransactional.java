@@ -0,0 +1,19 @@
+package br.com.ecommerce.products.infra.transaction;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Read-only transaction, served by the read replica when {@code api.datasource.replica.url} is set.
+ */
+@Documented
+@Target({ElementType.METHOD, ElementType.TYPE})
+@Retention(RetentionPolicy.RUNTIME)
+@Transactional(readOnly = true)
+public @interface ReadOnlyTransactional {
+}
\ No newline at end of file
@@ -0,0 +1,98 @@
+package br.com.ecommerce.products.benchmark;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import br.com.ecommerce.products.infra.search.ProductNameIndex;
+
+/**
+ * Compares {@link ProductNameIndex#search(String)} with the {@code LIKE '%name%'} filter it replaces, run by
+ * H2 over a table holding the same names. Runs with {@code mvn -Pbenchmarks test-compile exec:exec}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ProductNameIndexBenchmark {
+
+    private static final String LIKE = "SELECT id FROM products WHERE LOWER(name) LIKE LOWER(CONCAT('%', ?, '%'))";
+    private static final String[] BRANDS = { "Acme", "Globex", "Initech", "Umbrella", "Hooli", "Stark" };
+    private static final String[] KINDS = { "Notebook", "Smartphone", "Monitor", "Keyboard", "Headset", "Camera" };
+
+    @Param({ "1000", "10000", "100000" })
+    private int products;
+
+    @Param({ "notebook", "camera 4" })
+    private String query;
+
+    private ProductNameIndex index;
+    private Connection connection;
+    private PreparedStatement like;
+
+
+    @Setup(Level.Trial)
+    public void setup() throws SQLException {
+        index = new ProductNameIndex();
+        connection = DriverManager.getConnection("jdbc:h2:mem:benchmark", "sa", "");
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("CREATE TABLE products (id BIGINT PRIMARY KEY, name VARCHAR(100) NOT NULL)");
+        }
+
+        try (PreparedStatement insert = connection.prepareStatement("INSERT INTO products (id, name) VALUES (?, ?)")) {
+            for (long id = 1; id <= products; id++) {
+                String name = "%s %s %d".formatted(BRANDS[(int) (id % BRANDS.length)], KINDS[(int) (id / BRANDS.length % KINDS.length)], id);
+                index.put(id, name);
+                insert.setLong(1, id);
+                insert.setString(2, name);
+                insert.addBatch();
+            }
+            insert.executeBatch();
+        }
+        index.markBuilt();
+        like = connection.prepareStatement(LIKE);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        like.close();
+        connection.close();
+    }
+
+    @Benchmark
+    public List<Long> index() {
+        return index.search(query);
+    }
+
+    @Benchmark
+    public List<Long> like() throws SQLException {
+        like.setString(1, query);
+        List<Long> ids = new ArrayList<>();
+        try (ResultSet rows = like.executeQuery()) {
+            while (rows.next()) ids.add(rows.getLong(1));
+        }
+        return ids;
+    }
+}
\ No newline at end of file
@@ -19,6 +19,7 @@ import org.springframework.test.web.servlet.ResultActions;
 import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
 
 import br.com.ecommerce.products.annotations.ControllerIntegrationTest;
+import br.com.ecommerce.products.business.service.DepartmentTreeService;
 import br.com.ecommerce.products.infra.entity.category.Category;
 import br.com.ecommerce.products.infra.entity.department.Department;
 import br.com.ecommerce.products.infra.repository.CategoryRepository;
@@ -39,6 +40,8 @@ class DepartmentControllerIntegrationTest {
 
     @Autowired
     private MockMvc mvc;
+    @Autowired
+    private DepartmentTreeService treeService;
 
     @BeforeAll
     static void setup(
@@ -63,6 +66,26 @@ class DepartmentControllerIntegrationTest {
     }
 
 
+    @Test
+    void getTreeTest01() throws Exception {
+        // arrange
+        String path = basePath + "/tree";
+        treeService.rebuild();
+
+        // act
+        var requestMock = MockMvcRequestBuilders.get(path)
+            .contentType(MediaType.APPLICATION_JSON);
+        ResultActions act = mvc.perform(requestMock);
+
+        // assert
+        act
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.version").isNumber())
+            .andExpect(jsonPath("$.departments", hasSize(departmentsPersisted.size())))
+            .andExpect(jsonPath("$.departments[0].categories", hasSize(1)))
+            .andExpect(jsonPath("$.departments[0].categories[0].productCount").value(0));
+    }
+
     @Test
     void getDepartmentTest01() throws Exception {
         // arrange
@@ -21,9 +21,11 @@ import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
 
 import br.com.ecommerce.common.annotations.TestCustomWithMockUser;
 import br.com.ecommerce.products.annotations.ControllerIntegrationTest;
+import br.com.ecommerce.products.api.dto.product.BulkPromotionalPriceDTO;
 import br.com.ecommerce.products.api.dto.product.CreateProductDTO;
 import br.com.ecommerce.products.api.dto.product.DataStockDTO;
 import br.com.ecommerce.products.api.dto.product.EndOfPromotionDTO;
+import br.com.ecommerce.products.api.dto.product.PromotionalPriceDTO;
 import br.com.ecommerce.products.api.dto.product.UpdatePriceDTO;
 import br.com.ecommerce.products.api.dto.product.UpdateProductDTO;
 import br.com.ecommerce.products.infra.entity.category.Category;
@@ -72,6 +74,8 @@ class AdminProductControllerIntegrationTest {
     private JacksonTester<UpdatePriceDTO> updatePriceDTOJson;
     @Autowired
     private JacksonTester<EndOfPromotionDTO> endOfPromotionDTOJson;
+    @Autowired
+    private JacksonTester<BulkPromotionalPriceDTO> bulkPromotionalPriceDTOJson;
 
     @BeforeAll
     static void setup(
@@ -619,4 +623,68 @@ class AdminProductControllerIntegrationTest {
         // assert
         act.andExpect(status().isForbidden());
     }
+
+    @Rollback
+    @TestCustomWithMockUser(roles = {"ADMIN", "EMPLOYEE"})
+    void switchCurrentPricesToPromotionalPricesTest01() throws Exception {
+        // arrange
+        Product valid = productsPersisted.get(0);
+        Product invalidPrice = productsPersisted.get(1);
+        Long nonExistentId = 999999L;
+
+        LocalDateTime date = LocalDateTime.now().plusDays(10).withSecond(00).withNano(0);
+        BulkPromotionalPriceDTO requestBody = new BulkPromotionalPriceDTO(List.of(
+            new PromotionalPriceDTO(
+                valid.getId(), valid.getPrice().getOriginalPrice().multiply(new BigDecimal("0.5")), date),
+            new PromotionalPriceDTO(
+                invalidPrice.getId(), invalidPrice.getPrice().getOriginalPrice().add(BigDecimal.ONE), date),
+            new PromotionalPriceDTO(nonExistentId, BigDecimal.ONE, date)));
+
+        // act
+        String path = String.format("%s/prices/switch-to-promotional", basePath);
+        var requestMock = MockMvcRequestBuilders.put(path)
+            .contentType(MediaType.APPLICATION_JSON)
+            .content(bulkPromotionalPriceDTOJson.write(requestBody).getJson());
+        ResultActions act = mvc.perform(requestMock);
+
+        // assert
+        act
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.applied").value(1))
+            .andExpect(jsonPath("$.rejectedProductIds.length()").value(2))
+            .andExpect(jsonPath("$.rejectedProductIds[0]").value(invalidPrice.getId()))
+            .andExpect(jsonPath("$.rejectedProductIds[1]").value(nonExistentId));
+    }
+
+    @Rollback
+    @TestCustomWithMockUser(roles = {"ADMIN", "EMPLOYEE"})
+    void switchCurrentPricesToPromotionalPricesTest02_withPastEndOfPromotion() throws Exception {
+        // arrange
+        Product product = productsPersisted.get(0);
+        BulkPromotionalPriceDTO requestBody = new BulkPromotionalPriceDTO(List.of(
+            new PromotionalPriceDTO(product.getId(), BigDecimal.ONE, LocalDateTime.now().minusDays(1))));
+
+        // act
+        String path = String.format("%s/prices/switch-to-promotional", basePath);
+        var requestMock = MockMvcRequestBuilders.put(path)
+            .contentType(MediaType.APPLICATION_JSON)
+            .content(bulkPromotionalPriceDTOJson.write(requestBody).getJson());
+        ResultActions act = mvc.perform(requestMock);
+
+        // assert
+        act.andExpect(status().isBadRequest());
+    }
+
+    @Rollback
+    @TestCustomWithMockUser(roles = {"CLIENT"})
+    void switchCurrentPricesToPromotionalPricesTest03_withUnauthorizedRoles() throws Exception {
+        // act
+        String path = String.format("%s/prices/switch-to-promotional", basePath);
+        var requestMock = MockMvcRequestBuilders.put(path)
+            .contentType(MediaType.APPLICATION_JSON);
+        ResultActions act = mvc.perform(requestMock);
+
+        // assert
+        act.andExpect(status().isForbidden());
+    }
 }
\ No newline at end of file
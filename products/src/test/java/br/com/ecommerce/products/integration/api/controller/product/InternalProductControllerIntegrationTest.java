@@ -20,8 +20,11 @@ import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.ResultActions;
 import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
 
+import com.jayway.jsonpath.JsonPath;
+
 import br.com.ecommerce.products.annotations.ControllerIntegrationTest;
 import br.com.ecommerce.products.api.dto.product.ProductUnitsRequestedDTO;
+import br.com.ecommerce.products.business.service.ProductService;
 import br.com.ecommerce.products.infra.entity.category.Category;
 import br.com.ecommerce.products.infra.entity.department.Department;
 import br.com.ecommerce.products.infra.entity.manufacturer.Address;
@@ -61,6 +64,9 @@ class InternalProductControllerIntegrationTest {
     @Autowired
     private JacksonTester<List<ProductUnitsRequestedDTO>> productUnitsRequestedDTOJson;
 
+    @Autowired
+    private ProductService productService;
+
     @BeforeAll
     static void setup(
         @Autowired ProductRepository productRepository,
@@ -173,4 +179,85 @@ class InternalProductControllerIntegrationTest {
             .andExpect(jsonPath("$.1.price").value(expectedPrice1.doubleValue()))
             .andExpect(jsonPath("$.2.price").value(expectedPrice2.doubleValue()));
     }
+
+    @Test
+    void findMissingProductsTest01_mustReturnTheIdsOfMissingProducts() throws Exception {
+        // arrange
+        String path = basePath + "/exists";
+        Long existentId = productsPersisted.get(0).getId();
+        Long nonExistentId = 999999L;
+
+        // act
+        var requestMock = MockMvcRequestBuilders.get(path)
+            .param("productIds", existentId.toString())
+            .param("productIds", nonExistentId.toString());
+        ResultActions act = mvc.perform(requestMock);
+
+        // assert
+        act.andExpect(status().isOk())
+            .andExpect(jsonPath("$", hasSize(1)))
+            .andExpect(jsonPath("$[0]").value(nonExistentId));
+    }
+
+    @Test
+    void getCheckoutQuoteTest01() throws Exception {
+        // arrange
+        String path = basePath + "/checkout-quote";
+        Product inStock = productsPersisted.get(0);
+        Product outOfStock = productsPersisted.get(1);
+        Long nonExistentId = 999999L;
+
+        var requestBody = List.of(
+            new ProductUnitsRequestedDTO(inStock.getId(), inStock.getStock().getUnit()),
+            new ProductUnitsRequestedDTO(outOfStock.getId(), outOfStock.getStock().getUnit()),
+            new ProductUnitsRequestedDTO(outOfStock.getId(), 1),
+            new ProductUnitsRequestedDTO(nonExistentId, 1));
+
+        // act
+        var requestMock = MockMvcRequestBuilders.post(path)
+            .contentType(MediaType.APPLICATION_JSON)
+            .content(productUnitsRequestedDTOJson.write(requestBody).getJson());
+        ResultActions act = mvc.perform(requestMock);
+
+        // assert
+        act.andExpect(status().isOk())
+            .andExpect(jsonPath("$", hasSize(3)))
+            .andExpect(jsonPath("$[0].productId").value(inStock.getId()))
+            .andExpect(jsonPath("$[0].name").value(inStock.getName()))
+            .andExpect(jsonPath("$[0].price").value(inStock.getPrice().getCurrentPrice().doubleValue()))
+            .andExpect(jsonPath("$[0].available").value(true))
+            .andExpect(jsonPath("$[1].productId").value(outOfStock.getId()))
+            .andExpect(jsonPath("$[1].unit").value(outOfStock.getStock().getUnit()))
+            .andExpect(jsonPath("$[1].available").value(false))
+            .andExpect(jsonPath("$[2].productId").value(nonExistentId))
+            .andExpect(jsonPath("$[2].available").value(false));
+    }
+
+    @Test
+    void getChangesTest01_mustReturnTheProductsChangedAfterTheSequence() throws Exception {
+        // arrange
+        String path = basePath + "/changes";
+        Product unchanged = productsPersisted.get(0);
+        Product changed = productsPersisted.get(1);
+        productService.addMainImage(unchanged.getId(), "unchanged.png");
+        String response = mvc.perform(MockMvcRequestBuilders.get(path))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.changes", hasSize(0)))
+            .andReturn().getResponse().getContentAsString();
+        String since = JsonPath.read(response, "$.lastSeq").toString();
+        productService.addMainImage(changed.getId(), "changed.png");
+
+        // act
+        var requestMock = MockMvcRequestBuilders.get(path)
+            .param("since", since);
+        ResultActions act = mvc.perform(requestMock);
+
+        // assert
+        act.andExpect(status().isOk())
+            .andExpect(jsonPath("$.changes", hasSize(1)))
+            .andExpect(jsonPath("$.changes[0].productId").value(changed.getId()))
+            .andExpect(jsonPath("$.changes[0].name").value(changed.getName()))
+            .andExpect(jsonPath("$.changes[0].imageLink").value("changed.png"))
+            .andExpect(jsonPath("$.hasNext").value(false));
+    }
 }
\ No newline at end of file
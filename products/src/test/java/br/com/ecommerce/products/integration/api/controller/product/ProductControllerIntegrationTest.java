@@ -1,7 +1,11 @@
 package br.com.ecommerce.products.integration.api.controller.product;
 
 import static org.hamcrest.Matchers.containsStringIgnoringCase;
+import static org.hamcrest.Matchers.hasItem;
 import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.not;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -15,6 +19,7 @@ import org.junit.jupiter.api.Test;
 import org.springframework.amqp.rabbit.core.RabbitTemplate;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.annotation.Rollback;
 import org.springframework.test.util.ReflectionTestUtils;
@@ -22,7 +27,10 @@ import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.ResultActions;
 import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
 
+import br.com.ecommerce.common.page.ContinuationToken;
 import br.com.ecommerce.products.annotations.ControllerIntegrationTest;
+import br.com.ecommerce.products.api.dto.product.DataStockDTO;
+import br.com.ecommerce.products.business.service.ProductService;
 import br.com.ecommerce.products.infra.entity.category.Category;
 import br.com.ecommerce.products.infra.entity.department.Department;
 import br.com.ecommerce.products.infra.entity.manufacturer.Address;
@@ -64,6 +72,8 @@ class ProductControllerIntegrationTest {
     private PriceUtils priceUtils;
     @Autowired
     private ProductUtils productUtils;
+    @Autowired
+    private ProductService productService;
 
     @BeforeAll
     static void setup(
@@ -132,6 +142,47 @@ class ProductControllerIntegrationTest {
             .andExpect(jsonPath("$.manufacturer.name").exists());
     }
 
+    @Test
+    void getProductTest02_mustReturnNotModifiedForTheCurrentETag() throws Exception {
+        // arrange
+        String path = basePath + "/" + productsPersisted.get(1).getId();
+        String eTag = mvc.perform(MockMvcRequestBuilders.get(path))
+            .andExpect(status().isOk())
+            .andExpect(header().exists(HttpHeaders.ETAG))
+            .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        // act
+        var requestMock = MockMvcRequestBuilders.get(path)
+            .header(HttpHeaders.IF_NONE_MATCH, eTag);
+        ResultActions act = mvc.perform(requestMock);
+
+        // assert
+        act.andExpect(status().isNotModified())
+            .andExpect(header().string(HttpHeaders.ETAG, eTag))
+            .andExpect(content().bytes(new byte[0]));
+    }
+
+    @Test
+    void getProductTest03_mustChangeTheETagWhenTheProductChanges() throws Exception {
+        // arrange
+        Long productId = productsPersisted.get(2).getId();
+        int unit = productsPersisted.get(2).getStock().getUnit();
+        String path = basePath + "/" + productId;
+        String eTag = mvc.perform(MockMvcRequestBuilders.get(path))
+            .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        productService.updateStockByProductId(productId, new DataStockDTO(4321));
+
+        // act
+        var requestMock = MockMvcRequestBuilders.get(path)
+            .header(HttpHeaders.IF_NONE_MATCH, eTag);
+        ResultActions act = mvc.perform(requestMock);
+
+        // assert
+        act.andExpect(status().isOk())
+            .andExpect(header().string(HttpHeaders.ETAG, not(eTag)))
+            .andExpect(jsonPath("$.stock.unit").value(unit + 4321));
+    }
+
     @Test
     void getAllTest01_withoutParams() throws Exception {
         // arrange
@@ -312,6 +363,105 @@ class ProductControllerIntegrationTest {
             .andExpect(jsonPath("$.content[0].manufacturer.name").value(manufacturerName));
     }
 
+    @Test
+    void getAllByCursorTest01_mustReturnNextCursorWhileThereAreMoreResults() throws Exception {
+        // arrange
+        String path = basePath + "/cursor";
+
+        // act
+        var requestMock = MockMvcRequestBuilders.get(path)
+            .contentType(MediaType.APPLICATION_JSON)
+            .param("size", "1");
+        ResultActions act = mvc.perform(requestMock);
+
+        // assert
+        act.andExpect(status().isOk())
+            .andExpect(jsonPath("$.content", hasSize(1)))
+            .andExpect(jsonPath("$.hasNext").value(true))
+            .andExpect(jsonPath("$.nextCursor").isNotEmpty());
+    }
+
+    @Test
+    void getAllByCursorTest02_mustFollowTheCursorUntilTheLastPage() throws Exception {
+        // arrange
+        String path = basePath + "/cursor";
+        String name = productsPersisted.get(0).getName();
+        String cursor = ContinuationToken.encode(productsPersisted.get(0).getId() - 1);
+
+        // act
+        var requestMock = MockMvcRequestBuilders.get(path)
+            .contentType(MediaType.APPLICATION_JSON)
+            .param("cursor", cursor)
+            .param("name", name);
+        ResultActions act = mvc.perform(requestMock);
+
+        // assert
+        act.andExpect(status().isOk())
+            .andExpect(jsonPath("$.content", hasSize(1)))
+            .andExpect(jsonPath("$.content[0].name").value(name))
+            .andExpect(jsonPath("$.hasNext").value(false))
+            .andExpect(jsonPath("$.nextCursor").doesNotExist());
+    }
+
+    @Test
+    void getAllByCursorTest03_mustRejectSizesOutOfBounds() throws Exception {
+        // arrange
+        String path = basePath + "/cursor";
+
+        for (String size : List.of("0", "-1", "101")) {
+            // act
+            var requestMock = MockMvcRequestBuilders.get(path)
+                .contentType(MediaType.APPLICATION_JSON)
+                .param("size", size);
+            ResultActions act = mvc.perform(requestMock);
+
+            // assert
+            act.andExpect(status().isBadRequest());
+        }
+    }
+
+    @Test
+    void getFacetsTest01_mustCountEachFacetWithoutItsOwnFilter() throws Exception {
+        // arrange
+        String path = basePath + "/facets";
+        Product product = productsPersisted.get(0);
+        String categoryName = product.getCategory().getName();
+
+        // act
+        var requestMock = MockMvcRequestBuilders.get(path)
+            .contentType(MediaType.APPLICATION_JSON)
+            .param("category", categoryName);
+        ResultActions act = mvc.perform(requestMock);
+
+        // assert
+        act.andExpect(status().isOk())
+            .andExpect(jsonPath("$.categories", hasSize(productsPersisted.size())))
+            .andExpect(jsonPath("$.manufacturers", hasSize(1)))
+            .andExpect(jsonPath("$.manufacturers[0].id").value(product.getManufacturer().getId()))
+            .andExpect(jsonPath("$.manufacturers[0].count").value(1))
+            .andExpect(jsonPath("$.prices[*].count", hasItem(1)));
+    }
+
+    @Test
+    void getSuggestionsTest01_mustSuggestProductsByNamePrefix() throws Exception {
+        // arrange
+        String path = basePath + "/suggest";
+        Product product = productsPersisted.get(0);
+        String prefix = product.getName().substring(0, product.getName().length() - 1).toUpperCase();
+
+        // act
+        var requestMock = MockMvcRequestBuilders.get(path)
+            .contentType(MediaType.APPLICATION_JSON)
+            .param("prefix", prefix)
+            .param("size", "50");
+        ResultActions act = mvc.perform(requestMock);
+
+        // assert
+        act.andExpect(status().isOk())
+            .andExpect(jsonPath("$[*].id", hasItem(product.getId().intValue())))
+            .andExpect(jsonPath("$[*].name", hasItem(product.getName())));
+    }
+
     private void seedProductsWithCustomizedPrices() {
         Price price1 = priceUtils.getPriceInstance();
         ReflectionTestUtils.setField(price1, "currentPrice", BigDecimal.valueOf(150));
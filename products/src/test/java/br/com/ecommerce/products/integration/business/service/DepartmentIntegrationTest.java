@@ -3,6 +3,7 @@ package br.com.ecommerce.products.integration.business.service;
 import static org.junit.Assert.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -15,16 +16,23 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.test.annotation.Rollback;
 
 import br.com.ecommerce.products.annotations.ServiceIntegrationTest;
+import br.com.ecommerce.products.api.dto.category.CreateCategoryDTO;
 import br.com.ecommerce.products.api.dto.department.CreateDepartmentDTO;
+import br.com.ecommerce.products.api.dto.department.DataDepartmentDTO;
 import br.com.ecommerce.products.api.dto.department.SimpleDataDepartmentDTO;
 import br.com.ecommerce.products.api.dto.department.UpdateDepartmentoDTO;
+import br.com.ecommerce.products.business.service.CategoryService;
 import br.com.ecommerce.products.business.service.DepartmentService;
 import br.com.ecommerce.products.infra.entity.category.Category;
 import br.com.ecommerce.products.infra.entity.department.Department;
+import br.com.ecommerce.products.infra.exception.exceptions.DepartmentNotFoundException;
 import br.com.ecommerce.products.infra.repository.CategoryRepository;
 import br.com.ecommerce.products.infra.repository.DepartmentRepository;
 import br.com.ecommerce.products.utils.util.CategoryUtils;
 import br.com.ecommerce.products.utils.util.DepartmentUtils;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.transaction.Transactional;
+import jakarta.transaction.Transactional.TxType;
 
 @ServiceIntegrationTest
 class DepartmentIntegrationTest {
@@ -33,6 +41,10 @@ class DepartmentIntegrationTest {
 
     @Autowired
     private DepartmentService service;
+    @Autowired
+    private CategoryService categoryService;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
 
     @BeforeAll
     static void setup(
@@ -119,4 +131,40 @@ class DepartmentIntegrationTest {
             IllegalArgumentException.class,
             () -> service.updateDepartment(targetId, requestBody));
     }
+
+    @Test
+    @Transactional(TxType.NOT_SUPPORTED)
+    @DisplayName("Integration - getOneDepartment - Must serve the cache until an update or a new category evicts it")
+    void getOneDepartmentTest01_secondLevelCache() {
+        // arrange
+        Long id = service.createDepartment(new CreateDepartmentDTO("cached department")).getId();
+        service.getOneDepartment(id);
+        assertTrue(entityManagerFactory.getCache().contains(Department.class, id));
+
+        // act
+        service.updateDepartment(id, new UpdateDepartmentoDTO("renamed department"));
+        categoryService.create(new CreateCategoryDTO(id, "cached category"));
+        DataDepartmentDTO result = service.getOneDepartment(id);
+
+        // assert
+        assertEquals("RENAMED DEPARTMENT", result.getName());
+        assertEquals(1, result.getCategories().size());
+        assertEquals("CACHED CATEGORY", result.getCategories().get(0).getName());
+    }
+
+    @Test
+    @Transactional(TxType.NOT_SUPPORTED)
+    @DisplayName("Integration - destroyDepartment - Must evict the destroyed department from the cache")
+    void destroyDepartmentTest01_secondLevelCache() {
+        // arrange
+        Long id = service.createDepartment(new CreateDepartmentDTO("destroyed department")).getId();
+        service.getOneDepartment(id);
+        assertTrue(entityManagerFactory.getCache().contains(Department.class, id));
+
+        // act
+        service.destroyDepartment(id);
+
+        // assert
+        assertThrows(DepartmentNotFoundException.class, () -> service.getOneDepartment(id));
+    }
 }
\ No newline at end of file
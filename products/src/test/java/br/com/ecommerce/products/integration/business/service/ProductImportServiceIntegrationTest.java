@@ -0,0 +1,179 @@
+package br.com.ecommerce.products.integration.business.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Comparator;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import br.com.ecommerce.products.annotations.ServiceIntegrationTest;
+import br.com.ecommerce.products.api.dto.product.ProductImportResultDTO;
+import br.com.ecommerce.products.business.service.ProductImportService;
+import br.com.ecommerce.products.infra.entity.category.Category;
+import br.com.ecommerce.products.infra.entity.department.Department;
+import br.com.ecommerce.products.infra.entity.manufacturer.Manufacturer;
+import br.com.ecommerce.products.infra.entity.product.Product;
+import br.com.ecommerce.products.infra.entity.product.ProductChange;
+import br.com.ecommerce.products.infra.repository.CategoryRepository;
+import br.com.ecommerce.products.infra.repository.DepartmentRepository;
+import br.com.ecommerce.products.infra.repository.ManufacturerRepository;
+import br.com.ecommerce.products.infra.repository.ProductChangeRepository;
+import br.com.ecommerce.products.infra.repository.ProductRepository;
+import br.com.ecommerce.products.infra.search.ProductNameIndex;
+import br.com.ecommerce.products.utils.util.AddressUtils;
+import br.com.ecommerce.products.utils.util.CategoryUtils;
+import br.com.ecommerce.products.utils.util.DepartmentUtils;
+import br.com.ecommerce.products.utils.util.ManufacturerUtils;
+import br.com.ecommerce.products.utils.util.PhoneUtils;
+import br.com.ecommerce.products.utils.util.PriceUtils;
+import br.com.ecommerce.products.utils.util.ProductUtils;
+import br.com.ecommerce.products.utils.util.StockUtils;
+import jakarta.transaction.Transactional;
+import jakarta.transaction.Transactional.TxType;
+
+@ServiceIntegrationTest
+class ProductImportServiceIntegrationTest {
+
+    private static Product productPersisted;
+
+    @Autowired
+    private ProductImportService service;
+    @Autowired
+    private ProductRepository repository;
+    @Autowired
+    private ProductNameIndex nameIndex;
+    @Autowired
+    private ProductChangeRepository changeRepository;
+    @Autowired
+    private ObjectMapper objectMapper;
+
+
+    @BeforeAll
+    static void setup(
+        @Autowired ProductRepository repository,
+        @Autowired PriceUtils priceUtils,
+        @Autowired StockUtils stockUtils,
+        @Autowired PhoneUtils phoneUtils,
+        @Autowired AddressUtils addressUtils,
+        @Autowired DepartmentUtils departmentUtils,
+        @Autowired DepartmentRepository departmentRepository,
+        @Autowired CategoryUtils categoryUtils,
+        @Autowired CategoryRepository categoryRepository,
+        @Autowired ManufacturerUtils manufacturerUtils,
+        @Autowired ManufacturerRepository manufacturerRepository,
+        @Autowired ProductUtils productUtils
+    ) {
+        Department department = departmentRepository.save(departmentUtils.getDepartmentInstance());
+        Category category = categoryRepository.save(categoryUtils.getCategoryInstance(department));
+        Manufacturer manufacturer = manufacturerRepository.save(
+            manufacturerUtils.getManufacturerInstance(phoneUtils.getPhoneInstance(), addressUtils.getAddressInstance()));
+        productPersisted = repository.save(productUtils.getProductInstance(
+            priceUtils.getPriceInstance(), stockUtils.getStockInstance(), category, manufacturer));
+    }
+
+    @Test
+    @DisplayName("Integration - importProducts - Must create the valid lines and report the rejected ones")
+    void importProductsTest01() throws Exception {
+        // arrange
+        Long categoryId = productPersisted.getCategory().getId();
+        Long manufacturerId = productPersisted.getManufacturer().getId();
+        String body = String.join("\n",
+            this.line("imported keyboard", categoryId, manufacturerId),
+            this.line("imported monitor", categoryId, manufacturerId),
+            this.line(productPersisted.getName().toUpperCase(), categoryId, manufacturerId),
+            this.line("imported mouse", 1000L, manufacturerId),
+            "{not json",
+            "",
+            this.line("Imported Keyboard", categoryId, manufacturerId));
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        // act
+        service.importProducts(new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8)), output);
+
+        // assert
+        List<ProductImportResultDTO> results = output.toString(StandardCharsets.UTF_8).lines()
+            .map(this::readResult)
+            .sorted(Comparator.comparingInt(ProductImportResultDTO::getLine))
+            .toList();
+        assertEquals(6, results.size());
+
+        assertNotNull(results.get(0).getId());
+        assertNotNull(results.get(1).getId());
+        assertEquals("Invalid product name", results.get(2).getError());
+        assertEquals("Category not found", results.get(3).getError());
+        assertEquals("Malformed JSON", results.get(4).getError());
+        assertEquals(7, results.get(5).getLine());
+        assertNull(results.get(5).getId());
+
+        assertTrue(repository.existsByName("imported keyboard"));
+        assertTrue(nameIndex.search("imported monitor").contains(results.get(1).getId()));
+
+        List<Long> changed = changeRepository.findAll().stream().map(ProductChange::getProductId).toList();
+        assertTrue(changed.contains(results.get(0).getId()));
+        assertTrue(changed.contains(results.get(1).getId()));
+    }
+
+    @Test
+    @Transactional(TxType.NOT_SUPPORTED)
+    @DisplayName("Integration - importProducts - Must insert the other lines of a batch the database rejects")
+    void importProductsTest02() throws Exception {
+        // arrange
+        Long categoryId = productPersisted.getCategory().getId();
+        Long manufacturerId = productPersisted.getManufacturer().getId();
+        String body = String.join("\n",
+            this.line("batch speaker", categoryId, manufacturerId),
+            this.line("batch headset", "d".repeat(300), categoryId, manufacturerId),
+            this.line("batch webcam", categoryId, manufacturerId));
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        // act
+        service.importProducts(new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8)), output);
+
+        // assert
+        List<ProductImportResultDTO> results = output.toString(StandardCharsets.UTF_8).lines()
+            .map(this::readResult)
+            .sorted(Comparator.comparingInt(ProductImportResultDTO::getLine))
+            .toList();
+        assertEquals(3, results.size());
+
+        assertNotNull(results.get(0).getId());
+        assertNull(results.get(1).getId());
+        assertEquals("Rejected by the database", results.get(1).getError());
+        assertNotNull(results.get(2).getId());
+
+        assertTrue(repository.existsByName("batch speaker"));
+        assertFalse(repository.existsByName("batch headset"));
+        assertTrue(repository.existsByName("batch webcam"));
+    }
+
+    private String line(String name, Long categoryId, Long manufacturerId) {
+        return this.line(name, "description", categoryId, manufacturerId);
+    }
+
+    private String line(String name, String description, Long categoryId, Long manufacturerId) {
+        return String.format(
+            "{\"name\":\"%s\",\"description\":\"%s\",\"specs\":\"specs\",\"categoryId\":%d,\"manufacturerId\":%d}",
+            name, description, categoryId, manufacturerId);
+    }
+
+    private ProductImportResultDTO readResult(String line) {
+        try {
+            return objectMapper.readValue(line, ProductImportResultDTO.class);
+        } catch (Exception ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+}
\ No newline at end of file
@@ -4,6 +4,7 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.util.List;
 import java.util.Map;
@@ -11,10 +12,13 @@ import java.util.Set;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.test.annotation.Rollback;
 
 import br.com.ecommerce.products.annotations.ServiceIntegrationTest;
@@ -47,6 +51,7 @@ import br.com.ecommerce.products.utils.util.PhoneUtils;
 import br.com.ecommerce.products.utils.util.PriceUtils;
 import br.com.ecommerce.products.utils.util.ProductUtils;
 import br.com.ecommerce.products.utils.util.StockUtils;
+import jakarta.persistence.EntityManager;
 
 @ServiceIntegrationTest
 class ProductServiceIntegrationTest {
@@ -57,6 +62,8 @@ class ProductServiceIntegrationTest {
     private ProductService service;
     @Autowired
     private ProductRepository repository;
+    @Autowired
+    private EntityManager entityManager;
 
 
     @BeforeAll
@@ -286,6 +293,24 @@ class ProductServiceIntegrationTest {
         });
     }
 
+    @Rollback
+    @Test
+    @DisplayName("Integration - updateStocks - Should not write off more than the available stock")
+    void updateStocksTest02() {
+        // arrange
+        Product target = productsPersisted.get(0);
+        Integer ORIGINAL_VALUE = target.getStock().getUnit();
+        List<StockWriteOffDTO> input = List.of(new StockWriteOffDTO(target.getId(), ORIGINAL_VALUE + 1));
+
+        // act
+        var result = service.updateStocks(input);
+
+        // assert
+        assertEquals(1, result.size());
+        assertEquals(target.getId(), result.get(0).getId());
+        assertEquals(ORIGINAL_VALUE, repository.findById(target.getId()).get().getStock().getUnit());
+    }
+
     @Rollback
     @Test
     @DisplayName("Integration - createProduct - Should create a Product")
@@ -367,4 +392,45 @@ class ProductServiceIntegrationTest {
             ManufacturerNotFoundException.class, 
             () -> service.createProduct(input));
     }
+
+    @Test
+    @DisplayName("Integration - getAllProductWithParams - Must load a page of products in a constant number of statements")
+    void getAllProductWithParamsTest01() {
+        // arrange
+        Statistics statistics = this.cleanStatistics();
+
+        // act
+        var result = service.getAllProductWithParams(null, null, null, null, null, PageRequest.of(0, 10));
+
+        // assert
+        assertEquals(productsPersisted.size(), result.getNumberOfElements());
+        assertNotNull(result.getContent().get(0).getCategory().getName());
+        assertNotNull(result.getContent().get(0).getManufacturer().getName());
+        assertTrue(statistics.getPrepareStatementCount() <= 3); // page, count and images
+    }
+
+    @Test
+    @DisplayName("Integration - getProduct - Must load the product details in two statements")
+    void getProductTest01() {
+        // arrange
+        Statistics statistics = this.cleanStatistics();
+
+        // act
+        var result = service.getProduct(productsPersisted.get(0).getId());
+
+        // assert
+        assertEquals(productsPersisted.get(0).getName(), result.getName());
+        assertEquals(2, statistics.getPrepareStatementCount()); // product and images
+    }
+
+    private Statistics cleanStatistics() {
+        entityManager.flush();
+        entityManager.clear();
+        Statistics statistics = entityManager.getEntityManagerFactory()
+            .unwrap(SessionFactory.class)
+            .getStatistics();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+        return statistics;
+    }
 }
\ No newline at end of file
@@ -6,6 +6,7 @@ import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.test.util.ReflectionTestUtils;
 
 import br.com.ecommerce.products.annotations.ServiceIntegrationTest;
@@ -36,7 +37,16 @@ class UniqueNameProductValidatorTest {
 
     @Autowired
     private UniqueNameProductValidator validator;
+    @Autowired
+    private ProductRepository productRepository;
+    @Autowired
+    private PriceUtils priceUtils;
+    @Autowired
+    private StockUtils stockUtils;
+    @Autowired
+    private ProductUtils productUtils;
     static private String existentName = "product 1";
+    static private Product existentProduct;
 
     @BeforeAll
     static void setup(
@@ -71,7 +81,7 @@ class UniqueNameProductValidatorTest {
         Product product = productUtils.getProductInstance(price, stock, category, manufacturer);
         ReflectionTestUtils.setField(product, "name", existentName);
         manufacturer.addProduct(product);
-        productRepository.save(product);
+        existentProduct = productRepository.save(product);
         manufacturerRepository.save(manufacturer);
     }
 
@@ -85,4 +95,28 @@ class UniqueNameProductValidatorTest {
     void testValidator_withNonExistentName() {
         assertDoesNotThrow(() -> validator.validate("random"));
     }
+
+    @Test
+    void testSave_withNameTakenAfterValidation() {
+        Product duplicate = productUtils.getProductInstance(
+            priceUtils.getPriceInstance(),
+            stockUtils.getStockInstance(),
+            existentProduct.getCategory(),
+            existentProduct.getManufacturer());
+        ReflectionTestUtils.setField(duplicate, "name", existentName);
+
+        assertThrows(IllegalArgumentException.class, () -> validator.save(() -> productRepository.save(duplicate)));
+    }
+
+    @Test
+    void testSave_withOtherIntegrityViolation() {
+        Product tooLong = productUtils.getProductInstance(
+            priceUtils.getPriceInstance(),
+            stockUtils.getStockInstance(),
+            existentProduct.getCategory(),
+            existentProduct.getManufacturer());
+        ReflectionTestUtils.setField(tooLong, "name", "n".repeat(101));
+
+        assertThrows(DataIntegrityViolationException.class, () -> validator.save(() -> productRepository.save(tooLong)));
+    }
 }
\ No newline at end of file
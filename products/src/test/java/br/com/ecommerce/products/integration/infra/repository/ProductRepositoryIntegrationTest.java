@@ -3,7 +3,10 @@ package br.com.ecommerce.products.integration.infra.repository;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
 import java.math.BigDecimal;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 
@@ -298,4 +301,46 @@ class ProductRepositoryIntegrationTest {
         // assert
         assertEquals(1, sizeResult);
     }
+
+    @Test
+    @DisplayName("Integration - expirePromotions - Must only end the promotions whose end date has passed")
+    void expirePromotionsTest01() {
+        // arrange
+        LocalDateTime now = LocalDateTime.now();
+        Product expired = this.saveProductOnPromotionUntil(now.minusMinutes(1));
+        Product extended = this.saveProductOnPromotionUntil(now.plusDays(1));
+
+        // act
+        int result = productRepository.expirePromotions(List.of(expired.getId(), extended.getId()), now);
+
+        // assert
+        assertEquals(1, result);
+    }
+
+    @Test
+    @DisplayName("Integration - applyStockDeltas - Must record the journal segments with the applied units")
+    void applyStockDeltasTest01() {
+        // arrange
+        Product product = productsPersisted.get(0);
+        Integer unitBefore = product.getStock().getUnit();
+
+        // act
+        productRepository.applyStockDeltas(Map.of(product.getId(), 2L), List.of("segment-1", "segment-2"));
+
+        // assert
+        var units = productRepository.findAllUnitsByIdIn(List.of(product.getId()));
+        assertEquals(unitBefore - 2, units.get(0).getUnit());
+        assertEquals(Set.of("segment-1"), productRepository.findAppliedSegments(List.of("segment-1", "segment-3")));
+
+        productRepository.deleteAppliedSegments(List.of("segment-1", "segment-2"));
+        assertEquals(Set.of(), productRepository.findAppliedSegments(List.of("segment-1", "segment-2")));
+    }
+
+    private Product saveProductOnPromotionUntil(LocalDateTime endOfPromotion) {
+        Price price = priceUtils.getPriceInstance();
+        ReflectionTestUtils.setField(price, "currentPrice", price.getPromotionalPrice());
+        ReflectionTestUtils.setField(price, "onPromotion", true);
+        ReflectionTestUtils.setField(price, "endOfPromotion", endOfPromotion);
+        return productRepository.saveAndFlush(productUtils.getProductInstance(price, stock, category, manufacturer));
+    }
 }
\ No newline at end of file
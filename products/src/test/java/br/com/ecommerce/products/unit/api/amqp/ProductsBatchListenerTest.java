@@ -0,0 +1,113 @@
+package br.com.ecommerce.products.unit.api.amqp;
+
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.dao.QueryTimeoutException;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.rabbitmq.client.Channel;
+
+import br.com.ecommerce.products.api.amqp.ProductsBatchListener;
+import br.com.ecommerce.products.business.service.ProductService;
+import jakarta.validation.Validation;
+
+@ExtendWith(MockitoExtension.class)
+class ProductsBatchListenerTest {
+
+    @Mock
+    private ProductService service;
+    @Mock
+    private Channel channel;
+
+    private ProductsBatchListener listener;
+
+
+    @BeforeEach
+    void setup() {
+        listener = new ProductsBatchListener(
+            service,
+            new ObjectMapper(),
+            Validation.buildDefaultValidatorFactory().getValidator());
+    }
+
+    @Test
+    @DisplayName("Unit - receiveQueueMessagesOrder - Must apply the batch at once and acknowledge every message")
+    void receiveQueueMessagesOrderTest01() throws IOException {
+        // arrange
+        List<Message> messages = List.of(
+            message(1, "[{\"productId\": 1, \"unit\": -2}]"),
+            message(2, "[{\"productId\": 2, \"unit\": -3}, {\"productId\": 1, \"unit\": -1}]"));
+
+        // act
+        listener.receiveQueueMessagesOrder(messages, channel);
+
+        // assert
+        verify(service).updateStocksInBatch(argThat(batch -> batch.size() == 2 && batch.get(1).size() == 2));
+        verify(service, never()).updateStocks(anyList());
+        verify(channel).basicAck(1, false);
+        verify(channel).basicAck(2, false);
+    }
+
+    @Test
+    @DisplayName("Unit - receiveQueueMessagesOrder - Must reject invalid messages without requeue")
+    void receiveQueueMessagesOrderTest02() throws IOException {
+        // arrange
+        List<Message> messages = List.of(
+            message(1, "not json"),
+            message(2, "[{\"productId\": null, \"unit\": -3}]"),
+            message(3, "[{\"productId\": 3, \"unit\": -3}]"));
+
+        // act
+        listener.receiveQueueMessagesOrder(messages, channel);
+
+        // assert
+        verify(channel).basicReject(1, false);
+        verify(channel).basicReject(2, false);
+        verify(service).updateStocksInBatch(argThat(batch -> batch.size() == 1));
+        verify(channel).basicAck(3, false);
+    }
+
+    @Test
+    @DisplayName("Unit - receiveQueueMessagesOrder - Must apply the messages one by one when the batch fails")
+    void receiveQueueMessagesOrderTest03() throws IOException {
+        // arrange
+        List<Message> messages = List.of(
+            message(1, "[{\"productId\": 1, \"unit\": -2}]"),
+            message(2, "[{\"productId\": 2, \"unit\": -3}]"));
+        when(service.updateStocksInBatch(anyList()))
+            .thenThrow(new QueryTimeoutException("timeout"));
+        when(service.updateStocks(anyList()))
+            .thenReturn(List.of())
+            .thenThrow(new QueryTimeoutException("timeout"));
+
+        // act
+        listener.receiveQueueMessagesOrder(messages, channel);
+
+        // assert
+        verify(channel).basicAck(1, false);
+        verify(channel).basicNack(2, false, true);
+        verify(channel, never()).basicAck(2, false);
+    }
+
+    private static Message message(long deliveryTag, String body) {
+        MessageProperties properties = new MessageProperties();
+        properties.setDeliveryTag(deliveryTag);
+        return new Message(body.getBytes(StandardCharsets.UTF_8), properties);
+    }
+}
\ No newline at end of file
@@ -8,6 +8,7 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.util.Optional;
+import java.util.function.Supplier;
 
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -22,7 +23,9 @@ import br.com.ecommerce.products.api.dto.category.SimpleDataCategoryDTO;
 import br.com.ecommerce.products.api.dto.category.UpdateCategoryDTO;
 import br.com.ecommerce.products.api.mapper.CategoryMapper;
 import br.com.ecommerce.products.business.service.CategoryService;
+import br.com.ecommerce.products.business.service.DepartmentTreeService;
 import br.com.ecommerce.products.business.validator.UniqueNameCategoryValidator;
+import br.com.ecommerce.products.infra.cache.ProductDetailCache;
 import br.com.ecommerce.products.infra.entity.category.Category;
 import br.com.ecommerce.products.infra.exception.exceptions.CategoryNotFoundException;
 import br.com.ecommerce.products.infra.repository.CategoryRepository;
@@ -44,6 +47,10 @@ class CategoryServiceUnitTest {
     private CategoryMapper mapper;
     @Mock
     private UniqueNameCategoryValidator uniqueNameCategoryValidator;
+    @Mock
+    private ProductDetailCache detailCache;
+    @Mock
+    private DepartmentTreeService treeService;
 
     @InjectMocks
     private CategoryService service;
@@ -73,6 +80,8 @@ class CategoryServiceUnitTest {
 
         when(repository.save(eq(target)))
             .thenReturn(target);
+        when(uniqueNameCategoryValidator.save(any()))
+            .thenAnswer(invocation -> invocation.getArgument(0, Supplier.class).get());
 
         var response = new SimpleDataCategoryDTO(1L, newName);
         when(mapper.toSimpleDataCategoryDTO(eq(target)))
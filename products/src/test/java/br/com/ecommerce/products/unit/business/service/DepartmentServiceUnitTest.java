@@ -8,6 +8,7 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.util.Optional;
+import java.util.function.Supplier;
 
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -23,6 +24,7 @@ import br.com.ecommerce.products.api.dto.department.UpdateDepartmentoDTO;
 import br.com.ecommerce.products.api.mapper.CategoryMapper;
 import br.com.ecommerce.products.api.mapper.DepartmentMapper;
 import br.com.ecommerce.products.business.service.DepartmentService;
+import br.com.ecommerce.products.business.service.DepartmentTreeService;
 import br.com.ecommerce.products.business.validator.UniqueNameDepartmentValidator;
 import br.com.ecommerce.products.infra.entity.department.Department;
 import br.com.ecommerce.products.infra.exception.exceptions.DepartmentNotFoundException;
@@ -44,6 +46,8 @@ class DepartmentServiceUnitTest {
     private DepartmentMapper departmentMapper;
     @Mock
     private UniqueNameDepartmentValidator uniqueNameDepartmentValidator;
+    @Mock
+    private DepartmentTreeService treeService;
 
     @InjectMocks
     private DepartmentService service;
@@ -73,6 +77,8 @@ class DepartmentServiceUnitTest {
 
         when(repository.save(eq(target)))
             .thenReturn(target);
+        when(uniqueNameDepartmentValidator.save(any()))
+            .thenAnswer(invocation -> invocation.getArgument(0, Supplier.class).get());
 
         var response = new SimpleDataDepartmentDTO(1L, newName);
         when(departmentMapper.toSimpleDataDepartmentDTO(eq(target)))
@@ -0,0 +1,87 @@
+package br.com.ecommerce.products.unit.business.service;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import br.com.ecommerce.products.api.dto.department.DepartmentNodeDTO;
+import br.com.ecommerce.products.api.dto.department.DepartmentTreeDTO;
+import br.com.ecommerce.products.business.service.DepartmentTreeService;
+import br.com.ecommerce.products.infra.repository.DepartmentRepository;
+import br.com.ecommerce.products.infra.repository.DepartmentTreeRow;
+
+@ExtendWith(MockitoExtension.class)
+class DepartmentTreeServiceUnitTest {
+
+    @Mock
+    private DepartmentRepository repository;
+
+    @InjectMocks
+    private DepartmentTreeService service;
+
+
+    @Test
+    @DisplayName("Unit - rebuild - Must group categories by department and sum their products")
+    void rebuildTest01() {
+        // arrange
+        when(repository.findAllTreeRows()).thenReturn(List.of(
+            row(1L, "ELECTRONICS", 10L, "NOTEBOOKS", 3L),
+            row(1L, "ELECTRONICS", 11L, "PHONES", 2L),
+            row(2L, "GARDEN", null, null, 0L)));
+
+        // act
+        DepartmentTreeDTO result = service.rebuild();
+
+        // assert
+        DepartmentNodeDTO electronics = result.getDepartments().get(0);
+        DepartmentNodeDTO garden = result.getDepartments().get(1);
+        assertAll(
+            () -> assertEquals(1L, result.getVersion()),
+            () -> assertEquals(2, electronics.getCategories().size()),
+            () -> assertEquals(5L, electronics.getProductCount()),
+            () -> assertEquals("PHONES", electronics.getCategories().get(1).getName()),
+            () -> assertEquals(0, garden.getCategories().size()),
+            () -> assertEquals(0L, garden.getProductCount())
+        );
+    }
+
+    @Test
+    @DisplayName("Unit - getTree - Must serve the current snapshot without querying again")
+    void getTreeTest01() {
+        // arrange
+        when(repository.findAllTreeRows()).thenReturn(List.of());
+
+        // act
+        DepartmentTreeDTO first = service.getTree();
+        DepartmentTreeDTO second = service.getTree();
+        DepartmentTreeDTO rebuilt = service.rebuild();
+
+        // assert
+        assertSame(first, second);
+        assertEquals(2L, rebuilt.getVersion());
+        assertSame(rebuilt, service.getTree());
+        verify(repository, times(2)).findAllTreeRows();
+    }
+
+    private static DepartmentTreeRow row(Long departmentId, String departmentName, Long categoryId, String categoryName, Long total) {
+        return new DepartmentTreeRow() {
+            public Long getDepartmentId() { return departmentId; }
+            public String getDepartmentName() { return departmentName; }
+            public Long getCategoryId() { return categoryId; }
+            public String getCategoryName() { return categoryName; }
+            public Long getTotal() { return total; }
+        };
+    }
+}
\ No newline at end of file
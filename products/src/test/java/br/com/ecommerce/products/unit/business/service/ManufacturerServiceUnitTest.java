@@ -8,6 +8,7 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.util.Optional;
+import java.util.function.Supplier;
 
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -24,6 +25,7 @@ import br.com.ecommerce.products.api.mapper.AddressMapper;
 import br.com.ecommerce.products.api.mapper.ManufacturerMapper;
 import br.com.ecommerce.products.business.service.ManufacturerService;
 import br.com.ecommerce.products.business.validator.UniqueNameManufacturerValidator;
+import br.com.ecommerce.products.infra.cache.ProductDetailCache;
 import br.com.ecommerce.products.infra.entity.manufacturer.Manufacturer;
 import br.com.ecommerce.products.infra.entity.tools.factory.PhoneFactory;
 import br.com.ecommerce.products.infra.exception.exceptions.ManufacturerNotFoundException;
@@ -47,6 +49,8 @@ class ManufacturerServiceUnitTest {
     private AddressMapper addressMapperMock;
     @Mock
     private UniqueNameManufacturerValidator uniqueNameValidatorMock;
+    @Mock
+    private ProductDetailCache detailCacheMock;
 
     @InjectMocks
     private ManufacturerService service;
@@ -82,6 +86,8 @@ class ManufacturerServiceUnitTest {
 
         when(repositoryMock.save(eq(target)))
             .thenReturn(target);
+        when(uniqueNameValidatorMock.save(any()))
+            .thenAnswer(invocation -> invocation.getArgument(0, Supplier.class).get());
 
         var response = new DataManufacturerDTO(
             null, newName, null, null, null, null);
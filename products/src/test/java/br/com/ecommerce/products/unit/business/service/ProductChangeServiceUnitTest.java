@@ -0,0 +1,148 @@
+package br.com.ecommerce.products.unit.business.service;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+
+import br.com.ecommerce.products.api.amqp.ProductChangePublisher;
+import br.com.ecommerce.products.api.dto.product.InternalProductDataDTO;
+import br.com.ecommerce.products.api.dto.product.ProductChangesDTO;
+import br.com.ecommerce.products.api.mapper.ProductMapper;
+import br.com.ecommerce.products.business.service.ProductChangeService;
+import br.com.ecommerce.products.infra.entity.product.Product;
+import br.com.ecommerce.products.infra.exception.exceptions.ChangeFeedExpiredException;
+import br.com.ecommerce.products.infra.repository.ProductChangeRepository;
+import br.com.ecommerce.products.infra.repository.ProductChangeSeq;
+import br.com.ecommerce.products.infra.repository.ProductRepository;
+
+@ExtendWith(MockitoExtension.class)
+class ProductChangeServiceUnitTest {
+
+    @Mock
+    private ProductChangeRepository changeRepository;
+    @Mock
+    private ProductRepository productRepository;
+    @Mock
+    private ProductMapper productMapper;
+    @Mock
+    private ObjectProvider<ProductChangePublisher> publisher;
+
+    private ProductChangeService service;
+
+
+    @BeforeEach
+    void setup() {
+        service = new ProductChangeService(changeRepository, productRepository, productMapper, publisher, 0, 7);
+    }
+
+    @Test
+    @DisplayName("Unit - record - Must not write when there is no product")
+    void recordTest01() {
+        // act
+        service.record(List.of());
+
+        // assert
+        verifyNoInteractions(changeRepository, publisher);
+    }
+
+    @Test
+    @DisplayName("Unit - getChanges - Must return the last sequence when no sequence is given")
+    void getChangesTest01() {
+        // arrange
+        when(changeRepository.findLastSeq(any())).thenReturn(42L);
+
+        // act
+        ProductChangesDTO result = service.getChanges(null, 10);
+
+        // assert
+        assertAll(
+            () -> assertTrue(result.getChanges().isEmpty()),
+            () -> assertEquals(42L, result.getLastSeq()),
+            () -> assertFalse(result.isHasNext())
+        );
+        verify(changeRepository, never()).findAllLatestAfter(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("Unit - getChanges - Must fail when changes after the sequence were purged")
+    void getChangesTest02() {
+        // arrange
+        when(changeRepository.findFirstSeq()).thenReturn(100L);
+
+        // act and assert
+        assertThrows(ChangeFeedExpiredException.class, () -> service.getChanges(50L, 10));
+    }
+
+    @Test
+    @DisplayName("Unit - getChanges - Must return a page of the current data of the changed products")
+    void getChangesTest03() {
+        // arrange
+        when(changeRepository.findFirstSeq()).thenReturn(100L);
+        when(changeRepository.findAllLatestAfter(eq(99L), any(), any()))
+            .thenReturn(List.of(change(1L, 101L), change(2L, 105L), change(3L, 110L)));
+        Product first = mock(Product.class);
+        Product second = mock(Product.class);
+        when(first.getId()).thenReturn(1L);
+        when(second.getId()).thenReturn(2L);
+        when(productRepository.findAllById(Set.of(1L, 2L))).thenReturn(List.of(first, second));
+        when(productMapper.toInternalProductDataDTO(first))
+            .thenReturn(new InternalProductDataDTO("first", BigDecimal.TEN, "first.png"));
+        when(productMapper.toInternalProductDataDTO(second))
+            .thenReturn(new InternalProductDataDTO("second", BigDecimal.ONE, "second.png"));
+
+        // act
+        ProductChangesDTO result = service.getChanges(99L, 2);
+
+        // assert
+        assertAll(
+            () -> assertEquals(2, result.getChanges().size()),
+            () -> assertEquals(1L, result.getChanges().get(0).getProductId()),
+            () -> assertEquals(BigDecimal.TEN, result.getChanges().get(0).getPrice()),
+            () -> assertEquals(105L, result.getChanges().get(1).getSeq()),
+            () -> assertEquals(105L, result.getLastSeq()),
+            () -> assertTrue(result.isHasNext())
+        );
+    }
+
+    @Test
+    @DisplayName("Unit - purgeChanges - Must keep the last change")
+    void purgeChangesTest01() {
+        // arrange
+        when(changeRepository.findLastSeq()).thenReturn(500L);
+        when(changeRepository.deleteAllChangedBeforeAndSeqLessThan(any(), eq(500L))).thenReturn(499);
+
+        // act
+        int result = service.purgeChanges();
+
+        // assert
+        assertEquals(499, result);
+    }
+
+    private static ProductChangeSeq change(Long productId, Long seq) {
+        return new ProductChangeSeq() {
+            public Long getProductId() { return productId; }
+            public Long getSeq() { return seq; }
+        };
+    }
+}
\ No newline at end of file
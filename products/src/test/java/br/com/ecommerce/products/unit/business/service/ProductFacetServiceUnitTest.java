@@ -0,0 +1,175 @@
+package br.com.ecommerce.products.unit.business.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import br.com.ecommerce.products.api.dto.product.FacetCountDTO;
+import br.com.ecommerce.products.api.dto.product.ProductFacetsDTO;
+import br.com.ecommerce.products.business.service.ProductFacetService;
+import br.com.ecommerce.products.infra.repository.ProductFacetRow;
+import br.com.ecommerce.products.infra.repository.ProductRepository;
+import br.com.ecommerce.products.infra.search.ProductNameIndex;
+
+@ExtendWith(MockitoExtension.class)
+class ProductFacetServiceUnitTest {
+
+    private final List<ProductFacetRow> rows = List.of(
+        new Row(1L, "TVS", 10L, "ACME", BigDecimal.valueOf(40), 2L),
+        new Row(1L, "TVS", 20L, "GLOBEX", BigDecimal.valueOf(100), 1L),
+        new Row(2L, "PHONES", 10L, "ACME", BigDecimal.valueOf(150), 3L),
+        new Row(2L, "PHONES", 20L, "GLOBEX", BigDecimal.valueOf(500), 4L));
+
+    @Mock
+    private ProductRepository repositoryMock;
+    @Mock
+    private ProductNameIndex nameIndexMock;
+
+    private ProductFacetService service;
+
+
+    @BeforeEach
+    void setup() {
+        BigDecimal[] bounds = {BigDecimal.valueOf(500), BigDecimal.valueOf(100), BigDecimal.valueOf(100)};
+        service = new ProductFacetService(repositoryMock, nameIndexMock, bounds);
+    }
+
+    @Test
+    @DisplayName("Unit - getFacets - Must count every facet when there are no filters")
+    void getFacetsTest01() {
+        // arrange
+        when(repositoryMock.findAllFacetRowsByName(null)).thenReturn(rows);
+
+        // act
+        ProductFacetsDTO result = service.getFacets(null, null, null, null, null);
+
+        // assert
+        assertFacet(result.getCategories().get(0), 2L, 7);
+        assertFacet(result.getCategories().get(1), 1L, 3);
+        assertFacet(result.getManufacturers().get(0), 10L, 5);
+        assertFacet(result.getManufacturers().get(1), 20L, 5);
+
+        var prices = result.getPrices();
+        assertEquals(3, prices.size());
+        assertEquals(BigDecimal.ZERO, prices.get(0).getMinPrice());
+        assertEquals(BigDecimal.valueOf(100), prices.get(0).getMaxPrice());
+        assertEquals(2, prices.get(0).getCount());
+        assertEquals(4, prices.get(1).getCount());
+        assertEquals(BigDecimal.valueOf(500), prices.get(2).getMinPrice());
+        assertNull(prices.get(2).getMaxPrice());
+        assertEquals(4, prices.get(2).getCount());
+    }
+
+    @Test
+    @DisplayName("Unit - getFacets - Must count each facet with the filters of the other facets only")
+    void getFacetsTest02() {
+        // arrange
+        when(repositoryMock.findAllFacetRowsByName(null)).thenReturn(rows);
+
+        // act
+        ProductFacetsDTO result = service.getFacets(null, "phones", null, BigDecimal.valueOf(200), "acme");
+
+        // assert
+        assertEquals(2, result.getCategories().size());
+        assertFacet(result.getCategories().get(0), 2L, 3);
+        assertFacet(result.getCategories().get(1), 1L, 2);
+
+        assertEquals(1, result.getManufacturers().size());
+        assertFacet(result.getManufacturers().get(0), 10L, 3);
+
+        assertEquals(0, result.getPrices().get(0).getCount());
+        assertEquals(3, result.getPrices().get(1).getCount());
+        assertEquals(0, result.getPrices().get(2).getCount());
+    }
+
+    @Test
+    @DisplayName("Unit - getFacets - Must count the candidates of the name index")
+    void getFacetsTest03() {
+        // arrange
+        when(nameIndexMock.supports("phone")).thenReturn(true);
+        when(nameIndexMock.search("phone")).thenReturn(List.of(3L, 4L));
+        when(repositoryMock.findAllFacetRowsByIdIn(List.of(3L, 4L))).thenReturn(rows.subList(2, 4));
+
+        // act
+        ProductFacetsDTO result = service.getFacets("phone", null, null, null, null);
+
+        // assert
+        assertEquals(1, result.getCategories().size());
+        assertFacet(result.getCategories().get(0), 2L, 7);
+        verify(repositoryMock, never()).findAllFacetRowsByName(any());
+    }
+
+    @Test
+    @DisplayName("Unit - getFacets - Must not query when the name index has no candidates")
+    void getFacetsTest04() {
+        // arrange
+        when(nameIndexMock.supports("nothing")).thenReturn(true);
+        when(nameIndexMock.search("nothing")).thenReturn(List.of());
+
+        // act
+        ProductFacetsDTO result = service.getFacets("nothing", null, null, null, null);
+
+        // assert
+        assertTrue(result.getCategories().isEmpty());
+        assertTrue(result.getManufacturers().isEmpty());
+        assertTrue(result.getPrices().stream().allMatch(range -> range.getCount() == 0));
+        verify(repositoryMock, never()).findAllFacetRowsByIdIn(any());
+    }
+
+    @Test
+    @DisplayName("Unit - getFacets - Must leave products without price out of the price filter and ranges")
+    void getFacetsTest05() {
+        // arrange
+        List<ProductFacetRow> withUnpriced = List.of(
+            rows.get(0),
+            new Row(1L, "TVS", 30L, "INITECH", null, 5L));
+        when(repositoryMock.findAllFacetRowsByName(null)).thenReturn(withUnpriced);
+
+        // act
+        ProductFacetsDTO unfiltered = service.getFacets(null, null, null, null, null);
+        ProductFacetsDTO filtered = service.getFacets(null, null, BigDecimal.ONE, null, null);
+
+        // assert
+        assertFacet(unfiltered.getCategories().get(0), 1L, 7);
+        assertEquals(2, unfiltered.getManufacturers().size());
+        assertEquals(2, unfiltered.getPrices().stream().mapToLong(range -> range.getCount()).sum());
+        assertFacet(filtered.getCategories().get(0), 1L, 2);
+        assertEquals(1, filtered.getManufacturers().size());
+    }
+
+    private static void assertFacet(FacetCountDTO facet, Long expectedId, long expectedCount) {
+        assertEquals(expectedId, facet.getId());
+        assertEquals(expectedCount, facet.getCount());
+    }
+
+    private record Row(
+        Long categoryId,
+        String categoryName,
+        Long manufacturerId,
+        String manufacturerName,
+        BigDecimal price,
+        Long total
+    ) implements ProductFacetRow {
+
+        public Long getCategoryId() { return categoryId; }
+        public String getCategoryName() { return categoryName; }
+        public Long getManufacturerId() { return manufacturerId; }
+        public String getManufacturerName() { return manufacturerName; }
+        public BigDecimal getPrice() { return price; }
+        public Long getTotal() { return total; }
+    }
+}
\ No newline at end of file
@@ -3,10 +3,13 @@ package br.com.ecommerce.products.unit.business.service;
 import static org.junit.jupiter.api.Assertions.assertAll;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -14,6 +17,8 @@ import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Supplier;
 
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -26,6 +31,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 
 import br.com.ecommerce.products.api.dto.product.CompletePriceDataDTO;
 import br.com.ecommerce.products.api.dto.product.DataStockDTO;
+import br.com.ecommerce.products.api.dto.product.ProductUnitsRequestedDTO;
 import br.com.ecommerce.products.api.dto.product.StockWriteOffDTO;
 import br.com.ecommerce.products.api.dto.product.UpdatePriceDTO;
 import br.com.ecommerce.products.api.dto.product.UpdateProductDTO;
@@ -37,8 +43,11 @@ import br.com.ecommerce.products.api.mapper.PriceMapper;
 import br.com.ecommerce.products.api.mapper.ProductMapper;
 import br.com.ecommerce.products.api.mapper.StockMapper;
 import br.com.ecommerce.products.business.service.PriceJobService;
+import br.com.ecommerce.products.business.service.ProductChangeService;
 import br.com.ecommerce.products.business.service.ProductService;
 import br.com.ecommerce.products.business.validator.UniqueNameProductValidator;
+import br.com.ecommerce.products.infra.cache.ProductDetailCache;
+import br.com.ecommerce.products.infra.cache.ProductPriceCache;
 import br.com.ecommerce.products.infra.entity.product.Price;
 import br.com.ecommerce.products.infra.entity.product.Product;
 import br.com.ecommerce.products.infra.entity.product.Stock;
@@ -46,6 +55,10 @@ import br.com.ecommerce.products.infra.exception.exceptions.ProductNotFoundExcep
 import br.com.ecommerce.products.infra.repository.CategoryRepository;
 import br.com.ecommerce.products.infra.repository.ManufacturerRepository;
 import br.com.ecommerce.products.infra.repository.ProductRepository;
+import br.com.ecommerce.products.infra.repository.ProductUnit;
+import br.com.ecommerce.products.infra.search.ProductNameIndex;
+import br.com.ecommerce.products.infra.search.ProductNameSuggester;
+import br.com.ecommerce.products.infra.stock.StockWriteBehindBuffer;
 import br.com.ecommerce.products.utils.builder.ProductTestBuilder;
 
 @ExtendWith(MockitoExtension.class)
@@ -65,6 +78,8 @@ class ProductServiceUnitTest {
     @Mock
     private PriceJobService job;
     @Mock
+    private ProductChangeService changeService;
+    @Mock
     private PriceMapper priceMapper;
     @Mock
     private StockMapper stockMapper;
@@ -78,11 +93,24 @@ class ProductServiceUnitTest {
     @Mock
     private UniqueNameProductValidator uniqueNameValidator;
 
+    @Mock
+    private ProductPriceCache priceCache;
+    @Mock
+    private ProductDetailCache detailCache;
+    @Mock
+    private ProductNameIndex nameIndex;
+    @Mock
+    private ProductNameSuggester suggester;
+    @Mock
+    private StockWriteBehindBuffer stockBuffer;
+
     @InjectMocks
     private ProductService service;
 
     @Captor
     private ArgumentCaptor<Product> productCaptor;
+    @Captor
+    private ArgumentCaptor<List<ProductUnitsRequestedDTO>> linesCaptor;
 
 
     @Test
@@ -105,6 +133,8 @@ class ProductServiceUnitTest {
 
         when(repository.save(any()))
             .thenReturn(target);
+        when(uniqueNameValidator.save(any()))
+            .thenAnswer(invocation -> invocation.getArgument(0, Supplier.class).get());
 
         UpdateProductResponseDTO response = new UpdateProductResponseDTO(
             null, requestBody.getName(), null, null);
@@ -288,32 +318,173 @@ class ProductServiceUnitTest {
     }
 
     @Test
-    @DisplayName("Unit - updateStocks - Must update stocks of multiple products")
-    void updateStocksTes01() {
+    @DisplayName("Unit - checkWichProductsExceedsStock - Must compare the added up units with the stock without reserving it")
+    void checkWichProductsExceedsStockTest01() {
         // arrange
-        List<Product> products = List.of(
-            new ProductTestBuilder().id(1L).stock(new Stock(100)).build(),
-            new ProductTestBuilder().id(2L).stock(new Stock(200)).build(),
-            new ProductTestBuilder().id(3L).stock(new Stock(300)).build()
-        );
+        List<ProductUnitsRequestedDTO> lines = List.of(
+            new ProductUnitsRequestedDTO(1L, 6),
+            new ProductUnitsRequestedDTO(2L, 5),
+            new ProductUnitsRequestedDTO(1L, 5));
+        Product exceeding = new ProductTestBuilder().id(1L).build();
+        when(repository.findAllUnitsByIdIn(Set.of(1L, 2L))).thenReturn(List.of(unit(1L, 10), unit(2L, 5)));
+        when(repository.findAllById(List.of(1L))).thenReturn(List.of(exceeding));
 
+        // act
+        var result = service.checkWichProductsExceedsStock(lines);
+
+        // assert
+        assertEquals(List.of(exceeding), result);
+        verify(repository, never()).reserveStocks(anyList());
+    }
+
+    @Test
+    @DisplayName("Unit - updateStocks - Must reserve the write-off units of multiple products")
+    void updateStocksTes01() {
+        // arrange
         List<StockWriteOffDTO> stockWriteOff = List.of(
             new StockWriteOffDTO(1L, 100),
             new StockWriteOffDTO(2L, 200),
             new StockWriteOffDTO(3L, 300)
         );
 
-        when(repository.findAllById(anyList()))
-            .thenReturn(products);
+        when(repository.reserveStocks(anyList()))
+            .thenReturn(List.of());
 
         // act
-        service.updateStocks(stockWriteOff);
+        var result = service.updateStocks(stockWriteOff);
 
         // assert
+        verify(repository).reserveStocks(linesCaptor.capture());
+        List<ProductUnitsRequestedDTO> lines = linesCaptor.getValue();
         assertAll(
-            () -> assertEquals(0, products.get(0).getStock().getUnit()),
-            () -> assertEquals(0, products.get(1).getStock().getUnit()),
-            () -> assertEquals(0, products.get(2).getStock().getUnit())
+            () -> assertTrue(result.isEmpty()),
+            () -> assertEquals(3, lines.size()),
+            () -> assertEquals(1L, lines.get(0).getId()),
+            () -> assertEquals(100, lines.get(0).getUnit()),
+            () -> assertEquals(300, lines.get(2).getUnit())
         );
     }
+
+    @Test
+    @DisplayName("Unit - updateStocks - Must return the lines that could not be reserved")
+    void updateStocksTes02() {
+        // arrange
+        List<StockWriteOffDTO> stockWriteOff = List.of(
+            new StockWriteOffDTO(1L, 100),
+            new StockWriteOffDTO(2L, 200)
+        );
+        ProductUnitsRequestedDTO rejected = new ProductUnitsRequestedDTO(2L, 200);
+
+        when(repository.reserveStocks(anyList()))
+            .thenReturn(List.of(rejected));
+
+        // act
+        var result = service.updateStocks(stockWriteOff);
+
+        // assert
+        assertEquals(List.of(rejected), result);
+    }
+
+    @Test
+    @DisplayName("Unit - updateStocksInBatch - Must reserve the sum of the write-offs of each product")
+    void updateStocksInBatchTest01() {
+        // arrange
+        List<List<StockWriteOffDTO>> messages = List.of(
+            List.of(new StockWriteOffDTO(1L, 100), new StockWriteOffDTO(2L, 200)),
+            List.of(new StockWriteOffDTO(1L, 50))
+        );
+        when(repository.reserveStocks(anyList()))
+            .thenReturn(List.of());
+
+        // act
+        var result = service.updateStocksInBatch(messages);
+
+        // assert
+        verify(repository, times(2)).reserveStocks(linesCaptor.capture());
+        List<ProductUnitsRequestedDTO> sums = linesCaptor.getAllValues().get(0);
+        assertAll(
+            () -> assertTrue(result.isEmpty()),
+            () -> assertEquals(2, sums.size()),
+            () -> assertEquals(1L, sums.get(0).getId()),
+            () -> assertEquals(150, sums.get(0).getUnit()),
+            () -> assertEquals(200, sums.get(1).getUnit()),
+            () -> assertTrue(linesCaptor.getAllValues().get(1).isEmpty())
+        );
+    }
+
+    @Test
+    @DisplayName("Unit - updateStocksInBatch - Must reserve the write-offs one by one when their sum is rejected")
+    void updateStocksInBatchTest02() {
+        // arrange
+        List<List<StockWriteOffDTO>> messages = List.of(
+            List.of(new StockWriteOffDTO(1L, 100), new StockWriteOffDTO(2L, 200)),
+            List.of(new StockWriteOffDTO(1L, 50))
+        );
+        ProductUnitsRequestedDTO rejected = new ProductUnitsRequestedDTO(1L, 100);
+        when(repository.reserveStocks(anyList()))
+            .thenReturn(List.of(new ProductUnitsRequestedDTO(1L, 150)))
+            .thenReturn(List.of(rejected));
+
+        // act
+        var result = service.updateStocksInBatch(messages);
+
+        // assert
+        verify(repository, times(2)).reserveStocks(linesCaptor.capture());
+        List<ProductUnitsRequestedDTO> oneByOne = linesCaptor.getAllValues().get(1);
+        assertAll(
+            () -> assertEquals(List.of(rejected), result),
+            () -> assertEquals(2, oneByOne.size()),
+            () -> assertEquals(100, oneByOne.get(0).getUnit()),
+            () -> assertEquals(50, oneByOne.get(1).getUnit())
+        );
+    }
+
+    @Test
+    @DisplayName("Unit - updateStocksInBatch - Must not sum the write-offs of a product that also returns units")
+    void updateStocksInBatchTest03() {
+        // arrange
+        List<List<StockWriteOffDTO>> messages = List.of(
+            List.of(new StockWriteOffDTO(1L, 100), new StockWriteOffDTO(2L, 200)),
+            List.of(new StockWriteOffDTO(1L, -30))
+        );
+        when(repository.reserveStocks(anyList()))
+            .thenReturn(List.of());
+
+        // act
+        service.updateStocksInBatch(messages);
+
+        // assert
+        verify(repository, times(2)).reserveStocks(linesCaptor.capture());
+        List<ProductUnitsRequestedDTO> sums = linesCaptor.getAllValues().get(0);
+        List<ProductUnitsRequestedDTO> oneByOne = linesCaptor.getAllValues().get(1);
+        assertAll(
+            () -> assertEquals(1, sums.size()),
+            () -> assertEquals(2L, sums.get(0).getId()),
+            () -> assertEquals(2, oneByOne.size()),
+            () -> assertEquals(100, oneByOne.get(0).getUnit()),
+            () -> assertEquals(-30, oneByOne.get(1).getUnit())
+        );
+    }
+
+    @Test
+    @DisplayName("Unit - findMissingProducts - Must return only the ids not found in a single query")
+    void findMissingProductsTest01() {
+        // arrange
+        when(repository.findAllIdsByIdIn(Set.of(1L, 2L, 3L)))
+            .thenReturn(Set.of(1L, 3L));
+
+        // act
+        Set<Long> result = service.findMissingProducts(Set.of(1L, 2L, 3L));
+
+        // assert
+        assertEquals(Set.of(2L), result);
+        verify(repository, times(1)).findAllIdsByIdIn(any());
+    }
+
+    private static ProductUnit unit(Long id, Integer unit) {
+        return new ProductUnit() {
+            public Long getId() { return id; }
+            public Integer getUnit() { return unit; }
+        };
+    }
 }
\ No newline at end of file
@@ -0,0 +1,79 @@
+package br.com.ecommerce.products.unit.business.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.stream.LongStream;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import br.com.ecommerce.products.business.service.ProductChangeService;
+import br.com.ecommerce.products.business.service.PromotionRescanService;
+import br.com.ecommerce.products.infra.cache.ProductDetailCache;
+import br.com.ecommerce.products.infra.cache.ProductPriceCache;
+import br.com.ecommerce.products.infra.repository.ProductRepository;
+
+@ExtendWith(MockitoExtension.class)
+class PromotionRescanServiceUnitTest {
+
+    @Mock
+    private ProductRepository repository;
+    @Mock
+    private ProductPriceCache priceCache;
+    @Mock
+    private ProductDetailCache detailCache;
+    @Mock
+    private ProductChangeService changeService;
+    @InjectMocks
+    private PromotionRescanService service;
+
+
+    @Test
+    @DisplayName("Unit - rescanProductsWithExpiredPromotions - Must expire and evict chunk by chunk")
+    void rescanProductsWithExpiredPromotionsTest01() {
+        // arrange
+        List<Long> firstChunk = LongStream.rangeClosed(1, 500).boxed().toList();
+        List<Long> lastChunk = List.of(501L, 502L);
+        when(repository.findAllIdsWithPromotionEndedAfterId(eq(0L), any(), any()))
+            .thenReturn(firstChunk);
+        when(repository.findAllIdsWithPromotionEndedAfterId(eq(500L), any(), any()))
+            .thenReturn(lastChunk);
+        when(repository.expirePromotions(eq(firstChunk), any())).thenReturn(500);
+        when(repository.expirePromotions(eq(lastChunk), any())).thenReturn(2);
+
+        // act
+        int result = service.rescanProductsWithExpiredPromotions();
+
+        // assert
+        assertEquals(502, result);
+        verify(priceCache).evictAll(firstChunk);
+        verify(priceCache).evictAll(lastChunk);
+        verify(changeService).record(firstChunk);
+        verify(changeService).record(lastChunk);
+    }
+
+    @Test
+    @DisplayName("Unit - rescanProductsWithExpiredPromotions - Must not update anything when no promotion expired")
+    void rescanProductsWithExpiredPromotionsTest02() {
+        // arrange
+        when(repository.findAllIdsWithPromotionEndedAfterId(any(), any(), any()))
+            .thenReturn(List.of());
+
+        // act
+        int result = service.rescanProductsWithExpiredPromotions();
+
+        // assert
+        assertEquals(0, result);
+        verify(repository, never()).expirePromotions(any(), any());
+    }
+}
\ No newline at end of file
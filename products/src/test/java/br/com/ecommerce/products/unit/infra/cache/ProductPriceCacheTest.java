@@ -0,0 +1,78 @@
+package br.com.ecommerce.products.unit.infra.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import br.com.ecommerce.products.api.dto.product.InternalProductDataDTO;
+import br.com.ecommerce.products.infra.cache.ProductPriceCache;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class ProductPriceCacheTest {
+
+    private ProductPriceCache cache;
+    private List<Set<Long>> loaderCalls;
+
+
+    @BeforeEach
+    void setup() {
+        this.cache = new ProductPriceCache(100, 300, new SimpleMeterRegistry());
+        this.loaderCalls = new ArrayList<>();
+    }
+
+    private Map<Long, InternalProductDataDTO> load(Set<Long> ids) {
+        loaderCalls.add(ids);
+        return ids.stream()
+            .filter(id -> id < 100)
+            .collect(Collectors.toMap(id -> id, id -> new InternalProductDataDTO("name" + id, BigDecimal.TEN, null)));
+    }
+
+    @Test
+    @DisplayName("Unit - getAll - Must load only the ids that are not cached")
+    void getAllTest01() {
+        // arrange
+        cache.getAll(Set.of(1L, 2L), this::load);
+
+        // act
+        var result = cache.getAll(Set.of(1L, 2L, 3L), this::load);
+
+        // assert
+        assertEquals(3, result.size());
+        assertEquals(2, loaderCalls.size());
+        assertEquals(Set.of(3L), loaderCalls.get(1));
+        assertEquals(2, cache.stats().hitCount());
+    }
+
+    @Test
+    @DisplayName("Unit - getAll - Must not return ids the loader did not find")
+    void getAllTest02() {
+        // act
+        var result = cache.getAll(Set.of(1L, 500L), this::load);
+
+        // assert
+        assertEquals(Set.of(1L), result.keySet());
+    }
+
+    @Test
+    @DisplayName("Unit - evict - Must reload an evicted id on the next read")
+    void evictTest() {
+        // arrange
+        cache.getAll(Set.of(1L, 2L), this::load);
+
+        // act
+        cache.evict(1L);
+        cache.getAll(Set.of(1L, 2L), this::load);
+
+        // assert
+        assertEquals(Set.of(1L), loaderCalls.get(1));
+    }
+}
\ No newline at end of file
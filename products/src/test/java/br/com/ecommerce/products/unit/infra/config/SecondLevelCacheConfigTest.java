@@ -0,0 +1,51 @@
+package br.com.ecommerce.products.unit.infra.config;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.net.URI;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import javax.cache.CacheManager;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+
+import br.com.ecommerce.products.infra.config.SecondLevelCacheConfig;
+
+class SecondLevelCacheConfigTest {
+
+    private CacheManager cacheManager;
+
+
+    @BeforeEach
+    void setup() {
+        cacheManager = new SecondLevelCacheConfig().hibernateCacheManager(URI.create("classpath:hibernate-cache.conf"));
+    }
+
+    @AfterEach
+    void close() {
+        cacheManager.close();
+    }
+
+    @Test
+    @DisplayName("Unit - hibernateCacheManager - Every entity region must expire after a write")
+    void hibernateCacheManagerTest() {
+        for (String region : List.of("categories", "departments", "department-categories", "manufacturers")) {
+            // act
+            @SuppressWarnings("unchecked")
+            CaffeineConfiguration<Object, Object> configuration = cacheManager
+                .getCache(region)
+                .getConfiguration(CaffeineConfiguration.class);
+
+            // assert
+            assertTrue(configuration.getExpireAfterWrite().isPresent(), region);
+            assertEquals(TimeUnit.MINUTES.toNanos(10), configuration.getExpireAfterWrite().getAsLong(), region);
+        }
+    }
+}
\ No newline at end of file
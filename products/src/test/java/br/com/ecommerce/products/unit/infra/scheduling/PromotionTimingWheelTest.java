@@ -0,0 +1,172 @@
+package br.com.ecommerce.products.unit.infra.scheduling;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import br.com.ecommerce.products.infra.scheduling.PromotionTimingWheel;
+
+class PromotionTimingWheelTest {
+
+    private PromotionTimingWheel wheel;
+    private LocalDateTime start;
+
+
+    @BeforeEach
+    void setup() {
+        this.start = LocalDateTime.now();
+        this.wheel = new PromotionTimingWheel(1000, 10);
+    }
+
+    @Test
+    @DisplayName("Unit - advance - Must return only the products whose promotion ended")
+    void advanceTest01() {
+        // arrange
+        wheel.schedule(1L, start.plusSeconds(3));
+        wheel.schedule(2L, start.plusSeconds(8));
+
+        // act
+        List<Long> first = wheel.advance(start.plusSeconds(5));
+        List<Long> second = wheel.advance(start.plusSeconds(10));
+
+        // assert
+        assertEquals(List.of(1L), first);
+        assertEquals(List.of(2L), second);
+        assertEquals(0, wheel.size());
+    }
+
+    @Test
+    @DisplayName("Unit - advance - Must cascade deadlines beyond the first level")
+    void advanceTest02() {
+        // arrange
+        wheel.schedule(1L, start.plusSeconds(25));
+        wheel.schedule(2L, start.plusMinutes(3));
+
+        // act
+        List<Long> beforeDeadlines = wheel.advance(start.plusSeconds(20));
+        List<Long> afterFirstDeadline = wheel.advance(start.plusSeconds(30));
+        List<Long> afterSecondDeadline = wheel.advance(start.plusMinutes(3).plusSeconds(5));
+
+        // assert
+        assertTrue(beforeDeadlines.isEmpty());
+        assertEquals(List.of(1L), afterFirstDeadline);
+        assertEquals(List.of(2L), afterSecondDeadline);
+    }
+
+    @Test
+    @DisplayName("Unit - advance - Must return past deadlines on the next advance")
+    void advanceTest03() {
+        // arrange
+        wheel.schedule(1L, start.minusMinutes(1));
+
+        // act
+        List<Long> result = wheel.advance(start);
+
+        // assert
+        assertEquals(List.of(1L), result);
+    }
+
+    @Test
+    @DisplayName("Unit - schedule - Must only fire the latest deadline of a rescheduled product")
+    void scheduleTest01() {
+        // arrange
+        wheel.schedule(1L, start.plusSeconds(3));
+        wheel.schedule(1L, start.plusSeconds(40));
+
+        // act
+        List<Long> first = wheel.advance(start.plusSeconds(5));
+        List<Long> second = wheel.advance(start.plusSeconds(45));
+
+        // assert
+        assertTrue(first.isEmpty());
+        assertEquals(List.of(1L), second);
+    }
+
+    @Test
+    @DisplayName("Unit - cancel - Must not fire a cancelled product")
+    void cancelTest01() {
+        // arrange
+        wheel.schedule(1L, start.plusSeconds(3));
+        wheel.schedule(2L, start.plusSeconds(3));
+
+        // act
+        wheel.cancel(1L);
+        List<Long> result = wheel.advance(start.plusSeconds(5));
+
+        // assert
+        assertEquals(Set.of(2L), Set.copyOf(result));
+    }
+
+    @Test
+    @DisplayName("Unit - scheduleAll - Must fire every product of a shared deadline once")
+    void scheduleAllTest01() {
+        // arrange
+        wheel.scheduleAll(List.of(1L, 2L, 3L), start.plusSeconds(3));
+        wheel.schedule(4L, start.plusSeconds(3));
+
+        // act
+        List<Long> result = wheel.advance(start.plusSeconds(5));
+
+        // assert
+        assertEquals(Set.of(1L, 2L, 3L, 4L), Set.copyOf(result));
+        assertEquals(4, result.size());
+        assertEquals(0, wheel.size());
+    }
+
+    @Test
+    @DisplayName("Unit - scheduleAll - Must move rescheduled products out of their previous group")
+    void scheduleAllTest02() {
+        // arrange
+        wheel.scheduleAll(List.of(1L, 2L), start.plusSeconds(3));
+        wheel.scheduleAll(List.of(1L, 2L), start.plusSeconds(40));
+
+        // act
+        List<Long> first = wheel.advance(start.plusSeconds(5));
+        List<Long> second = wheel.advance(start.plusSeconds(45));
+
+        // assert
+        assertTrue(first.isEmpty());
+        assertEquals(Set.of(1L, 2L), Set.copyOf(second));
+    }
+
+    @Test
+    @DisplayName("Unit - requeue - Must return requeued products on the next advance")
+    void requeueTest01() {
+        // arrange
+        wheel.scheduleAll(List.of(1L, 2L), start.plusSeconds(3));
+        List<Long> due = wheel.advance(start.plusSeconds(5));
+
+        // act
+        wheel.requeue(due, start.plusSeconds(5));
+        List<Long> result = wheel.advance(start.plusSeconds(6));
+
+        // assert
+        assertEquals(Set.of(1L, 2L), Set.copyOf(result));
+        assertEquals(0, wheel.size());
+    }
+
+    @Test
+    @DisplayName("Unit - requeue - Must keep the new deadline of a product scheduled again")
+    void requeueTest02() {
+        // arrange
+        wheel.scheduleAll(List.of(1L, 2L), start.plusSeconds(3));
+        List<Long> due = wheel.advance(start.plusSeconds(5));
+        wheel.schedule(1L, start.plusSeconds(40));
+
+        // act
+        wheel.requeue(due, start.plusSeconds(5));
+        List<Long> first = wheel.advance(start.plusSeconds(6));
+        List<Long> second = wheel.advance(start.plusSeconds(45));
+
+        // assert
+        assertEquals(List.of(2L), first);
+        assertEquals(List.of(1L), second);
+    }
+}
\ No newline at end of file
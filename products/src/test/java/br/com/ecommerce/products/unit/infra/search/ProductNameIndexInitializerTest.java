@@ -0,0 +1,111 @@
+package br.com.ecommerce.products.unit.infra.search;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import br.com.ecommerce.products.infra.repository.ProductChangeRepository;
+import br.com.ecommerce.products.infra.repository.ProductChangeSeq;
+import br.com.ecommerce.products.infra.repository.ProductName;
+import br.com.ecommerce.products.infra.repository.ProductRepository;
+import br.com.ecommerce.products.infra.search.ProductNameIndex;
+import br.com.ecommerce.products.infra.search.ProductNameIndexInitializer;
+import br.com.ecommerce.products.infra.search.ProductNameSuggester;
+
+@ExtendWith(MockitoExtension.class)
+class ProductNameIndexInitializerTest {
+
+    @Mock
+    private ProductRepository repository;
+    @Mock
+    private ProductChangeRepository changeRepository;
+
+    private ProductNameIndex index;
+    private ProductNameSuggester suggester;
+    private ProductNameIndexInitializer initializer;
+
+
+    @BeforeEach
+    void setup() {
+        index = new ProductNameIndex();
+        suggester = new ProductNameSuggester();
+        initializer = new ProductNameIndexInitializer(repository, changeRepository, index, suggester, 0);
+    }
+
+    @Test
+    @DisplayName("Unit - build - Must load every name and start answering queries")
+    void buildTest() {
+        // arrange
+        when(changeRepository.findLastSeq(any())).thenReturn(null);
+        when(repository.findAllNames()).thenReturn(List.of(name(1L, "Notebook"), name(2L, "Keyboard")));
+
+        // act
+        initializer.build();
+
+        // assert
+        assertTrue(index.supports("notebook"));
+        assertEquals(List.of(1L), index.search("notebook"));
+        assertEquals(2L, suggester.suggest("key", 10).get(0).getId());
+    }
+
+    @Test
+    @DisplayName("Unit - sync - Must reindex the products changed elsewhere and drop the missing ones")
+    void syncTest01() {
+        // arrange
+        when(changeRepository.findLastSeq(any())).thenReturn(10L);
+        when(repository.findAllNames()).thenReturn(List.of(name(1L, "Notebook"), name(2L, "Keyboard")));
+        initializer.build();
+
+        when(changeRepository.findAllLatestAfter(eq(10L), any(), any()))
+            .thenReturn(List.of(change(1L, 11L), change(2L, 12L), change(3L, 13L)));
+        when(repository.findAllNamesByIdIn(List.of(1L, 2L, 3L)))
+            .thenReturn(List.of(name(1L, "Gaming Notebook"), name(3L, "Monitor")));
+
+        // act
+        initializer.sync();
+
+        // assert
+        assertEquals(List.of(1L), index.search("gaming"));
+        assertEquals(List.of(), index.search("keyboard"));
+        assertEquals(List.of(3L), index.search("monitor"));
+        assertEquals(3L, suggester.suggest("mon", 10).get(0).getId());
+    }
+
+    @Test
+    @DisplayName("Unit - sync - Must do nothing before the index is built")
+    void syncTest02() {
+        // act
+        initializer.sync();
+
+        // assert
+        verifyNoInteractions(changeRepository, repository);
+        assertFalse(index.supports("notebook"));
+    }
+
+    private static ProductName name(Long id, String name) {
+        return new ProductName() {
+            public Long getId() { return id; }
+            public String getName() { return name; }
+        };
+    }
+
+    private static ProductChangeSeq change(Long productId, Long seq) {
+        return new ProductChangeSeq() {
+            public Long getProductId() { return productId; }
+            public Long getSeq() { return seq; }
+        };
+    }
+}
\ No newline at end of file
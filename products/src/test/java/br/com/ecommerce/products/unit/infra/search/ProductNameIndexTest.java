@@ -0,0 +1,79 @@
+package br.com.ecommerce.products.unit.infra.search;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import br.com.ecommerce.products.infra.search.ProductNameIndex;
+
+class ProductNameIndexTest {
+
+    private ProductNameIndex index;
+
+
+    @BeforeEach
+    void setup() {
+        index = new ProductNameIndex();
+        index.put(1L, "Gaming Notebook");
+        index.put(2L, "Notebook");
+        index.put(3L, "Notebook Stand");
+        index.put(4L, "Keyboard");
+        index.markBuilt();
+    }
+
+    @Test
+    @DisplayName("Unit - search - Must return only names containing the query, ignoring case")
+    void searchTest01() {
+        assertEquals(List.of(4L), index.search("YBOA"));
+        assertEquals(List.of(), index.search("bookstand"));
+    }
+
+    @Test
+    @DisplayName("Unit - search - Must rank exact matches, then prefixes, then other positions")
+    void searchTest02() {
+        assertEquals(List.of(2L, 3L, 1L), index.search("notebook"));
+    }
+
+    @Test
+    @DisplayName("Unit - search - Must ignore accents in names and queries")
+    void searchTest03() {
+        // arrange
+        index.put(5L, "Câmera Fotográfica");
+
+        // act & assert
+        assertEquals(List.of(5L), index.search("camera"));
+        assertEquals(List.of(5L), index.search("FOTOGRÁFICA"));
+        assertEquals(List.of(4L), index.search("kéybo"));
+    }
+
+    @Test
+    @DisplayName("Unit - put - Must reindex a renamed product")
+    void putTest() {
+        // act
+        index.put(4L, "Mouse");
+
+        // assert
+        assertEquals(List.of(), index.search("keyboard"));
+        assertEquals(List.of(4L), index.search("mouse"));
+    }
+
+    @Test
+    @DisplayName("Unit - supports - Must not support queries shorter than a trigram")
+    void supportsTest() {
+        assertFalse(index.supports("ab"));
+        assertFalse(index.supports(null));
+        assertTrue(index.supports("abc"));
+    }
+
+    @Test
+    @DisplayName("Unit - supports - Must not support any query before the index is built")
+    void supportsTest02() {
+        assertFalse(new ProductNameIndex().supports("notebook"));
+    }
+}
\ No newline at end of file
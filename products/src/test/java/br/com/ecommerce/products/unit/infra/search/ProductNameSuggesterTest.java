@@ -0,0 +1,79 @@
+package br.com.ecommerce.products.unit.infra.search;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import br.com.ecommerce.products.api.dto.product.ProductSuggestionDTO;
+import br.com.ecommerce.products.infra.search.ProductNameSuggester;
+
+class ProductNameSuggesterTest {
+
+    private ProductNameSuggester suggester;
+
+
+    @BeforeEach
+    void setup() {
+        suggester = new ProductNameSuggester();
+        suggester.put(1L, "Gaming Notebook");
+        suggester.put(2L, "Notebook");
+        suggester.put(3L, "Notebook Stand");
+        suggester.put(4L, "Keyboard");
+    }
+
+    @Test
+    @DisplayName("Unit - suggest - Must return names starting with the prefix first, ignoring case")
+    void suggestTest01() {
+        assertEquals(List.of(2L, 3L, 1L), ids(suggester.suggest("NOTE", 10)));
+        assertEquals(List.of(3L), ids(suggester.suggest("sta", 10)));
+        assertEquals(List.of(), ids(suggester.suggest("book", 10)));
+    }
+
+    @Test
+    @DisplayName("Unit - suggest - Must ignore accents in names and prefixes")
+    void suggestTest03() {
+        // arrange
+        suggester.put(5L, "Câmera Digital");
+
+        // act and assert
+        assertEquals(List.of(5L), ids(suggester.suggest("cam", 10)));
+        assertEquals(List.of(5L), ids(suggester.suggest("CÂM", 10)));
+    }
+
+    @Test
+    @DisplayName("Unit - suggest - Must return at most the limit of products")
+    void suggestTest02() {
+        assertEquals(List.of(2L, 3L), ids(suggester.suggest("notebook", 2)));
+        assertEquals(List.of(), suggester.suggest(" ", 10));
+    }
+
+    @Test
+    @DisplayName("Unit - put - Must reindex a renamed product")
+    void putTest() {
+        // act
+        suggester.put(4L, "Mouse");
+
+        // assert
+        assertEquals(List.of(), suggester.suggest("key", 10));
+        assertEquals("Mouse", suggester.suggest("mou", 10).get(0).getName());
+    }
+
+    @Test
+    @DisplayName("Unit - remove - Must not suggest a removed product")
+    void removeTest() {
+        // act
+        suggester.remove(2L);
+
+        // assert
+        assertEquals(List.of(3L, 1L), ids(suggester.suggest("notebook", 10)));
+        assertEquals(3, suggester.size());
+    }
+
+    private static List<Long> ids(List<ProductSuggestionDTO> suggestions) {
+        return suggestions.stream().map(ProductSuggestionDTO::getId).toList();
+    }
+}
\ No newline at end of file
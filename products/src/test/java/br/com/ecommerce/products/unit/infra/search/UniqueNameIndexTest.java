@@ -0,0 +1,117 @@
+package br.com.ecommerce.products.unit.infra.search;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import br.com.ecommerce.products.infra.entity.category.Category;
+import br.com.ecommerce.products.infra.entity.product.Product;
+import br.com.ecommerce.products.infra.search.UniqueNameIndex;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class UniqueNameIndexTest {
+
+    private SimpleMeterRegistry registry;
+    private UniqueNameIndex index;
+    private List<String> databaseLookups;
+    private Set<String> database;
+
+
+    @BeforeEach
+    void setup() {
+        this.registry = new SimpleMeterRegistry();
+        this.index = new UniqueNameIndex(registry, 0.01);
+        this.databaseLookups = new ArrayList<>();
+        this.database = Set.of("Notebook", "Smartphone");
+    }
+
+    private boolean existsInDatabase(String name) {
+        databaseLookups.add(name);
+        return database.contains(name);
+    }
+
+    @Test
+    @DisplayName("Unit - exists - Must query the database while the filter is not built")
+    void existsTest01() {
+        // act
+        boolean result = index.exists(Product.class, "Notebook", this::existsInDatabase);
+
+        // assert
+        assertTrue(result);
+        assertEquals(List.of("Notebook"), databaseLookups);
+    }
+
+    @Test
+    @DisplayName("Unit - exists - Must answer unknown names without querying the database")
+    void existsTest02() {
+        // arrange
+        index.rebuild(Product.class, database.size(), () -> database);
+
+        // act
+        boolean unknown = index.exists(Product.class, "Television", this::existsInDatabase);
+        boolean known = index.exists(Product.class, "Notebook", this::existsInDatabase);
+
+        // assert
+        assertFalse(unknown);
+        assertTrue(known);
+        assertEquals(List.of("Notebook"), databaseLookups);
+    }
+
+    @Test
+    @DisplayName("Unit - exists - Must query the database for names differing only in case or accents")
+    void existsTest03() {
+        // arrange
+        index.rebuild(Product.class, 1, () -> List.of("Câmera Digital"));
+
+        // act
+        index.exists(Product.class, "CAMERA DIGITAL ", this::existsInDatabase);
+
+        // assert
+        assertEquals(List.of("CAMERA DIGITAL "), databaseLookups);
+    }
+
+    @Test
+    @DisplayName("Unit - put - Must keep each entity type in its own filter")
+    void putTest01() {
+        // arrange
+        index.rebuild(Product.class, 0, List::of);
+        index.rebuild(Category.class, 0, List::of);
+
+        // act
+        index.put(Category.class, "Notebook");
+        boolean product = index.exists(Product.class, "Notebook", this::existsInDatabase);
+        boolean category = index.exists(Category.class, "Notebook", this::existsInDatabase);
+
+        // assert
+        assertFalse(product);
+        assertTrue(category);
+        assertEquals(List.of("Notebook"), databaseLookups);
+    }
+
+    @Test
+    @DisplayName("Unit - exists - Must publish the false positive rate per entity type")
+    void existsTest04() {
+        // arrange
+        index.rebuild(Product.class, 0, () -> List.of("Renamed product"));
+        IntStream.range(0, 99).forEach(i -> index.exists(Product.class, "unknown " + i, this::existsInDatabase));
+
+        // act
+        index.exists(Product.class, "Renamed product", this::existsInDatabase);
+
+        // assert
+        double rate = registry.get("names.unique.false-positive-rate").tag("entity", "product").gauge().value();
+        double falsePositives = registry.get("names.unique.lookups")
+            .tag("entity", "product").tag("result", "false_positive").counter().count();
+        assertEquals(falsePositives / 100, rate, 1e-9);
+        assertTrue(falsePositives >= 1);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,211 @@
+package br.com.ecommerce.products.unit.infra.stock;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import br.com.ecommerce.products.api.dto.product.ProductUnitsRequestedDTO;
+import br.com.ecommerce.products.infra.cache.ProductDetailCache;
+import br.com.ecommerce.products.infra.repository.ProductRepository;
+import br.com.ecommerce.products.infra.repository.ProductUnit;
+import br.com.ecommerce.products.infra.stock.StockWriteBehindBuffer;
+
+@ExtendWith(MockitoExtension.class)
+class StockWriteBehindBufferTest {
+
+    @Mock
+    private ProductRepository repository;
+    @Mock
+    private ProductDetailCache detailCache;
+    @TempDir
+    private Path journalDirectory;
+    private StockWriteBehindBuffer buffer;
+
+
+    @BeforeEach
+    void setup() throws Exception {
+        this.buffer = new StockWriteBehindBuffer(repository, detailCache, true, 1000, journalDirectory);
+        buffer.recover();
+    }
+
+    private ProductUnit unit(Long id, Integer unit) {
+        return new ProductUnit() {
+            public Long getId() { return id; }
+            public Integer getUnit() { return unit; }
+        };
+    }
+
+    @Test
+    @DisplayName("Unit - reserve - Must reject the lines exceeding the units left in memory")
+    void reserveTest01() {
+        // arrange
+        when(repository.findAllUnitsByIdIn(any())).thenReturn(List.of(unit(1L, 10), unit(2L, 1)));
+        var lines = List.of(
+            new ProductUnitsRequestedDTO(1L, 6),
+            new ProductUnitsRequestedDTO(2L, 2),
+            new ProductUnitsRequestedDTO(1L, 6),
+            new ProductUnitsRequestedDTO(3L, 1));
+
+        // act
+        var result = buffer.reserve(lines);
+
+        // assert
+        assertEquals(List.of(lines.get(1), lines.get(2), lines.get(3)), result);
+        assertEquals(List.of(1L), buffer.findExceeding(List.of(new ProductUnitsRequestedDTO(1L, 5))));
+    }
+
+    @Test
+    @DisplayName("Unit - flush - Must write the units reserved per product in one batch")
+    void flushTest01() {
+        // arrange
+        when(repository.findAllUnitsByIdIn(any())).thenReturn(List.of(unit(1L, 10), unit(2L, 10)));
+        buffer.reserve(List.of(new ProductUnitsRequestedDTO(1L, 2), new ProductUnitsRequestedDTO(2L, 3)));
+        buffer.reserve(List.of(new ProductUnitsRequestedDTO(1L, 4)));
+
+        // act
+        buffer.flush();
+        buffer.flush();
+
+        // assert
+        verify(repository).applyStockDeltas(eq(Map.of(1L, 6L, 2L, 3L)), anyList());
+        verify(repository, times(1)).applyStockDeltas(any(), any());
+    }
+
+    @Test
+    @DisplayName("Unit - recover - Must apply the reservations journaled but not flushed")
+    void recoverTest01() throws Exception {
+        // arrange
+        when(repository.findAllUnitsByIdIn(any())).thenReturn(List.of(unit(1L, 10)));
+        buffer.reserve(List.of(new ProductUnitsRequestedDTO(1L, 2)));
+        buffer.reserve(List.of(new ProductUnitsRequestedDTO(1L, 3)));
+
+        // act
+        var restarted = new StockWriteBehindBuffer(repository, detailCache, true, 1000, journalDirectory);
+        restarted.recover();
+        restarted.recover();
+
+        // assert
+        verify(repository, times(1)).applyStockDeltas(eq(Map.of(1L, 5L)), anyList());
+    }
+
+    @Test
+    @DisplayName("Unit - recover - Must not replay the reservations already flushed")
+    void recoverTest02() throws Exception {
+        // arrange
+        when(repository.findAllUnitsByIdIn(any())).thenReturn(List.of(unit(1L, 10)));
+        buffer.reserve(List.of(new ProductUnitsRequestedDTO(1L, 2)));
+        buffer.flush();
+
+        // act
+        var restarted = new StockWriteBehindBuffer(repository, detailCache, true, 1000, journalDirectory);
+        restarted.recover();
+
+        // assert
+        verify(repository, times(1)).applyStockDeltas(any(), any());
+    }
+
+    @Test
+    @DisplayName("Unit - recover - Must not replay the segments already applied to the database")
+    void recoverTest03() throws Exception {
+        // arrange
+        when(repository.findAllUnitsByIdIn(any())).thenReturn(List.of(unit(1L, 10)));
+        when(repository.findAppliedSegments(any()))
+            .thenAnswer(invocation -> Set.copyOf(invocation.<Collection<String>>getArgument(0)));
+        buffer.reserve(List.of(new ProductUnitsRequestedDTO(1L, 2)));
+
+        // act
+        var restarted = new StockWriteBehindBuffer(repository, detailCache, true, 1000, journalDirectory);
+        restarted.recover();
+
+        // assert
+        verify(repository, never()).applyStockDeltas(any(), any());
+        try (var files = Files.list(journalDirectory)) {
+            assertEquals(0, files.count());
+        }
+    }
+
+    @Test
+    @DisplayName("Unit - flush - Must reload the counters from the database minus the units still pending")
+    void flushTest02() {
+        // arrange
+        when(repository.findAllUnitsByIdIn(any()))
+            .thenReturn(List.of(unit(1L, 10)))
+            .thenReturn(List.of(unit(1L, 3)));
+        buffer.reserve(List.of(new ProductUnitsRequestedDTO(1L, 2)));
+
+        // act
+        buffer.flush();
+
+        // assert
+        assertEquals(List.of(1L), buffer.findExceeding(List.of(new ProductUnitsRequestedDTO(1L, 4))));
+        assertEquals(List.of(), buffer.findExceeding(List.of(new ProductUnitsRequestedDTO(1L, 3))));
+    }
+
+    @Test
+    @DisplayName("Unit - reserve - Must not accept more units than available when threads reserve together")
+    void reserveTest03() throws Exception {
+        // arrange
+        when(repository.findAllUnitsByIdIn(any())).thenReturn(List.of(unit(1L, 5000)));
+        var buffer = new StockWriteBehindBuffer(repository, detailCache, true, Integer.MAX_VALUE, journalDirectory);
+        buffer.recover();
+        var line = List.of(new ProductUnitsRequestedDTO(1L, 1));
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+
+        // act
+        List<Future<Integer>> accepted = new ArrayList<>();
+        for (int thread = 0; thread < 8; thread++) {
+            accepted.add(executor.submit(() -> {
+                int count = 0;
+                for (int i = 0; i < 1000; i++) if (buffer.reserve(line).isEmpty()) count++;
+                return count;
+            }));
+        }
+        int total = 0;
+        for (Future<Integer> future : accepted) total += future.get();
+        executor.shutdown();
+
+        // assert
+        assertEquals(5000, total);
+        assertEquals(List.of(1L), buffer.findExceeding(line));
+    }
+
+    @Test
+    @DisplayName("Unit - reserve - Must not touch the database when write-behind is disabled")
+    void reserveTest02() throws Exception {
+        // arrange
+        var disabled = new StockWriteBehindBuffer(repository, detailCache, false, 1000, journalDirectory);
+
+        // act
+        disabled.recover();
+        disabled.flush();
+
+        // assert
+        assertFalse(disabled.isEnabled());
+        verify(repository, never()).applyStockDeltas(any(), any());
+    }
+}
\ No newline at end of file